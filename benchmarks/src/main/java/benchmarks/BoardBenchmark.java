@@ -0,0 +1,103 @@
+package benchmarks;
+
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board construction, flood fill and {@link Game#checkGameStatus()} on square boards of side {@code size}.
+ * <p>
+ * Construction uses the HARD mine density; flood fill uses 1% mines so one click opens most of the board.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    @Param({"9", "16", "30", "100", "1000"})
+    public int size;
+
+    private BoardSpec denseSpec;
+    private Game game;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        double hardDensity = (double) Difficulty.HARD.getMines() / (Difficulty.HARD.getRows() * Difficulty.HARD.getCols());
+        denseSpec = BoardSpec.custom(Difficulty.HARD, size, size, Math.max(1, (int) (size * size * hardDensity)));
+        game = new Game(denseSpec, 1L);
+        game.setLogging(false);
+    }
+
+    /**
+     * A fresh sparse board for every flood fill, with a zero cell to click.
+     * Its own state so the per-invocation setup only runs for {@link #floodFill}; it is only
+     * noticeable next to the smallest boards' fills.
+     */
+    @State(Scope.Thread)
+    public static class FillState {
+        private BoardSpec sparseSpec;
+        private long seed;
+        Board board;
+        int row;
+        int col;
+
+        @Setup(Level.Trial)
+        public void setUp(BoardBenchmark outer) {
+            sparseSpec = BoardSpec.custom(Difficulty.HARD, outer.size, outer.size, Math.max(1, outer.size * outer.size / 100));
+        }
+
+        @Setup(Level.Invocation)
+        public void newBoard() {
+            Game fillGame = new Game(sparseSpec, ++seed);
+            fillGame.setLogging(false);
+            board = fillGame.getBoard1();
+            row = 0;
+            col = 0;
+            for (int k = 0; k < board.getRows() * board.getCols(); k++) {
+                if (board.getCell(k / board.getCols(), k % board.getCols()).getContent() == Cell.CellContent.EMPTY) {
+                    row = k / board.getCols();
+                    col = k % board.getCols();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Board construct() {
+        return new Board(denseSpec, game, new SplittableRandom(++seed), new SplittableRandom(seed));
+    }
+
+    @Benchmark
+    public int floodFill(FillState fill) {
+        fill.board.revealCell(fill.row, fill.col);
+        return fill.board.getRevealedCount();
+    }
+
+    @Benchmark
+    public Object checkGameStatus() {
+        game.checkGameStatus();
+        return game.getGameState();
+    }
+}
@@ -0,0 +1,97 @@
+package benchmarks;
+
+import Controller.GameController;
+import Model.GameHistoryEntry;
+import Model.GameHistoryManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a game history CSV of {@code rows} entries and filtering it for the Game History table,
+ * with no filter, with difficulty and result filters, and with a search term.
+ * <p>
+ * The CSV is kept in memory, so loading measures parsing, not the disk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class HistoryBenchmark {
+
+    private static final String[] NAMES = {"Dana", "Omer", "Noa", "Lior", "Yael", "Itay", "Maya", "Tom, Jr."};
+    private static final String[] DIFFICULTIES = {"EASY", "MEDIUM", "HARD"};
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int rows;
+
+    private List<GameHistoryEntry> entries;
+    private byte[] csv;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(1L);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        entries = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            int total = random.nextInt(10);
+            entries.add(new GameHistoryEntry(start.plusMinutes(17L * i),
+                    NAMES[random.nextInt(NAMES.length)], NAMES[random.nextInt(NAMES.length)],
+                    DIFFICULTIES[random.nextInt(DIFFICULTIES.length)], random.nextBoolean() ? "WON" : "LOST",
+                    random.nextInt(-50, 900), random.nextInt(11), random.nextInt(60, 1800),
+                    total, total == 0 ? 0 : random.nextInt(total + 1)));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            GameHistoryManager.writeCsv(bw, entries);
+        }
+        csv = out.toByteArray();
+    }
+
+    @Benchmark
+    public List<GameHistoryEntry> loadCsv() throws IOException {
+        return GameHistoryManager.readCsv(new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(csv), StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public List<GameController.GameHistoryRow> filterAll() {
+        return GameController.filterGameHistory(entries, "All", "All", "");
+    }
+
+    @Benchmark
+    public List<GameController.GameHistoryRow> filterDifficultyAndResult() {
+        return GameController.filterGameHistory(entries, "HARD", "WON", "");
+    }
+
+    @Benchmark
+    public List<GameController.GameHistoryRow> filterSearch() {
+        return GameController.filterGameHistory(entries, "All", "All", "noa");
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import Model.Question;
+import Model.QuestionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drawing an unused question from a pool of {@code questions}, and loading a questions CSV of that size.
+ * <p>
+ * The draw cycles through the whole pool (the manager starts over once every question was used),
+ * so the average covers a pool from full to empty.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class QuestionBenchmark {
+
+    private static final String[] LEVELS = {"EASY", "MEDIUM", "HARD", "EXPERT"};
+
+    @Param({"10", "100", "1000", "10000"})
+    public int questions;
+
+    private QuestionManager manager;
+    private SplittableRandom random;
+    private String csv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Question> pool = new ArrayList<>(questions);
+        StringBuilder sb = new StringBuilder("id,text,optionA,optionB,optionC,optionD,correctOption,difficultyLevel\n");
+        for (int id = 1; id <= questions; id++) {
+            Question q = new Question(id, "Question number " + id + ", about mines?",
+                    List.of("First " + id, "Second " + id, "Third " + id, "Fourth " + id),
+                    (char) ('A' + id % 4), LEVELS[id % LEVELS.length]);
+            pool.add(q);
+            sb.append(q.toCsvRow()).append('\n');
+        }
+        csv = sb.toString();
+
+        manager = QuestionManager.getInstance();
+        manager.setPersistenceEnabled(false);
+        manager.setQuestionsForTesting(pool);
+        random = new SplittableRandom(1L);
+    }
+
+    @Benchmark
+    public Question randomUnusedQuestion() {
+        return manager.getRandomUnusedQuestionAnyLevel(random);
+    }
+
+    @Benchmark
+    public List<Question> loadCsv() throws IOException {
+        return QuestionManager.readCsv(new BufferedReader(new StringReader(csv)));
+    }
+}
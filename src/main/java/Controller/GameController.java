@@ -1,13 +1,27 @@
 package Controller;
 
 import Model.*;
-
+import util.EventLog;
+import util.Latency;
+import util.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Controller class between the UI (View) and the Game model.
@@ -21,6 +35,35 @@ public class GameController {
     private Game currentGame;
     private QuestionManager questionManager;
     private final GameSubject gameSubject = new GameSubject();
+    private Move.Summary lastMoveSummary;
+
+    // Undo memory budget for new games; 0 = undo off
+    public static final long DEFAULT_UNDO_BUDGET_BYTES = 8L * 1024 * 1024;
+
+    // End-to-end latency of the UI entry points (see util.Latency)
+    private static final LatencyHistogram REVEAL_LATENCY = Latency.histogram("controller.reveal");
+    private static final LatencyHistogram CHORD_LATENCY = Latency.histogram("controller.chord");
+    private static final LatencyHistogram FLAG_LATENCY = Latency.histogram("controller.flag");
+    // includes the time a question dialog is open
+    private static final LatencyHistogram ACTIVATE_LATENCY = Latency.histogram("controller.activate");
+    private static final LatencyHistogram NOTIFY_LATENCY = Latency.histogram("controller.notify");
+
+    // Date column of the history table
+    private static final DateTimeFormatter HISTORY_DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yy HH:mm");
+
+    private long undoBudgetBytes;
+
+    // Saved game file; all file work runs on one background thread, in order
+    private Path savePath = Paths.get(System.getProperty("user.home"), ".scorpion-minesweeper", "save", "game.sav");
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "game-autosave");
+        t.setDaemon(true);
+        return t;
+    });
+    // Latest autosave not yet written; older ones are skipped
+    private final AtomicReference<byte[]> pendingSave = new AtomicReference<>();
+    // Deletes submitted to the save thread and not yet done; the file is treated as gone meanwhile
+    private final AtomicInteger pendingDeletes = new AtomicInteger();
 
     // Private constructor – prevents external instantiation
 
@@ -40,10 +83,26 @@ public class GameController {
      * This is the main entry point for starting a cooperative game.
      */
     public void startNewGame(Difficulty difficulty) {
+        startNewGame(BoardSpec.of(difficulty));
+    }
+
+    /**
+     * Creates a new Game instance from a board spec (preset or custom size).
+     */
+    public void startNewGame(BoardSpec spec) {
+        startNewGame(spec, GameRandom.newSeed());
+    }
+
+    /**
+     * Creates a new Game instance whose randomness is reproducible from the given seed.
+     */
+    public void startNewGame(BoardSpec spec, long seed) {
         ensureQuestionManager();
         questionManager.resetForNewGame();
-        currentGame = new Game(difficulty);
+        currentGame = new Game(spec, seed);
         currentGame.setQuestionManager(questionManager);
+        currentGame.setChangeTracking(true);
+        if (undoBudgetBytes > 0) currentGame.enableUndo(undoBudgetBytes);
         // Presenter is set by the View layer via registerQuestionPresenter
         notifyStateChange();
     }
@@ -73,6 +132,190 @@ public class GameController {
         }
     }
 
+    // ======================================================
+    //  UNDO / REDO
+    // ======================================================
+
+    /**
+     * Turns undo on (e.g. for practice games) with the given memory budget, or off with 0.
+     * Applies to the current game and to every game started afterwards.
+     */
+    public void setUndoMemoryBudget(long bytes) {
+        undoBudgetBytes = Math.max(bytes, 0);
+        if (currentGame == null) return;
+        if (undoBudgetBytes > 0) {
+            currentGame.enableUndo(undoBudgetBytes);
+        } else {
+            currentGame.disableUndo();
+        }
+    }
+
+    public boolean isUndoEnabled() {
+        return currentGame != null && currentGame.isUndoEnabled();
+    }
+
+    public boolean canUndo() {
+        return currentGame != null && currentGame.canUndo();
+    }
+
+    public boolean canRedo() {
+        return currentGame != null && currentGame.canRedo();
+    }
+
+    /**
+     * Takes back the last move (cells, score, lives and turn) and refreshes the view.
+     */
+    public boolean undo() {
+        if (currentGame == null || !currentGame.undo()) return false;
+        lastMoveSummary = null;
+        notifyStateChange();
+        return true;
+    }
+
+    /**
+     * Re-applies the last undone move and refreshes the view.
+     */
+    public boolean redo() {
+        if (currentGame == null || !currentGame.redo()) return false;
+        lastMoveSummary = null;
+        notifyStateChange();
+        return true;
+    }
+
+    // ======================================================
+    //  SAVE / RESUME
+    // ======================================================
+
+    /**
+     * What the View needs to rebuild the screen of a resumed game.
+     */
+    public static class ResumedGameDTO {
+        public final String player1Name;
+        public final String player2Name;
+        public final long elapsedMillis;
+
+        public ResumedGameDTO(String player1Name, String player2Name, long elapsedMillis) {
+            this.player1Name = player1Name;
+            this.player2Name = player2Name;
+            this.elapsedMillis = elapsedMillis;
+        }
+    }
+
+    public void setSavePath(Path savePath) {
+        this.savePath = savePath;
+    }
+
+    public boolean hasSavedGame() {
+        return pendingSave.get() != null || (pendingDeletes.get() == 0 && Files.isRegularFile(savePath));
+    }
+
+    /**
+     * Saves the running game and waits until it is on disk (e.g. when the window closes).
+     *
+     * @return false if there is no running game or the file could not be written
+     */
+    public boolean saveGame(long elapsedMillis, String player1Name, String player2Name) {
+        byte[] bytes = encodeCurrentGame(elapsedMillis, player1Name, player2Name);
+        if (bytes == null) return false;
+        pendingSave.set(null);
+        return runSaveTask(() -> {
+            GameSave.write(savePath, bytes);
+            return null;
+        });
+    }
+
+    /**
+     * Saves the running game in the background. The game is encoded on the calling thread (it takes
+     * microseconds); only the file write is deferred. If several autosaves queue up, only the last is written.
+     */
+    public void autosave(long elapsedMillis, String player1Name, String player2Name) {
+        byte[] bytes = encodeCurrentGame(elapsedMillis, player1Name, player2Name);
+        if (bytes == null) return;
+        if (pendingSave.getAndSet(bytes) != null) return; // a queued write will pick these bytes up
+        saveExecutor.execute(() -> {
+            byte[] latest = pendingSave.getAndSet(null);
+            if (latest == null) return;
+            try {
+                GameSave.write(savePath, latest);
+            } catch (IOException e) {
+                EventLog.log(EventLog.Level.WARN, "save.autosaveFailed", String.valueOf(e.getMessage()));
+            }
+        });
+    }
+
+    /**
+     * Loads the saved game and makes it the current game.
+     *
+     * @return the saved player names and elapsed time, or null if there is no usable save
+     */
+    public ResumedGameDTO resumeSavedGame() {
+        if (!hasSavedGame()) return null;
+        GameSave.Loaded loaded;
+        try {
+            loaded = GameSave.read(savePath);
+        } catch (IOException | IllegalArgumentException e) {
+            EventLog.log(EventLog.Level.WARN, "save.loadFailed", String.valueOf(e.getMessage()));
+            return null;
+        }
+        ensureQuestionManager();
+        questionManager.restoreUsedQuestionIds(loaded.usedQuestionIds);
+        currentGame = loaded.game;
+        currentGame.setQuestionManager(questionManager);
+        currentGame.setChangeTracking(true);
+        if (undoBudgetBytes > 0) currentGame.enableUndo(undoBudgetBytes);
+        lastMoveSummary = null;
+        notifyStateChange();
+        return new ResumedGameDTO(loaded.player1Name, loaded.player2Name, loaded.elapsedMillis);
+    }
+
+    /**
+     * Removes the saved game (after it ended or the players left it), including any queued autosave.
+     * Called on the EDT, so it only queues the delete behind pending writes and returns.
+     */
+    public void deleteSavedGame() {
+        pendingSave.set(null);
+        pendingDeletes.incrementAndGet();
+        Path path = savePath;
+        saveExecutor.execute(() -> {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                EventLog.log(EventLog.Level.WARN, "save.deleteFailed", String.valueOf(e.getMessage()));
+            } finally {
+                pendingDeletes.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Waits until queued autosaves and deletes are done (when the app exits).
+     */
+    public void finishSaveTasks() {
+        runSaveTask(() -> null);
+    }
+
+    private byte[] encodeCurrentGame(long elapsedMillis, String player1Name, String player2Name) {
+        if (currentGame == null || currentGame.getGameState() != GameState.RUNNING) return null;
+        ensureQuestionManager();
+        return GameSave.encode(currentGame, questionManager.getUsedQuestionIds(),
+                elapsedMillis, player1Name, player2Name);
+    }
+
+    // Runs file work after any queued autosave and waits for it (only the save on window close)
+    private boolean runSaveTask(Callable<?> task) {
+        Future<?> done = saveExecutor.submit(task);
+        try {
+            done.get();
+            return true;
+        } catch (ExecutionException e) {
+            EventLog.log(EventLog.Level.WARN, "save.failed", String.valueOf(e.getCause().getMessage()));
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     /**
      * Returns the current Game instance.
      */
@@ -143,8 +386,8 @@ public class GameController {
     }
 
     public String getDifficultyName() {
-        if (currentGame == null || currentGame.getDifficulty() == null) return "";
-        return currentGame.getDifficulty().name();
+        if (currentGame == null || currentGame.getSpec() == null) return "";
+        return currentGame.getSpec().getName();
     }
 
     public int getSharedLives() {
@@ -156,8 +399,8 @@ public class GameController {
     }
 
     public int getStartingLives() {
-        if (currentGame == null || currentGame.getDifficulty() == null) return 0;
-        return currentGame.getDifficulty().getStartingLives();
+        if (currentGame == null || currentGame.getSpec() == null) return 0;
+        return currentGame.getSpec().getStartingLives();
     }
 
     public int getMaxLives() {
@@ -208,37 +451,100 @@ public class GameController {
         Board b = getBoard(boardNumber);
         if (b == null) return 0;
 
-        int total = b.getTotalMines();
-        int foundMines = 0;
+        // Board keeps the found-mine counter up to date on every reveal/flag
+        int remaining = b.getTotalMines() - b.getMinesFound();
+        return Math.max(remaining, 0);
+    }
 
-        for (int r = 0; r < b.getRows(); r++) {
-            for (int c = 0; c < b.getCols(); c++) {
-                Cell cell = b.getCell(r, c);
-                if (cell == null) continue;
+    /**
+     * Used by the UI to reveal a cell following MVC (View -> Controller -> Model).
+     * This delegates to Board.revealCell, which contains the game logic.
+     */
+    public boolean revealCellUI(int boardNumber, int row, int col) {
+        long start = Latency.start();
+        try {
+            if (currentGame == null || !isGameRunning()) return false;
 
-                if (cell.isMine() && (cell.isRevealed() || cell.isFlagged())) {
-                    foundMines++;
-                }
+            Board board = getBoard(boardNumber);
+            if (board == null) return false;
+            if (row < 0 || row >= board.getRows() || col < 0 || col >= board.getCols()) return true;
+
+            Move move = currentGame.beginMove();
+            try {
+                move.reveal(board, row, col);
+            } finally {
+                commitMove(move, true);
             }
+            return true;
+        } finally {
+            Latency.stop(REVEAL_LATENCY, start);
         }
+    }
 
-        int remaining = total - foundMines;
-        return Math.max(remaining, 0);
+    /**
+     * Used by the UI when a revealed number is clicked: chords it as one move
+     * (all reveals and cascades, one status check, one notification).
+     *
+     * @return true if the chord revealed anything
+     */
+    public boolean chordUI(int boardNumber, int row, int col) {
+        long start = Latency.start();
+        try {
+            if (currentGame == null || !isGameRunning()) return false;
+
+            Board board = getBoard(boardNumber);
+            if (board == null) return false;
+            if (row < 0 || row >= board.getRows() || col < 0 || col >= board.getCols()) return false;
+
+            Move move = currentGame.beginMove();
+            boolean ok = false;
+            try {
+                ok = move.chord(board, row, col);
+            } finally {
+                commitMove(move, ok);
+            }
+            return ok;
+        } finally {
+            Latency.stop(CHORD_LATENCY, start);
+        }
     }
 
     /**
-     * Used by the UI to reveal a cell following MVC (View -> Controller -> Model).
-     * This delegates to Board.revealCell, which contains the game logic.
+     * Cells of one board changed since the view last asked (View-safe copy of a {@link ChangeSet}).
      */
-    public boolean revealCellUI(int boardNumber, int row, int col) {
-        if (currentGame == null || !isGameRunning()) return false;
+    public static class CellChangesDTO {
+        public final int[] rows;
+        public final int[] cols;
+        public final boolean[] newlyRevealed;
+
+        public CellChangesDTO(int[] rows, int[] cols, boolean[] newlyRevealed) {
+            this.rows = rows;
+            this.cols = cols;
+            this.newlyRevealed = newlyRevealed;
+        }
 
+        public int size() {
+            return rows.length;
+        }
+    }
+
+    /**
+     * Hands the view the cells of a board that changed since its last update,
+     * so it can redraw only those.
+     */
+    public CellChangesDTO takeCellChanges(int boardNumber) {
         Board board = getBoard(boardNumber);
-        if (board == null) return false;
-        if (row < 0 || row >= board.getRows() || col < 0 || col >= board.getCols()) return true;
-        board.revealCell(row, col);
-        notifyStateChange();
-        return true;
+        ChangeSet changes = (board == null) ? ChangeSet.EMPTY : board.takeChanges();
+        int n = changes.size();
+        int[] rows = new int[n];
+        int[] cols = new int[n];
+        boolean[] newlyRevealed = new boolean[n];
+        for (int k = 0; k < n; k++) {
+            rows[k] = changes.row(k);
+            cols[k] = changes.col(k);
+            newlyRevealed[k] = changes.isNewlyRevealed(k);
+        }
+        return new CellChangesDTO(rows, cols, newlyRevealed);
     }
 
     /**
@@ -246,16 +552,26 @@ public class GameController {
      * This delegates to Board.toggleFlag, which contains the game logic and scoring.
      */
     public boolean toggleFlagUI(int boardNumber, int row, int col) {
-        if (currentGame == null || !isGameRunning()) return false;
+        long start = Latency.start();
+        try {
+            if (currentGame == null || !isGameRunning()) return false;
 
-        Board board = getBoard(boardNumber);
-        if (board == null) return false;
+            Board board = getBoard(boardNumber);
+            if (board == null) return false;
 
-        if (row < 0 || row >= board.getRows() || col < 0 || col >= board.getCols()) return false;
+            if (row < 0 || row >= board.getRows() || col < 0 || col >= board.getCols()) return false;
 
-        boolean ok = board.toggleFlag(row, col);
-        notifyStateChange();
-        return ok;
+            Move move = currentGame.beginMove();
+            boolean ok = false;
+            try {
+                ok = move.flag(board, row, col);
+            } finally {
+                commitMove(move, true);
+            }
+            return ok;
+        } finally {
+            Latency.stop(FLAG_LATENCY, start);
+        }
     }
 
 
@@ -345,14 +661,42 @@ public class GameController {
      */
 
     public boolean activateSpecialCellUI(int boardNumber, int row, int col) {
-        if (currentGame == null || !isGameRunning()) return false;
-        Board board = getBoard(boardNumber);
-        if (board == null) return false;
-        boolean result = board.activateSpecialCell(row, col);
-        if (result) {
+        long start = Latency.start();
+        try {
+            if (currentGame == null || !isGameRunning()) return false;
+            Board board = getBoard(boardNumber);
+            if (board == null) return false;
+
+            Move move = currentGame.beginMove();
+            boolean result = false;
+            try {
+                result = move.activate(board, row, col);
+            } finally {
+                commitMove(move, result);
+            }
+            return result;
+        } finally {
+            Latency.stop(ACTIVATE_LATENCY, start);
+        }
+    }
+
+    /**
+     * Commits a move (one status evaluation) and publishes the new state once.
+     */
+    private Move.Summary commitMove(Move move, boolean publish) {
+        Move.Summary summary = move.commit();
+        lastMoveSummary = summary;
+        if (publish) {
             notifyStateChange();
         }
-        return result;
+        return summary;
+    }
+
+    /**
+     * Returns what the last committed move changed (score/lives deltas, cells revealed), or null.
+     */
+    public Move.Summary getLastMoveSummary() {
+        return lastMoveSummary;
     }
 
     public boolean isQuestionOrSurprise(int boardNumber, int row, int col) {
@@ -469,15 +813,25 @@ public class GameController {
     public List<GameHistoryRow> getGameHistory(String difficultyFilter,
                                                String resultFilter,
                                                String searchTerm) {
+        return filterGameHistory(GameHistoryManager.getInstance().getEntries(),
+                difficultyFilter, resultFilter, searchTerm);
+    }
+
+    /**
+     * Filters and formats history entries for the Game History table.
+     * Static and independent of the history file so it can be benchmarked on any data volume.
+     */
+    public static List<GameHistoryRow> filterGameHistory(List<GameHistoryEntry> entries,
+                                                         String difficultyFilter,
+                                                         String resultFilter,
+                                                         String searchTerm) {
         String diff = (difficultyFilter == null) ? "All" : difficultyFilter;
         String res = (resultFilter == null) ? "All" : resultFilter;
         String search = (searchTerm == null) ? "" : searchTerm.trim().toLowerCase();
 
-        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("dd/MM/yy HH:mm");
-
         List<GameHistoryRow> rows = new ArrayList<>();
 
-        for (GameHistoryEntry e : GameHistoryManager.getInstance().getEntries()) {
+        for (GameHistoryEntry e : entries) {
 
             if (!"All".equalsIgnoreCase(diff) &&
                     !e.getDifficulty().equalsIgnoreCase(diff)) {
@@ -498,7 +852,7 @@ public class GameController {
                 String playersCombinedLower = playersCombined.toLowerCase();
 
                 String dateLower = (e.getTimestamp() != null)
-                        ? e.getTimestamp().format(fmt).toLowerCase()
+                        ? e.getTimestamp().format(HISTORY_DATE_FORMAT).toLowerCase()
                         : "";
 
                 String diffLower = (e.getDifficulty() == null) ? "" : e.getDifficulty().toLowerCase();
@@ -528,7 +882,7 @@ public class GameController {
 
             rows.add(new GameHistoryRow(
                     playersCombined,
-                    e.getTimestamp().format(fmt),
+                    e.getTimestamp().format(HISTORY_DATE_FORMAT),
                     e.getDifficulty(),
                     e.getResult(),
                     e.getFinalScore(),
@@ -658,10 +1012,11 @@ public class GameController {
 
     /**
      * Ends the current game session and clears the model state.
-     * Called when player exits to Main Menu.
+     * Called when player exits to Main Menu; the saved copy of the game is removed too.
      */
     public void endGame() {
         currentGame = null;
+        deleteSavedGame();
     }
 
     // ======================================================
@@ -692,10 +1047,12 @@ public class GameController {
      */
     private void notifyStateChange() {
         if (currentGame != null) {
+            long start = Latency.start();
             int score = currentGame.getSharedScore();
             String level = getDifficultyName();
             GameStateData state = new GameStateData(score, level);
             gameSubject.notifyObservers(state);
+            Latency.stop(NOTIFY_LATENCY, start);
         }
     }
 // ===== UI DTOs (View-safe, no Model exposure) =====
@@ -1,6 +1,15 @@
 package Model;
 
-import java.util.Random;
+import util.EventLog;
+import util.Latency;
+import util.LatencyHistogram;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a single board for one player.
@@ -8,170 +17,344 @@ import java.util.Random;
  */
 public class Board {
 
+    // Time spent in flood fills (see util.Latency)
+    private static final LatencyHistogram CASCADE_LATENCY = Latency.histogram("model.cascade");
+
     private final int rows;
     private final int cols;
     private final int totalMines;
     private final int totalQuestionCells;
     private final int totalSurpriseCells;
-    private final Cell[][] cells;
+    private final CellStore store;
     private final Game game;
     private int flagsPlaced = 0;
 
+    // Deferred generation: mines are placed on the first reveal unless the mode is STANDARD
+    private final GenerationMode generationMode;
+    private final long generationBudgetMillis;
+    private boolean generated;
+    private boolean noGuessVerified;
+    // NO_GUESS attempt counts read back from a journal, used instead of the budget
+    private final Deque<Integer> replayAttempts = new ArrayDeque<>();
+
+    // Observers of individual cell state changes (solvers, views)
+    private final List<CellChangeListener> cellListeners = new ArrayList<>();
+    // Changes collected for the view; null while change tracking is off
+    private ChangeSet.Recorder changes;
+
+    // Independent random streams: one for the layout, one for reward effects
+    private final RandomGenerator layoutRandom;
+    private final RandomGenerator rewardRandom;
+    // Side of the area reveal reward's window (clamped to the board when used)
+    private final int rewardWindow;
+
+    // Flood-fill engine, created on the first cascade
+    private CascadeReveal cascade;
 
-    // Counter to track how many safe cells are left to reveal
-    private int safeCellsRemaining;
     /**
      * Initializes a board according to the given difficulty and parent Game.
      * Places mines, question cells, surprise cells, and computes number cells.
      */
     public Board(Difficulty difficulty, Game game) {
-        this.game = game;
-        this.rows = difficulty.getRows();
-        this.cols = difficulty.getCols();
-        this.totalMines = difficulty.getMines();
-        this.totalQuestionCells = difficulty.getQuestionCells();
-        this.totalSurpriseCells = difficulty.getSurpriseCells();
-        this.cells = new Cell[rows][cols];
-
-        // Total safe cells = all cells minus mines
-        this.safeCellsRemaining = (rows * cols) - totalMines;
-
-        // Initialize cells
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                cells[r][c] = new Cell(r, c);
-            }
-        }
-
-        // Place logic
-        placeMinesAndSpecialCells();
+        this(BoardSpec.of(difficulty), game);
     }
+
     /**
-     * Places mines, question cells and surprise cells, then calculates number cells.
+     * Initializes a board according to the given spec and parent Game, with unseeded randomness.
      */
-    private void placeMinesAndSpecialCells() {
-        placeContent(totalMines, Cell.CellContent.MINE);
+    public Board(BoardSpec spec, Game game) {
+        this(spec, game, new SplittableRandom(), new SplittableRandom());
+    }
 
-        calculateNumbers();
+    /**
+     * Initializes a board according to the given spec and parent Game.
+     *
+     * @param layoutRandom stream used to place mines and special cells
+     * @param rewardRandom stream used by the random reveal rewards
+     */
+    public Board(BoardSpec spec, Game game, RandomGenerator layoutRandom, RandomGenerator rewardRandom) {
+        this(spec, game, layoutRandom, rewardRandom, true);
+    }
 
-        placeSpecialOnlyOnTrueEmpty(totalQuestionCells, Cell.CellContent.QUESTION);
-        placeSpecialOnlyOnTrueEmpty(totalSurpriseCells, Cell.CellContent.SURPRISE);
+    /**
+     * @param placeLayout false to leave the board empty for {@link #readCells}
+     */
+    Board(BoardSpec spec, Game game, RandomGenerator layoutRandom, RandomGenerator rewardRandom, boolean placeLayout) {
+        this.game = game;
+        this.layoutRandom = layoutRandom;
+        this.rewardRandom = rewardRandom;
+        this.rows = spec.getRows();
+        this.cols = spec.getCols();
+        this.totalMines = spec.getMines();
+        this.totalQuestionCells = spec.getQuestionCells();
+        this.totalSurpriseCells = spec.getSurpriseCells();
+        // All cells start EMPTY and HIDDEN in the packed store.
+        // The store keeps the mine / safe-cell counters itself.
+        this.store = new CellStore(rows, cols);
+        this.generationMode = spec.getGenerationMode();
+        this.generationBudgetMillis = spec.getGenerationBudgetMillis();
+        this.rewardWindow = spec.getRewardWindow();
+
+        // Place logic (deferred modes wait for the first reveal)
+        if (placeLayout && generationMode == GenerationMode.STANDARD) {
+            placeMinesAndSpecialCells(new int[0]);
+            generated = true;
+        }
     }
 
     /**
-     * Randomly assigns a given content type to EMPTY cells until count is reached.
+     * Generates the layout for a deferred mode around the first revealed cell.
+     * The 3x3 area around it stays free of mines (only the cell itself if the area
+     * leaves too few cells for the mines). NO_GUESS retries until {@link NoGuessCheck}
+     * clears the board from this cell, or keeps the last layout when the budget runs out.
+     * The number of attempts depends on the clock, so it is journaled; a replay makes exactly
+     * that many (see {@link #replayLayoutAttempts}).
      */
-    private void placeContent(int count, Cell.CellContent type) {
-        Random random = new Random();
-        int placed = 0;
-        while (placed < count) {
-            int r = random.nextInt(rows);
-            int c = random.nextInt(cols);
-            if (cells[r][c].getContent() == Cell.CellContent.EMPTY) {
-                cells[r][c].setContent(type);
-                placed++;
+    private void generateAround(int r, int c) {
+        int[] safeZone = safeZone(r, c);
+        int start = store.index(r, c);
+        long deadline = System.nanoTime() + generationBudgetMillis * 1_000_000L;
+
+        placeMinesAndSpecialCells(safeZone);
+        if (generationMode == GenerationMode.NO_GUESS) {
+            int attempts = 1;
+            Integer replayed = replayAttempts.poll();
+            if (replayed != null) {
+                // every attempt draws from the layout stream, so the same count gives the same board
+                for (; attempts < replayed; attempts++) {
+                    store.clearLayout();
+                    placeMinesAndSpecialCells(safeZone);
+                }
+                noGuessVerified = NoGuessCheck.solvable(store, start);
+            } else {
+                noGuessVerified = NoGuessCheck.solvable(store, start);
+                while (!noGuessVerified && System.nanoTime() < deadline) {
+                    store.clearLayout();
+                    placeMinesAndSpecialCells(safeZone);
+                    noGuessVerified = NoGuessCheck.solvable(store, start);
+                    attempts++;
+                }
             }
+            int boardNumber = game.getBoardNumber(this);
+            if (boardNumber != 0) game.getJournal().recordLayout(boardNumber, attempts);
         }
+        generated = true;
     }
+
     /**
-     * Converts suitable EMPTY cells to NUMBER cells based on adjacent mines.
+     * Makes the next NO_GUESS generation use exactly {@code attempts} layouts instead of
+     * its time budget; calls queue up in order. Used when replaying a journal.
      */
-    private void calculateNumbers() {
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c].isMine()) continue;
+    void replayLayoutAttempts(int attempts) {
+        replayAttempts.add(attempts);
+    }
 
-                int mines = countNeighborMines(r, c);
-                cells[r][c].setAdjacentMines(mines);
+    /**
+     * Dense (row-major) indices of the cells kept free of mines for a first click, in ascending order.
+     */
+    private int[] safeZone(int r, int c) {
+        int r0 = Math.max(r - 1, 0), r1 = Math.min(r + 1, rows - 1);
+        int c0 = Math.max(c - 1, 0), c1 = Math.min(c + 1, cols - 1);
+        int size = (r1 - r0 + 1) * (c1 - c0 + 1);
+        if (rows * cols - size < totalMines) {
+            return new int[]{r * cols + c};
+        }
 
-                if (mines > 0) {
-                    cells[r][c].setContent(Cell.CellContent.NUMBER);
-                } else {
-                    // נשאר EMPTY (על זה מותר לשים Q/S)
-                    cells[r][c].setContent(Cell.CellContent.EMPTY);
-                }
+        int[] zone = new int[size];
+        int k = 0;
+        for (int zr = r0; zr <= r1; zr++) {
+            for (int zc = c0; zc <= c1; zc++) {
+                zone[k++] = zr * cols + zc;
             }
         }
+        return zone;
     }
 
-    private void placeSpecialOnlyOnTrueEmpty(int count, Cell.CellContent type) {
-        java.util.List<Cell> eligible = new java.util.ArrayList<>();
+    /**
+     * Places mines, question cells and surprise cells, then calculates number cells.
+     *
+     * @param excluded dense indices (ascending) that must not receive a mine
+     */
+    private void placeMinesAndSpecialCells(int[] excluded) {
+        placeMines(totalMines, excluded, layoutRandom);
 
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                Cell cell = cells[r][c];
+        int trueEmpty = calculateNumbers();
 
-                if (cell.getContent() == Cell.CellContent.EMPTY && cell.getAdjacentMines() == 0) {
-                    eligible.add(cell);
-                }
-            }
+        int questions = placeSpecialOnlyOnTrueEmpty(totalQuestionCells, Cell.CellContent.QUESTION, trueEmpty, layoutRandom);
+        placeSpecialOnlyOnTrueEmpty(totalSurpriseCells, Cell.CellContent.SURPRISE, trueEmpty - questions, layoutRandom);
+    }
+
+    /**
+     * Places exactly {@code count} mines on distinct cells of a fresh (all EMPTY) board,
+     * chosen uniformly at random among the non-excluded cells, in O(count) time with no retries.
+     * <p>
+     * This is a partial Fisher–Yates shuffle over cell indices in its sparse form
+     * (Floyd's sampling): step j draws t in [0, j]; if t was already taken, j is taken instead.
+     * The content bits themselves mark taken cells, so no permutation array is needed.
+     * Excluded cells are moved out of the sampled range [0, m) by swapping each one that falls
+     * inside it with an eligible cell at m or above.
+     */
+    private void placeMines(int count, int[] excluded, RandomGenerator random) {
+        int m = store.size() - excluded.length;
+
+        int[] swapFrom = new int[excluded.length];
+        int[] swapTo = new int[excluded.length];
+        int swaps = 0;
+        int next = m;
+        for (int e : excluded) {
+            if (e >= m) continue;
+            while (contains(excluded, next)) next++;
+            swapFrom[swaps] = e;
+            swapTo[swaps++] = next++;
         }
 
-        java.util.Collections.shuffle(eligible, new java.util.Random());
+        for (int j = m - count; j < m; j++) {
+            int cell = store.cellAt(remap(random.nextInt(j + 1), swapFrom, swapTo, swaps));
+            if (store.isMine(cell)) cell = store.cellAt(remap(j, swapFrom, swapTo, swaps));
+            store.setContent(cell, Cell.CellContent.MINE);
+        }
+    }
 
-        int toPlace = Math.min(count, eligible.size());
-        for (int i = 0; i < toPlace; i++) {
-            eligible.get(i).setContent(type);
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) return true;
         }
+        return false;
     }
 
+    private static int remap(int k, int[] from, int[] to, int count) {
+        for (int x = 0; x < count; x++) {
+            if (from[x] == k) return to[x];
+        }
+        return k;
+    }
+    /**
+     * Converts suitable EMPTY cells to NUMBER cells based on adjacent mines.
+     * The counts for the whole board come from one sliding-sum pass ({@link NeighborCounts}).
+     *
+     * @return number of "true empty" cells (EMPTY with 0 adjacent mines)
+     */
+    private int calculateNumbers() {
+        byte[] adjacent = NeighborCounts.compute(store);
+        int trueEmpty = 0;
+        for (int i = 0; i < adjacent.length; i++) {
+            if (store.isMine(i) || store.isBorder(i)) continue;
+
+            int mines = adjacent[i];
+            if (mines > 0) {
+                store.setAdjacent(i, mines);
+                store.setContent(i, Cell.CellContent.NUMBER);
+            } else {
+                // נשאר EMPTY (על זה מותר לשים Q/S)
+                trueEmpty++;
+            }
+        }
+        return trueEmpty;
+    }
 
     /**
-     * Counts how many neighboring cells (8-directional) contain mines.
+     * Places up to {@code count} cells of the given type on uniformly chosen "true empty" cells.
+     * Uses selection sampling in a single pass: each eligible cell is taken with probability
+     * (still needed / eligible cells left), so no list of candidates is built or shuffled.
+     *
+     * @param eligible number of true-empty cells currently on the board
+     * @return number of cells placed
      */
-    private int countNeighborMines(int r, int c) {
-        int count = 0;
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                if (i == 0 && j == 0) continue;
-                int nr = r + i;
-                int nc = c + j;
-                if (isValid(nr, nc) && cells[nr][nc].isMine()) {
-                    count++;
-                }
+    private int placeSpecialOnlyOnTrueEmpty(int count, Cell.CellContent type, int eligible, RandomGenerator random) {
+        int toPlace = Math.min(count, eligible);
+        int placed = 0;
+
+        for (int i = 0; i < store.length() && placed < toPlace; i++) {
+            if (store.isBorder(i) || store.content(i) != Cell.CellContent.EMPTY || store.adjacent(i) != 0) continue;
+
+            if (random.nextInt(eligible) < toPlace - placed) {
+                store.setContent(i, type);
+                placed++;
             }
+            eligible--;
         }
-        return count;
+        return placed;
     }
 
+
     /**
      * Reveals a cell, applies scoring and lives logic, and checks game status.
+     * EMPTY/QUESTION/SURPRISE cells cascade to their neighbors in one pass;
+     * the score for the whole region is applied once.
      */
     public void revealCell(int r, int c) {
         if (!isValid(r, c)) return;
-        Cell cell = cells[r][c];
+        int i = store.index(r, c);
 
         // Block action if cell is already processed OR game is not running
-        if (cell.isRevealed() || cell.isFlagged() || game.getGameState() != GameState.RUNNING) return;
+        if (store.isRevealed(i) || store.isFlagged(i) || game.getGameState() != GameState.RUNNING) return;
+
+        if (!generated) generateAround(r, c);
 
-        cell.reveal();
+        int safeRevealed = revealOne(i);
 
-        // 1. Scoring and Safe Cell Tracking
-        if (!cell.isMine()) {
-            safeCellsRemaining--;
-            game.setSharedScore(game.getSharedScore() + 1);
+        // Scoring (+1 per safe cell revealed)
+        if (safeRevealed > 0) {
+            game.addScore(safeRevealed);
         }
 
-        // 2. Content Handling
-        switch (cell.getContent()) {
-            case MINE:
-                game.setSharedLives(game.getSharedLives() - 1);
-                break;
+        // After every move, check if we Won or Lost
+        game.checkGameStatus();
+    }
 
-            case EMPTY:
-                autoRevealEmptyCells(r, c);
-                break;
+    /**
+     * Chording: if (r, c) is a revealed number with exactly that many flags around it,
+     * reveals every other hidden neighbor (with cascades). Mines hit cost a life each;
+     * the score for all revealed cells is added once and the status is checked once.
+     *
+     * @return true if any neighbor was revealed
+     */
+    public boolean chord(int r, int c) {
+        if (!isValid(r, c) || game.getGameState() != GameState.RUNNING) return false;
+        int i = store.index(r, c);
+        if (!store.isRevealed(i) || store.content(i) != Cell.CellContent.NUMBER) return false;
+
+        int[] neighbors = store.neighborOffsets();
+        int flags = 0;
+        for (int offset : neighbors) {
+            if (store.isFlagged(i + offset)) flags++;
+        }
+        if (flags != store.adjacent(i)) return false;
+
+        int safeRevealed = 0;
+        boolean any = false;
+        for (int offset : neighbors) {
+            int n = i + offset;
+            // border sentinels are REVEALED, so they are skipped here
+            if (store.isRevealed(n) || store.isFlagged(n)) continue;
+            safeRevealed += revealOne(n);
+            any = true;
+        }
+        if (!any) return false;
+
+        if (safeRevealed > 0) game.addScore(safeRevealed);
+        game.checkGameStatus();
+        return true;
+    }
 
+    /**
+     * Reveals one hidden cell and its cascade; a mine costs a life. No score or status check.
+     *
+     * @return number of safe cells revealed
+     */
+    private int revealOne(int i) {
+        store.setState(i, Cell.CellState.REVEALED);
+        switch (store.content(i)) {
+            case MINE:
+                game.deductLife(1);
+                return 0;
+            case EMPTY:
             case QUESTION:
             case SURPRISE:
-                autoRevealEmptyCells(r, c);
-                break;
-            case NUMBER:
-                break;
+                return 1 + autoRevealEmptyCells(i);
+            default:
+                return 1;
         }
-
-        // After every move, check if we Won or Lost
-        game.checkGameStatus();
     }
 
     /**
@@ -183,19 +366,20 @@ public class Board {
     public boolean activateSpecialCell(int r, int c) {
         if (!isValid(r, c)) return false;
 
-        Cell cell = cells[r][c];
+        int i = store.index(r, c);
 
-        if (!cell.isRevealed()) return false;
+        if (!store.isRevealed(i)) return false;
 
-        if (cell.getContent() != Cell.CellContent.QUESTION &&
-                cell.getContent() != Cell.CellContent.SURPRISE) return false;
+        Cell.CellContent content = store.content(i);
+        if (content != Cell.CellContent.QUESTION &&
+                content != Cell.CellContent.SURPRISE) return false;
 
-        if (cell.isUsed()) return false;
+        if (store.isUsed(i)) return false;
 
         //  only mark used if activation actually succeeded
-        boolean activated = game.activateSpecialCell(this, cell.getContent());
+        boolean activated = game.activateSpecialCell(this, content);
         if (activated) {
-            cell.setUsed(true);
+            store.setUsed(i, true);
         }
         return activated;
     }
@@ -205,22 +389,16 @@ public class Board {
 
 
     /**
-     * Recursively reveals neighbors around an EMPTY cell (flood-fill behavior).
+     * Reveals the region around an EMPTY cell (flood-fill behavior).
+     *
+     * @return number of additional safe cells revealed
      */
-    private void autoRevealEmptyCells ( int r, int c){
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                int nr = r + i;
-                int nc = c + j;
-                if (isValid(nr, nc)) {
-                    Cell neighbor = cells[nr][nc];
-                    if (!neighbor.isRevealed() && !neighbor.isFlagged() && !neighbor.isMine()) {
-                        // Recursion flows back through revealCell to update state, score, and safeCellsRemaining
-                        revealCell(nr, nc);
-                    }
-                }
-            }
-        }
+    private int autoRevealEmptyCells(int start) {
+        if (cascade == null) cascade = new CascadeReveal(store);
+        long t = game.startTiming();
+        int revealed = cascade.revealFrom(start);
+        Latency.stop(CASCADE_LATENCY, t);
+        return revealed;
     }
 
     /**
@@ -229,11 +407,13 @@ public class Board {
      * This method must be VOID or return only if the action was successful for the Controller's logic to work.
      */
     public boolean toggleFlag(int r, int c) {
-        if (!isValid(r, c) || cells[r][c].isRevealed() || game.getGameState() != GameState.RUNNING) return false;
+        if (!isValid(r, c) || store.isRevealed(store.index(r, c)) || game.getGameState() != GameState.RUNNING) return false;
+        // nothing to flag before a deferred layout exists
+        if (!generated) return false;
 
-        Cell cell = cells[r][c];
+        int i = store.index(r, c);
 
-        boolean wasFlagged = cell.isFlagged();
+        boolean wasFlagged = store.isFlagged(i);
 
         // If trying to PLACE a new flag, enforce max flags = number of mines
         if (!wasFlagged && flagsPlaced >= totalMines) {
@@ -245,18 +425,17 @@ public class Board {
             return false;
         }
 
-        boolean stateChanged = cell.toggleFlag();
-        if (!stateChanged) return false;
+        store.setState(i, wasFlagged ? Cell.CellState.HIDDEN : Cell.CellState.FLAGGED);
 
         if (!wasFlagged) {
             // placed a flag
             flagsPlaced++;
 
             // scoring ONLY when placing a flag
-            if (cell.isMine()) {
-                game.setSharedScore(game.getSharedScore() + game.getDifficulty().getMineFlagReward()); // +1
+            if (store.isMine(i)) {
+                game.adjustScore(game.getSpec().getMineFlagReward()); // +1
             } else {
-                game.setSharedScore(game.getSharedScore() + game.getDifficulty().getNonMineFlagPenalty()); // -3
+                game.adjustScore(game.getSpec().getNonMineFlagPenalty()); // -3
             }
         } else {
             // removed a flag
@@ -272,48 +451,39 @@ public class Board {
 
     /**
      * Reveals a single random mine cell without affecting score (reward type).
+     * The pick comes from the store's hidden mine index, so it is O(1) and never misses
+     * while any mine is still hidden.
      */
     public void revealRandomMine() {
-        Random rand = new Random();
-        int attempts = rows * cols * 2; // Limit attempts to prevent infinite loop
-
-        while (attempts > 0) {
-            int r = rand.nextInt(rows);
-            int c = rand.nextInt(cols);
-            Cell cell = cells[r][c];
-
-            if (cell.isMine() && !cell.isRevealed() && !cell.isFlagged()) {
-                cell.reveal();
-                System.out.println("Reward: A mine at (" + r + "," + c + ") was safely revealed.");
-                // The footnote states no score for automatic mine reveal.
-                return;
-            }
-            attempts--;
+        int hidden = store.hiddenMineCount();
+        if (hidden == 0) {
+            if (game.logging(EventLog.Level.INFO)) EventLog.log(EventLog.Level.INFO, "reward.noHiddenMine");
+            return;
+        }
+        int i = store.hiddenMineAt(rewardRandom.nextInt(hidden));
+        store.setState(i, Cell.CellState.REVEALED);
+        if (game.logging(EventLog.Level.INFO)) {
+            EventLog.log(EventLog.Level.INFO, "reward.mineRevealed", "row", store.rowOf(i), "col", store.colOf(i));
         }
-        System.out.println("Reward: Could not find an unrevealed mine to show.");
+        // The footnote states no score for automatic mine reveal.
     }
 
+    /**
+     * Reveals the area reward's window (3x3 unless the spec sets another size) where it uncovers
+     * the most hidden safe cells, picking at random among equally good windows.
+     * On boards smaller than the window the window is clamped to the board.
+     */
     public void revealRandom3x3AreaReward() {
-        Random rand = new Random();
-        int r0 = rand.nextInt(rows - 2);
-        int c0 = rand.nextInt(cols - 2);
-
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                int r = r0 + i;
-                int c = c0 + j;
-                Cell cell = cells[r][c];
-
-                // don't touch already processed cells
-                if (cell.isRevealed() || cell.isFlagged()) continue;
-
-                //  reveal visually only (no score/lives side effects)
-                cell.reveal();
-
-                //  if it's NOT a mine, count it as progress like a normal reveal
-                if (!cell.isMine()) {
-                    safeCellsRemaining--;
-                }
+        RewardWindows windows = store.rewardWindows(rewardWindow);
+        if (windows.bestCount() == 0) return; // no hidden safe cell left anywhere
+
+        int w = windows.pickBest(rewardRandom);
+        int r0 = windows.windowRow(w);
+        int c0 = windows.windowCol(w);
+        for (int r = r0; r < r0 + windows.height(); r++) {
+            int i = store.index(r, c0);
+            for (int end = i + windows.width(); i < end; i++) {
+                revealForReward(i);
             }
         }
 
@@ -321,7 +491,14 @@ public class Board {
         game.checkGameStatus();
     }
 
+    private void revealForReward(int idx) {
+        // don't touch already processed cells
+        if (store.isRevealed(idx) || store.isFlagged(idx)) return;
 
+        //  reveal visually only (no score/lives side effects);
+        //  the store counts revealed safe cells as progress
+        store.setState(idx, Cell.CellState.REVEALED);
+    }
 
     /**
      * Returns true if (r,c) is inside the board boundaries.
@@ -334,21 +511,18 @@ public class Board {
      */
     public boolean isSolved() {
         // A board is solved when all non-mine cells have been revealed.
-        // This state is tracked by the safeCellsRemaining counter.
-        return safeCellsRemaining == 0;
+        // This state is tracked by the store's hidden-safe counter.
+        return store.hiddenSafeCount() == 0;
     }
     /**
      * Reveals all cells without changing score or lives (used at game end).
      */
     public void revealAll() {
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                Cell cell = cells[r][c];
-                // Only set to REVEALED if it hasn't been revealed yet.
-                if (cell.getState() != Cell.CellState.REVEALED) {
-                    cell.setState(Cell.CellState.REVEALED);
-                    // Intentionally avoids calling revealCell() to skip side effects.
-                }
+        // Single linear pass over the packed store (border sentinels are already REVEALED).
+        // Intentionally avoids calling revealCell() to skip side effects.
+        for (int i = 0; i < store.length(); i++) {
+            if (!store.isRevealed(i)) {
+                store.setState(i, Cell.CellState.REVEALED);
             }
         }
     }
@@ -358,31 +532,53 @@ public class Board {
      */
     public boolean isFlagged(int r, int c) {
         if (r < 0 || r >= rows || c < 0 || c >= cols) return false;
-        // Assuming 'cells' is the array of Cell objects
-        return cells[r][c].isFlagged();
+        return store.isFlagged(store.index(r, c));
     }
 
     /**
      * Checks if all mines on the board have been found (revealed or flagged).
+     * O(1): reads the counter maintained by the store on every cell change.
      * @return true if all mines are found, false otherwise.
      */
     public boolean areAllMinesFound() {
-        int foundMines = 0;
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                Cell cell = cells[r][c];
-                if (cell.isMine() && (cell.isRevealed() || cell.isFlagged())) {
-                    foundMines++;
-                }
-            }
-        }
-        return foundMines == totalMines;
+        return store.foundMineCount() == totalMines;
     }
 
     // --- Getters ---
 
+    /**
+     * Number of non-mine cells that are not revealed yet.
+     */
     public int getSafeCellsRemaining () {
-        return safeCellsRemaining;
+        return store.hiddenSafeCount();
+    }
+
+    /**
+     * Number of mines that are revealed or flagged.
+     */
+    public int getMinesFound() {
+        return store.foundMineCount();
+    }
+
+    /**
+     * Mines that are neither revealed nor flagged.
+     */
+    public int getHiddenMineCount() {
+        return store.hiddenMineCount();
+    }
+
+    /**
+     * Number of mines that are currently flagged.
+     */
+    public int getFlaggedMines() {
+        return store.flaggedMineCount();
+    }
+
+    /**
+     * Number of cells (of any content) that are revealed.
+     */
+    public int getRevealedCount() {
+        return store.revealedCount();
     }
 
     public int getRows () {
@@ -400,13 +596,175 @@ public class Board {
     public int getTotalSurpriseCells () {
         return totalSurpriseCells;
     }
+    /**
+     * Returns a grid of Cell views over the packed store.
+     * Views are created on demand; writes through them update the board.
+     */
     public Cell[][] getCells () {
-        return cells;
+        Cell[][] grid = new Cell[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                grid[r][c] = new Cell(store, store.index(r, c), r, c);
+            }
+        }
+        return grid;
     }
+    /**
+     * Returns a lightweight view of the cell at (row,col), or null if out of bounds.
+     */
     public Cell getCell ( int row, int col){
-        if (isValid(row, col)) return cells[row][col];
+        if (isValid(row, col)) return new Cell(store, store.index(row, col), row, col);
         return null;
     }
+    /**
+     * Registers a listener that is told about every cell whose state changes
+     * (revealed, flagged, unflagged), including cells opened by a cascade.
+     */
+    public void addCellChangeListener(CellChangeListener listener) {
+        if (listener == null || cellListeners.contains(listener)) return;
+        cellListeners.add(listener);
+        updateStateListener();
+    }
+
+    public void removeCellChangeListener(CellChangeListener listener) {
+        cellListeners.remove(listener);
+        updateStateListener();
+    }
+
+    /**
+     * Turns collecting a {@link ChangeSet} on or off. Off by default, so headless games
+     * pay nothing for it.
+     */
+    public void setChangeTracking(boolean enabled) {
+        if (enabled == (changes != null)) return;
+        changes = enabled ? new ChangeSet.Recorder(rows, cols) : null;
+        updateStateListener();
+    }
+
+    public boolean isChangeTracking() {
+        return changes != null;
+    }
+
+    /**
+     * Returns the cells changed since the last call (empty when tracking is off).
+     */
+    public ChangeSet takeChanges() {
+        return changes == null ? ChangeSet.EMPTY : changes.take();
+    }
+
+    // the store only calls back while someone listens
+    private void updateStateListener() {
+        store.setStateListener(cellListeners.isEmpty() && changes == null ? null : this::fireCellChanged);
+    }
+
+    private void fireCellChanged(int index, int oldState, int newState) {
+        int r = store.rowOf(index);
+        int c = store.colOf(index);
+        if (changes != null) changes.record(r, c, oldState, newState);
+        for (int k = 0; k < cellListeners.size(); k++) {
+            cellListeners.get(k).cellChanged(this, r, c);
+        }
+    }
+
+    // --- Saved games ---
+
+    /**
+     * Writes the layout and progress of this board (see {@link CellStore#writeLayout}).
+     */
+    void writeCells(ByteCodec.Writer out) {
+        out.u8((generated ? 1 : 0) | (noGuessVerified ? 2 : 0));
+        store.writeLayout(out);
+    }
+
+    /**
+     * Reads what {@link #writeCells} wrote into this (empty) board.
+     */
+    void readCells(ByteCodec.Reader in) {
+        int flags = in.u8();
+        generated = (flags & 1) != 0;
+        noGuessVerified = (flags & 2) != 0;
+        flagsPlaced = store.readLayout(in);
+    }
+
+    // --- Undo steps ---
+
+    /**
+     * What a board looked like when a step began: the old contents of the cell chunks
+     * written since (copied on first write), and the board's own counters.
+     */
+    static final class UndoStep {
+        private final CellStore.Delta cells;
+        private final int flagsPlaced;
+        private final boolean generated;
+        private final boolean noGuessVerified;
+
+        private UndoStep(CellStore.Delta cells, int flagsPlaced, boolean generated, boolean noGuessVerified) {
+            this.cells = cells;
+            this.flagsPlaced = flagsPlaced;
+            this.generated = generated;
+            this.noGuessVerified = noGuessVerified;
+        }
+
+        long bytes() {
+            return 32 + cells.bytes();
+        }
+
+        boolean changed(Board board) {
+            return !cells.isEmpty() || flagsPlaced != board.flagsPlaced || generated != board.generated;
+        }
+    }
+
+    /**
+     * Starts recording a step: chunks are saved on their first write from now on.
+     */
+    UndoStep beginUndoStep() {
+        return new UndoStep(store.beginDelta(), flagsPlaced, generated, noGuessVerified);
+    }
+
+    /**
+     * Returns the board to where the step began and returns the inverse step (for redo).
+     * Cell listeners hear about every cell whose state changes.
+     */
+    UndoStep applyUndoStep(UndoStep step) {
+        int flags = flagsPlaced;
+        boolean wasGenerated = generated;
+        boolean wasVerified = noGuessVerified;
+        flagsPlaced = step.flagsPlaced;
+        generated = step.generated;
+        noGuessVerified = step.noGuessVerified;
+        return new UndoStep(store.apply(step.cells), flags, wasGenerated, wasVerified);
+    }
+
+    /**
+     * Stops recording the step; later writes are not saved in it.
+     */
+    void endUndoStep(UndoStep step) {
+        store.endDelta(step.cells);
+    }
+
+    void stopUndoSteps() {
+        store.stopDeltas();
+    }
+
+    public GenerationMode getGenerationMode() {
+        return generationMode;
+    }
+
+    /**
+     * Returns true once mines are placed (immediately for STANDARD, after the first reveal otherwise).
+     */
+    public boolean isGenerated() {
+        return generated;
+    }
+
+    /**
+     * Returns true if a NO_GUESS layout was verified solvable from the first click
+     * (false for other modes, or when the time budget ran out).
+     */
+    public boolean isNoGuessVerified() {
+        return noGuessVerified;
+    }
+
     public int getFlagsPlaced() {
         return flagsPlaced;
     }
@@ -0,0 +1,232 @@
+package Model;
+
+/**
+ * Immutable description of a game's boards and rule values.
+ * The Difficulty constants are presets ({@link #of(Difficulty)}); custom specs
+ * ({@link #custom(Difficulty, int, int, int)}) allow any size up to {@link #MAX_DIMENSION}.
+ * <p>
+ * {@code rules} is the preset whose question scoring table and special effects apply.
+ * The {@link GenerationMode} (STANDARD unless set with {@link #withGenerationMode}) decides
+ * when and how mines are placed. The area reveal reward uses a square window of
+ * {@link #getRewardWindow()} cells a side (3 unless set with {@link #withRewardWindow}).
+ */
+public final class BoardSpec {
+
+    // Largest supported side length
+    public static final int MAX_DIMENSION = 4096;
+    public static final int MIN_DIMENSION = 2;
+
+    // Highest allowed share of mines among all cells
+    public static final double MAX_MINE_DENSITY = 0.85;
+
+    // Default time allowed for NO_GUESS retries on the first click
+    public static final long DEFAULT_GENERATION_BUDGET_MILLIS = 1500;
+
+    // Side of the area reveal reward's window; boards smaller than it get a clamped window
+    public static final int DEFAULT_REWARD_WINDOW = 3;
+    public static final int MAX_REWARD_WINDOW = 15;
+
+    private final String name;
+    private final Difficulty rules;
+    private final int rows;
+    private final int cols;
+    private final int mines;
+    private final int questionCells;
+    private final int surpriseCells;
+    private final int startingLives;
+    private final int activationCost;
+    private final int surpriseValue;
+    private final int mineFlagReward;
+    private final int nonMineFlagPenalty;
+    private final GenerationMode generationMode;
+    private final long generationBudgetMillis;
+    private final int rewardWindow;
+
+    /**
+     * Creates and validates a spec with STANDARD generation.
+     *
+     * @throws IllegalArgumentException if sizes, densities or values are out of range
+     */
+    public BoardSpec(String name, Difficulty rules,
+                     int rows, int cols, int mines, int questionCells, int surpriseCells,
+                     int startingLives, int activationCost, int surpriseValue,
+                     int mineFlagReward, int nonMineFlagPenalty) {
+        this(name, rules, rows, cols, mines, questionCells, surpriseCells,
+                startingLives, activationCost, surpriseValue, mineFlagReward, nonMineFlagPenalty,
+                GenerationMode.STANDARD, DEFAULT_GENERATION_BUDGET_MILLIS, DEFAULT_REWARD_WINDOW);
+    }
+
+    private BoardSpec(String name, Difficulty rules,
+                      int rows, int cols, int mines, int questionCells, int surpriseCells,
+                      int startingLives, int activationCost, int surpriseValue,
+                      int mineFlagReward, int nonMineFlagPenalty,
+                      GenerationMode generationMode, long generationBudgetMillis, int rewardWindow) {
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("Spec name is required");
+        if (rules == null) throw new IllegalArgumentException("Rules preset is required");
+        if (rows < MIN_DIMENSION || cols < MIN_DIMENSION || rows > MAX_DIMENSION || cols > MAX_DIMENSION) {
+            throw new IllegalArgumentException("Board must be between " + MIN_DIMENSION + "x" + MIN_DIMENSION
+                    + " and " + MAX_DIMENSION + "x" + MAX_DIMENSION + ", got " + rows + "x" + cols);
+        }
+        int cells = rows * cols;
+        if (mines < 1 || mines >= cells) {
+            throw new IllegalArgumentException("Mines must be between 1 and " + (cells - 1) + ", got " + mines);
+        }
+        if (mines > cells * MAX_MINE_DENSITY) {
+            throw new IllegalArgumentException("Mine density " + (mines * 100 / cells) + "% exceeds "
+                    + (int) (MAX_MINE_DENSITY * 100) + "%");
+        }
+        if (questionCells < 0 || surpriseCells < 0 || questionCells + surpriseCells > cells - mines) {
+            throw new IllegalArgumentException("Special cells must fit in the " + (cells - mines) + " safe cells");
+        }
+        if (startingLives < 1) throw new IllegalArgumentException("Starting lives must be at least 1");
+        if (activationCost < 0 || surpriseValue < 0) {
+            throw new IllegalArgumentException("Activation cost and surprise value must not be negative");
+        }
+        if (generationMode == null) throw new IllegalArgumentException("Generation mode is required");
+        if (generationBudgetMillis < 0) throw new IllegalArgumentException("Generation budget must not be negative");
+        if (rewardWindow < 1 || rewardWindow > MAX_REWARD_WINDOW) {
+            throw new IllegalArgumentException("Reward window must be between 1 and " + MAX_REWARD_WINDOW + ", got " + rewardWindow);
+        }
+
+        this.name = name;
+        this.rules = rules;
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+        this.questionCells = questionCells;
+        this.surpriseCells = surpriseCells;
+        this.startingLives = startingLives;
+        this.activationCost = activationCost;
+        this.surpriseValue = surpriseValue;
+        this.mineFlagReward = mineFlagReward;
+        this.nonMineFlagPenalty = nonMineFlagPenalty;
+        this.generationMode = generationMode;
+        this.generationBudgetMillis = generationBudgetMillis;
+        this.rewardWindow = rewardWindow;
+    }
+
+    /**
+     * Spec for one of the built-in presets.
+     */
+    public static BoardSpec of(Difficulty d) {
+        return new BoardSpec(d.name(), d,
+                d.getRows(), d.getCols(), d.getMines(), d.getQuestionCells(), d.getSurpriseCells(),
+                d.getStartingLives(), d.getActivationCost(), d.getSurpriseValue(),
+                d.getMineFlagReward(), d.getNonMineFlagPenalty());
+    }
+
+    /**
+     * Custom board size and mine count using a preset's rule values.
+     * Question and surprise cells are scaled with the board area.
+     */
+    public static BoardSpec custom(Difficulty rules, int rows, int cols, int mines) {
+        long presetCells = (long) rules.getRows() * rules.getCols();
+        long cells = (long) rows * cols;
+        int questions = (int) Math.max(1, rules.getQuestionCells() * cells / presetCells);
+        int surprises = (int) Math.max(1, rules.getSurpriseCells() * cells / presetCells);
+        return new BoardSpec("CUSTOM", rules,
+                rows, cols, mines, questions, surprises,
+                rules.getStartingLives(), rules.getActivationCost(), rules.getSurpriseValue(),
+                rules.getMineFlagReward(), rules.getNonMineFlagPenalty());
+    }
+
+    /**
+     * Same spec with another generation mode and the default time budget.
+     */
+    public BoardSpec withGenerationMode(GenerationMode mode) {
+        return withGenerationMode(mode, DEFAULT_GENERATION_BUDGET_MILLIS);
+    }
+
+    /**
+     * Same spec with another generation mode.
+     *
+     * @param budgetMillis time NO_GUESS may spend retrying layouts; when it runs out,
+     *                     the last (first-click safe) layout is kept
+     */
+    public BoardSpec withGenerationMode(GenerationMode mode, long budgetMillis) {
+        return new BoardSpec(name, rules, rows, cols, mines, questionCells, surpriseCells,
+                startingLives, activationCost, surpriseValue, mineFlagReward, nonMineFlagPenalty,
+                mode, budgetMillis, rewardWindow);
+    }
+
+    /**
+     * Same spec with another area reveal reward window side (1 to {@link #MAX_REWARD_WINDOW}).
+     */
+    public BoardSpec withRewardWindow(int size) {
+        return new BoardSpec(name, rules, rows, cols, mines, questionCells, surpriseCells,
+                startingLives, activationCost, surpriseValue, mineFlagReward, nonMineFlagPenalty,
+                generationMode, generationBudgetMillis, size);
+    }
+
+    // --- Getters ---
+
+    public String getName() {
+        return name;
+    }
+
+    public Difficulty getRules() {
+        return rules;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getCellCount() {
+        return rows * cols;
+    }
+
+    public int getMines() {
+        return mines;
+    }
+
+    public int getQuestionCells() {
+        return questionCells;
+    }
+
+    public int getSurpriseCells() {
+        return surpriseCells;
+    }
+
+    public int getStartingLives() {
+        return startingLives;
+    }
+
+    public int getActivationCost() {
+        return activationCost;
+    }
+
+    public int getSurpriseValue() {
+        return surpriseValue;
+    }
+
+    public int getMineFlagReward() {
+        return mineFlagReward;
+    }
+
+    public int getNonMineFlagPenalty() {
+        return nonMineFlagPenalty;
+    }
+
+    public GenerationMode getGenerationMode() {
+        return generationMode;
+    }
+
+    public long getGenerationBudgetMillis() {
+        return generationBudgetMillis;
+    }
+
+    public int getRewardWindow() {
+        return rewardWindow;
+    }
+
+    @Override
+    public String toString() {
+        String text = name + " " + rows + "x" + cols + " (" + mines + " mines)";
+        return generationMode == GenerationMode.STANDARD ? text : text + " " + generationMode;
+    }
+}
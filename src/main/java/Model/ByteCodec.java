@@ -0,0 +1,183 @@
+package Model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Small binary encoding helpers shared by the move journal and saved games:
+ * bytes, unsigned varints (7 bits per byte), zigzag for signed values, fixed 32/64-bit ints,
+ * UTF-8 strings and the full {@link BoardSpec}.
+ */
+final class ByteCodec {
+
+    private ByteCodec() {
+    }
+
+    static int zigzag(int v) {
+        return (v << 1) ^ (v >> 31);
+    }
+
+    static int unzigzag(int v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    /**
+     * Growable output buffer.
+     */
+    static final class Writer {
+        private byte[] data;
+        private int length;
+
+        Writer(int capacity) {
+            this.data = new byte[Math.max(capacity, 16)];
+        }
+
+        /**
+         * Continues writing after existing content.
+         */
+        Writer(byte[] content) {
+            this.data = content.length == 0 ? new byte[16] : content;
+            this.length = content.length;
+        }
+
+        int length() {
+            return length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(data, length);
+        }
+
+        /**
+         * The internal buffer; only the first {@link #length()} bytes are content.
+         */
+        byte[] buffer() {
+            return data;
+        }
+
+        void u8(int b) {
+            if (length == data.length) data = Arrays.copyOf(data, data.length * 2);
+            data[length++] = (byte) b;
+        }
+
+        void bytes(byte[] b, int from, int count) {
+            if (length + count > data.length) data = Arrays.copyOf(data, Math.max(data.length * 2, length + count));
+            System.arraycopy(b, from, data, length, count);
+            length += count;
+        }
+
+        void varint(int v) {
+            while ((v & ~0x7F) != 0) {
+                u8((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            u8(v);
+        }
+
+        void int32(int v) {
+            for (int shift = 24; shift >= 0; shift -= 8) u8(v >>> shift);
+        }
+
+        void int64(long v) {
+            int32((int) (v >>> 32));
+            int32((int) v);
+        }
+
+        void string(String s) {
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            varint(b.length);
+            bytes(b, 0, b.length);
+        }
+
+        void spec(BoardSpec spec) {
+            string(spec.getName());
+            u8(spec.getRules().ordinal());
+            varint(spec.getRows());
+            varint(spec.getCols());
+            varint(spec.getMines());
+            varint(spec.getQuestionCells());
+            varint(spec.getSurpriseCells());
+            varint(spec.getStartingLives());
+            varint(spec.getActivationCost());
+            varint(spec.getSurpriseValue());
+            varint(zigzag(spec.getMineFlagReward()));
+            varint(zigzag(spec.getNonMineFlagPenalty()));
+            u8(spec.getGenerationMode().ordinal());
+            varint((int) Math.min(spec.getGenerationBudgetMillis(), Integer.MAX_VALUE));
+            varint(spec.getRewardWindow());
+        }
+    }
+
+    /**
+     * Reads what a {@link Writer} wrote.
+     * Running past the end throws {@link ArrayIndexOutOfBoundsException}; callers report it as corrupt data.
+     */
+    static final class Reader {
+        private final byte[] data;
+        private final int end;
+        private int pos;
+
+        Reader(byte[] data, int pos, int end) {
+            this.data = data;
+            this.pos = pos;
+            this.end = end;
+        }
+
+        int position() {
+            return pos;
+        }
+
+        boolean hasMore() {
+            return pos < end;
+        }
+
+        int u8() {
+            if (pos >= end) throw new ArrayIndexOutOfBoundsException("End of data at byte " + pos);
+            return data[pos++] & 0xFF;
+        }
+
+        byte[] bytes(int count) {
+            if (count < 0 || pos + count > end) throw new ArrayIndexOutOfBoundsException("End of data at byte " + pos);
+            byte[] b = Arrays.copyOfRange(data, pos, pos + count);
+            pos += count;
+            return b;
+        }
+
+        int varint() {
+            int v = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = u8();
+                v |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return v;
+                if (shift > 28) throw new IllegalArgumentException("Malformed varint at byte " + pos);
+            }
+        }
+
+        int int32() {
+            return u8() << 24 | u8() << 16 | u8() << 8 | u8();
+        }
+
+        long int64() {
+            return (long) int32() << 32 | (int32() & 0xFFFFFFFFL);
+        }
+
+        String string() {
+            return new String(bytes(varint()), StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Reads a spec; specs written before the reward window was added use the default window.
+         */
+        BoardSpec spec(boolean hasRewardWindow) {
+            String name = string();
+            Difficulty rules = Difficulty.values()[u8()];
+            BoardSpec spec = new BoardSpec(name, rules,
+                    varint(), varint(), varint(), varint(), varint(),
+                    varint(), varint(), varint(),
+                    unzigzag(varint()), unzigzag(varint()));
+            GenerationMode mode = GenerationMode.values()[u8()];
+            spec = spec.withGenerationMode(mode, varint());
+            return hasRewardWindow ? spec.withRewardWindow(varint()) : spec;
+        }
+    }
+}
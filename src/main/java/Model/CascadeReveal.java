@@ -0,0 +1,64 @@
+package Model;
+
+/**
+ * Iterative flood-fill used when an EMPTY (or QUESTION/SURPRISE) cell is revealed.
+ * Works directly on the packed CellStore with a preallocated int queue of cell
+ * indices, so a whole zero-region is revealed in one pass without recursion,
+ * without per-cell score updates and without allocating.
+ * Neighbors are visited through the store's precomputed offsets; the border
+ * sentinels are REVEALED, so the walk needs no bounds checks.
+ */
+final class CascadeReveal {
+
+    private final CellStore store;
+    private final int[] neighbors;
+
+    // Each cell is enqueued at most once (it is revealed when enqueued),
+    // so a queue of board size can never overflow.
+    private final int[] queue;
+
+    CascadeReveal(CellStore store) {
+        this.store = store;
+        this.neighbors = store.neighborOffsets();
+        this.queue = new int[store.size()];
+    }
+
+    /**
+     * Returns true if revealing this content continues the cascade to its neighbors.
+     */
+    static boolean spreads(Cell.CellContent content) {
+        return content == Cell.CellContent.EMPTY
+                || content == Cell.CellContent.QUESTION
+                || content == Cell.CellContent.SURPRISE;
+    }
+
+    /**
+     * Reveals every hidden, unflagged, non-mine cell reachable from the already
+     * revealed start cell, spreading through EMPTY/QUESTION/SURPRISE cells.
+     *
+     * @return the number of safe cells revealed (not counting the start cell)
+     */
+    int revealFrom(int start) {
+        int head = 0;
+        int tail = 0;
+        int revealed = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int i = queue[head++];
+
+            for (int offset : neighbors) {
+                int n = i + offset;
+                if (!store.isHiddenSafe(n)) continue;
+
+                store.setState(n, Cell.CellState.REVEALED);
+                revealed++;
+
+                if (spreads(store.content(n))) {
+                    queue[tail++] = n;
+                }
+            }
+        }
+        return revealed;
+    }
+}
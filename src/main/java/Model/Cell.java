@@ -2,7 +2,8 @@ package Model;
 
 /**
  * Represents a single cell on the Minesweeper board.
- * Stores position, content type, current state, and metadata for special cell logic.
+ * A Cell is a lightweight view over the board's packed CellStore:
+ * it holds only its position, and every getter/setter reads or writes the store.
  */
 public class Cell {
     // Cell content types
@@ -11,40 +12,45 @@ public class Cell {
     // Cell visibility states
     public enum CellState {HIDDEN, REVEALED, FLAGGED}
 
+    private final CellStore store;
+    private final int index;
     private final int row;
     private final int col;
-    private CellContent content;
-    private CellState state;
-    private int adjacentMines;
-    private boolean used;
-    private Integer questionId;
 
 
     /**
      * Creates a new EMPTY, HIDDEN cell at the specified board coordinates.
+     * The cell is backed by its own single-cell store (not attached to a board).
      */
     public Cell(int row, int col) {
+        this.store = new CellStore(1, 1);
+        this.index = store.index(0, 0);
+        this.row = row;
+        this.col = col;
+    }
+
+    /**
+     * Creates a view over the cell at the given index of a board's store.
+     */
+    Cell(CellStore store, int index, int row, int col) {
+        this.store = store;
+        this.index = index;
         this.row = row;
         this.col = col;
-        this.content = CellContent.EMPTY;
-        this.state = CellState.HIDDEN;
-        this.adjacentMines = 0;
-        this.used = false;
-        this.questionId = null;
     }
 
     // --- Basic getters/setters used by Board and Game ---
 
     public CellContent getContent() {
-        return content;
+        return store.content(index);
     }
 
     public void setContent(CellContent content) {
-        this.content = content;
+        store.setContent(index, content);
     }
 
     public void setAdjacentMines(int adjacentMines) {
-        this.adjacentMines = adjacentMines;
+        store.setAdjacent(index, adjacentMines);
     }
 
     public int getRow() {
@@ -58,14 +64,15 @@ public class Cell {
     // --- HELPER METHODS FOR LOGIC  ---
 
     public boolean isRevealed() {
-        return state == CellState.REVEALED;
+        return store.isRevealed(index);
     }
 
     public boolean isFlagged() {
-        return state == CellState.FLAGGED;
+        return store.isFlagged(index);
     }
 
     public boolean isQuestionOrSurprise() {
+        CellContent content = getContent();
         return content == CellContent.QUESTION || content == CellContent.SURPRISE;
     }
 
@@ -75,7 +82,7 @@ public class Cell {
      * Marks the cell as REVEALED.
      */
     public void reveal() {
-        this.state = CellState.REVEALED;
+        store.setState(index, CellState.REVEALED);
     }
 
     // -------- Game Logic Helpers --------
@@ -84,7 +91,7 @@ public class Cell {
      * Returns true if the cell contains a mine.
      */
     public boolean isMine() {
-        return this.content == CellContent.MINE;
+        return store.isMine(index);
     }
 
     /**
@@ -94,18 +101,20 @@ public class Cell {
      * @return true if the state was successfully changed, false otherwise.
      */
     public boolean toggleFlag() {
+        CellState state = getState();
+
         // Cannot flag or unflag a revealed cell
-        if (this.state == CellState.REVEALED) {
+        if (state == CellState.REVEALED) {
             return false;
         }
 
-        if (this.state == CellState.HIDDEN) {
+        if (state == CellState.HIDDEN) {
             // Change from HIDDEN to FLAGGED
-            this.state = CellState.FLAGGED;
+            setState(CellState.FLAGGED);
             return true;
-        } else if (this.state == CellState.FLAGGED) {
+        } else if (state == CellState.FLAGGED) {
             // Change from FLAGGED back to HIDDEN
-            this.state = CellState.HIDDEN;
+            setState(CellState.HIDDEN);
             return true;
         }
         // Should not happen, but return false defensively
@@ -115,28 +124,28 @@ public class Cell {
     // --- getters and setters for controller logic ---
 
     public CellState getState() {
-        return state;
+        return store.state(index);
     }
 
     public void setState(CellState state) {
-        this.state = state;
+        store.setState(index, state);
     }
 
     public boolean isUsed() {
-        return used;
+        return store.isUsed(index);
     }
 
     public void setUsed(boolean used) {
-        this.used = used;
+        store.setUsed(index, used);
     }
 
 
     public void setQuestionId(Integer questionId) {
-        this.questionId = questionId;
+        store.setQuestionId(index, questionId);
     }
 
     public int getAdjacentMines() {
-        return adjacentMines;
+        return store.adjacent(index);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package Model;
+
+/**
+ * Observer for changes to single cells of a Board.
+ * Lets solvers and views update incrementally instead of rescanning the board.
+ */
+public interface CellChangeListener {
+    /**
+     * Called after the state (hidden / revealed / flagged) or the used flag of a cell changed.
+     *
+     * @param board the board the cell belongs to
+     * @param row   the cell row
+     * @param col   the cell column
+     */
+    void cellChanged(Board board, int row, int col);
+}
@@ -0,0 +1,645 @@
+package Model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Packed storage for all cells of one board.
+ * Each cell is a single short with bit fields instead of a Cell object:
+ * <pre>
+ *  bits 0-3  adjacent mines (0..8)
+ *  bits 4-6  CellContent ordinal
+ *  bits 7-8  CellState ordinal
+ *  bit  9    used (special cell already activated)
+ *  bit  10   border (sentinel outside the board)
+ * </pre>
+ * The grid is stored as one flat array with a one-cell border ring, so cell (r, c)
+ * is at {@code (r + 1) * stride + (c + 1)} with {@code stride = cols + 2}.
+ * Border cells are REVEALED sentinels that are never mines; together with the
+ * precomputed {@link #neighborOffsets()} this lets neighbor walks run without bounds checks.
+ * <p>
+ * All writes go through one method that also keeps the win/progress counters
+ * (mines, found mines, flagged mines, unrevealed safe cells, revealed cells) up to date,
+ * so those questions are answered in O(1) instead of by scanning.
+ * <p>
+ * Undo support is copy-on-write at chunk granularity: while a {@link Delta} is recording,
+ * the first write to each chunk of {@link #CHUNK_SIZE} cells copies the chunk into the delta.
+ * A delta therefore costs memory for the chunks a move touched, never a copy of the board,
+ * and reads stay on the flat array.
+ * <p>
+ * The store also indexes its hidden (not revealed, not flagged) mines in an array with a
+ * position per cell, so one can be picked at random in O(1); removal swaps in the last entry.
+ */
+final class CellStore {
+
+    static final int ADJ_MASK = 0xF;
+
+    static final int CONTENT_SHIFT = 4;
+    static final int CONTENT_MASK = 0x7 << CONTENT_SHIFT;
+
+    static final int STATE_SHIFT = 7;
+    static final int STATE_MASK = 0x3 << STATE_SHIFT;
+
+    static final int USED_BIT = 1 << 9;
+    static final int BORDER_BIT = 1 << 10;
+
+    // Bits a player can see change: state and used flag
+    static final int VISIBLE_MASK = STATE_MASK | USED_BIT;
+
+    // Pre-shifted values for the hot checks (avoid enum decoding in scans)
+    static final int MINE_BITS = Cell.CellContent.MINE.ordinal() << CONTENT_SHIFT;
+    static final int HIDDEN_BITS = Cell.CellState.HIDDEN.ordinal() << STATE_SHIFT;
+    static final int REVEALED_BITS = Cell.CellState.REVEALED.ordinal() << STATE_SHIFT;
+    static final int FLAGGED_BITS = Cell.CellState.FLAGGED.ordinal() << STATE_SHIFT;
+
+    static final int CHUNK_SHIFT = 6;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    // Approximate heap cost of one saved chunk (array header + shorts + map entry)
+    static final int CHUNK_BYTES = 16 + 2 * CHUNK_SIZE + 32;
+
+    private static final Cell.CellContent[] CONTENTS = Cell.CellContent.values();
+    private static final Cell.CellState[] STATES = Cell.CellState.values();
+
+    private final int rows;
+    private final int cols;
+    private final int stride;
+    private final short[] bits;
+
+    // Index deltas of the 8 neighbors of any cell
+    private final int[] neighborOffsets;
+
+    // Notified when a cell's state (hidden / revealed / flagged) changes; null when unused
+    private StateListener stateListener;
+
+    // Delta receiving the old contents of written chunks; null while undo is off
+    private Delta recording;
+    // savedIn[k] == deltaSerial when chunk k is already saved in the recording delta
+    private int[] savedIn;
+    private int deltaSerial;
+
+    // Question ids are rare, so they live in a sparse side table
+    private Map<Integer, Integer> questionIds;
+
+    // Incremental counters, updated on every write
+    private int mineCount;
+    private int foundMineCount;     // mines that are REVEALED or FLAGGED
+    private int flaggedMineCount;   // mines that are FLAGGED
+    private int hiddenSafeCount;    // non-mine cells that are not REVEALED
+    private int revealedCount;      // cells that are REVEALED
+
+    // Hidden mines: hiddenMines[0 .. hiddenMineCount) are cell indices,
+    // hiddenMinePos[cell] is the cell's position there + 1 (0 when not listed)
+    private int[] hiddenMines = new int[16];
+    private final int[] hiddenMinePos;
+    private int hiddenMineCount;
+
+    // Area reward windows by hidden safe cells; built on first use, then kept current here
+    private RewardWindows rewardWindows;
+
+    /**
+     * Creates a store of EMPTY, HIDDEN cells surrounded by border sentinels.
+     */
+    CellStore(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.stride = cols + 2;
+        // EMPTY and HIDDEN are both ordinal 0, so a zeroed array is already a fresh board
+        this.bits = new short[(rows + 2) * stride];
+        this.hiddenMinePos = new int[bits.length];
+        this.hiddenSafeCount = rows * cols;
+        this.neighborOffsets = new int[]{
+                -stride - 1, -stride, -stride + 1,
+                -1, 1,
+                stride - 1, stride, stride + 1
+        };
+
+        // Border ring is written directly: it is not part of the board and not counted
+        short border = (short) (BORDER_BIT | REVEALED_BITS);
+        int last = (rows + 1) * stride;
+        for (int c = 0; c < stride; c++) {
+            bits[c] = border;
+            bits[last + c] = border;
+        }
+        for (int r = 1; r <= rows; r++) {
+            bits[r * stride] = border;
+            bits[r * stride + stride - 1] = border;
+        }
+    }
+
+    int index(int r, int c) {
+        return (r + 1) * stride + (c + 1);
+    }
+
+    int rowOf(int index) {
+        return index / stride - 1;
+    }
+
+    int colOf(int index) {
+        return index % stride - 1;
+    }
+
+    /**
+     * Index of the k-th cell in row-major order (0 <= k < size()).
+     */
+    int cellAt(int k) {
+        return index(k / cols, k % cols);
+    }
+
+    /**
+     * Number of board cells (the border is not included).
+     */
+    int size() {
+        return rows * cols;
+    }
+
+    /**
+     * Length of the padded array; indices in [0, length()) include the border.
+     */
+    int length() {
+        return bits.length;
+    }
+
+    int stride() {
+        return stride;
+    }
+
+    int[] neighborOffsets() {
+        return neighborOffsets;
+    }
+
+    boolean isBorder(int i) {
+        return (bits[i] & BORDER_BIT) != 0;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    int getCols() {
+        return cols;
+    }
+
+    /**
+     * The single write path: stores the new bits and updates the counters
+     * by the difference between the old and new classification of the cell.
+     */
+    private void write(int i, int newBits) {
+        int old = bits[i];
+        if (old == newBits) return;
+        if (recording != null) saveChunk(i >>> CHUNK_SHIFT);
+        bits[i] = (short) newBits;
+
+        mineCount += isMineBits(newBits) - isMineBits(old);
+        foundMineCount += isFoundMineBits(newBits) - isFoundMineBits(old);
+        flaggedMineCount += isFlaggedMineBits(newBits) - isFlaggedMineBits(old);
+        hiddenSafeCount += isHiddenSafeBits(newBits) - isHiddenSafeBits(old);
+        revealedCount += isRevealedBits(newBits) - isRevealedBits(old);
+        updateHiddenMine(i, newBits);
+        if (rewardWindows != null) updateRewardWindows(i, old, newBits);
+
+        if (stateListener != null && ((old ^ newBits) & VISIBLE_MASK) != 0) {
+            stateListener.stateChanged(i, (old & STATE_MASK) >>> STATE_SHIFT, (newBits & STATE_MASK) >>> STATE_SHIFT);
+        }
+    }
+
+    /**
+     * Receives every cell whose state or used flag changed, with the old and new state ordinals
+     * (equal when only the used flag changed).
+     */
+    interface StateListener {
+        void stateChanged(int index, int oldState, int newState);
+    }
+
+    void setStateListener(StateListener listener) {
+        this.stateListener = listener;
+    }
+
+    private static int isMineBits(int b) {
+        return (b & CONTENT_MASK) == MINE_BITS ? 1 : 0;
+    }
+
+    private static int isFoundMineBits(int b) {
+        return (b & CONTENT_MASK) == MINE_BITS && (b & STATE_MASK) != HIDDEN_BITS ? 1 : 0;
+    }
+
+    private static int isFlaggedMineBits(int b) {
+        return (b & CONTENT_MASK) == MINE_BITS && (b & STATE_MASK) == FLAGGED_BITS ? 1 : 0;
+    }
+
+    private static int isHiddenSafeBits(int b) {
+        return (b & CONTENT_MASK) != MINE_BITS && (b & STATE_MASK) != REVEALED_BITS ? 1 : 0;
+    }
+
+    private static int isRevealedBits(int b) {
+        return (b & STATE_MASK) == REVEALED_BITS ? 1 : 0;
+    }
+
+    private static int isOpenSafeBits(int b) {
+        return (b & STATE_MASK) == HIDDEN_BITS && (b & CONTENT_MASK) != MINE_BITS ? 1 : 0;
+    }
+
+    private static boolean isHiddenMineBits(int b) {
+        return (b & (CONTENT_MASK | STATE_MASK)) == (MINE_BITS | HIDDEN_BITS);
+    }
+
+    // --- Hidden mine index ---
+
+    /**
+     * Adds or removes cell i from the hidden mine index to match its bits.
+     */
+    private void updateHiddenMine(int i, int b) {
+        boolean listed = hiddenMinePos[i] != 0;
+        if (isHiddenMineBits(b) == listed) return;
+        if (!listed) {
+            addHiddenMine(i);
+        } else {
+            int k = hiddenMinePos[i] - 1;
+            int last = hiddenMines[--hiddenMineCount];
+            hiddenMines[k] = last;
+            hiddenMinePos[last] = k + 1;
+            hiddenMinePos[i] = 0;
+        }
+    }
+
+    private void addHiddenMine(int i) {
+        if (hiddenMineCount == hiddenMines.length) hiddenMines = Arrays.copyOf(hiddenMines, hiddenMineCount * 2);
+        hiddenMines[hiddenMineCount++] = i;
+        hiddenMinePos[i] = hiddenMineCount;
+    }
+
+    /**
+     * Number of mines that are neither revealed nor flagged.
+     */
+    int hiddenMineCount() {
+        return hiddenMineCount;
+    }
+
+    /**
+     * Index of the k-th hidden mine (0 <= k < hiddenMineCount()). The order is arbitrary but
+     * depends only on the sequence of writes, so seeded games pick the same mines.
+     */
+    int hiddenMineAt(int k) {
+        return hiddenMines[k];
+    }
+
+    /**
+     * Clears content, adjacency, used flags and question ids of every board cell,
+     * keeping each cell's state. Used to retry a layout.
+     */
+    void clearLayout() {
+        for (int r = 0; r < rows; r++) {
+            int i = index(r, 0);
+            for (int end = i + cols; i < end; i++) {
+                write(i, bits[i] & STATE_MASK);
+            }
+        }
+        questionIds = null;
+    }
+
+    // --- Area reward windows ---
+
+    /**
+     * The area reward's window index, built for the given window side on first use.
+     */
+    RewardWindows rewardWindows(int size) {
+        if (rewardWindows == null) rewardWindows = new RewardWindows(this, size);
+        return rewardWindows;
+    }
+
+    private void updateRewardWindows(int i, int oldBits, int newBits) {
+        int delta = isOpenSafeBits(newBits) - isOpenSafeBits(oldBits);
+        if (delta != 0) rewardWindows.cellChanged(rowOf(i), colOf(i), delta);
+    }
+
+    // --- Saved games ---
+
+    // Saved cell kinds are the content ordinals EMPTY, MINE, QUESTION, SURPRISE; NUMBER is saved as EMPTY
+    private static final int NUMBER_BITS = Cell.CellContent.NUMBER.ordinal() << CONTENT_SHIFT;
+
+    /**
+     * Writes every board cell as 4 bits (2-bit kind, 2-bit state), two cells per byte in row-major
+     * order, then one used bit per question/surprise cell. Numbers are left out: they follow from the mines.
+     */
+    void writeLayout(ByteCodec.Writer out) {
+        byte[] packed = new byte[(rows * cols + 1) / 2];
+        byte[] used = new byte[(rows * cols + 7) / 8];
+        int k = 0;
+        int specials = 0;
+        for (int r = 0; r < rows; r++) {
+            int i = index(r, 0);
+            for (int end = i + cols; i < end; i++, k++) {
+                int b = bits[i];
+                int kind = (b & CONTENT_MASK) == NUMBER_BITS ? 0 : (b & CONTENT_MASK) >>> CONTENT_SHIFT;
+                int nibble = kind | ((b & STATE_MASK) >>> STATE_SHIFT) << 2;
+                packed[k >>> 1] |= (byte) (nibble << ((k & 1) << 2));
+                if (kind >= 2) {
+                    if ((b & USED_BIT) != 0) used[specials >>> 3] |= (byte) (1 << (specials & 7));
+                    specials++;
+                }
+            }
+        }
+        out.bytes(packed, 0, packed.length);
+        out.varint(specials);
+        out.bytes(used, 0, (specials + 7) / 8);
+
+        // order of the hidden mine index, as each mine's rank in row-major order,
+        // so a loaded game picks the same reward mines as the saved one
+        int[] rank = new int[bits.length];
+        int n = 0;
+        for (int r = 0; r < rows; r++) {
+            int i = index(r, 0);
+            for (int end = i + cols; i < end; i++) {
+                if (hiddenMinePos[i] != 0) rank[i] = n++;
+            }
+        }
+        for (int j = 0; j < hiddenMineCount; j++) out.varint(rank[hiddenMines[j]]);
+    }
+
+    /**
+     * Loads what {@link #writeLayout} wrote into this fresh store: sets the cells directly,
+     * recomputes the numbers and rebuilds the counters and the hidden mine index.
+     * Listeners and undo are not involved.
+     *
+     * @return number of flagged cells
+     */
+    int readLayout(ByteCodec.Reader in) {
+        byte[] packed = in.bytes((rows * cols + 1) / 2);
+        int specials = in.varint();
+        byte[] used = in.bytes((specials + 7) / 8);
+
+        // how many cells have each kind/state nibble; the counters follow from it
+        int[] histogram = new int[16];
+        int k = 0;
+        int special = 0;
+        for (int r = 0; r < rows; r++) {
+            int i = index(r, 0);
+            for (int end = i + cols; i < end; i++, k++) {
+                int nibble = (packed[k >>> 1] >>> ((k & 1) << 2)) & 0xF;
+                int kind = nibble & 3;
+                int b = kind << CONTENT_SHIFT | (nibble >>> 2) << STATE_SHIFT;
+                if (kind >= 2) {
+                    if (special >= specials) throw new IllegalArgumentException("Special cell count mismatch");
+                    if ((used[special >>> 3] & (1 << (special & 7))) != 0) b |= USED_BIT;
+                    special++;
+                }
+                bits[i] = (short) b;
+                histogram[nibble]++;
+            }
+        }
+        if (special != specials) throw new IllegalArgumentException("Special cell count mismatch");
+        if (histogram[12] + histogram[13] + histogram[14] + histogram[15] > 0) {
+            throw new IllegalArgumentException("Bad cell state in save");
+        }
+
+        byte[] adjacent = NeighborCounts.compute(this);
+        for (int r = 0; r < rows; r++) {
+            int i = index(r, 0);
+            for (int end = i + cols; i < end; i++) {
+                if ((bits[i] & CONTENT_MASK) == 0 && adjacent[i] > 0) {
+                    bits[i] = (short) (bits[i] | NUMBER_BITS | adjacent[i]);
+                }
+            }
+        }
+
+        mineCount = foundMineCount = flaggedMineCount = hiddenSafeCount = revealedCount = 0;
+        int flagged = 0;
+        for (int nibble = 0; nibble < 12; nibble++) {
+            int b = (nibble & 3) << CONTENT_SHIFT | (nibble >>> 2) << STATE_SHIFT;
+            int n = histogram[nibble];
+            mineCount += n * isMineBits(b);
+            foundMineCount += n * isFoundMineBits(b);
+            flaggedMineCount += n * isFlaggedMineBits(b);
+            hiddenSafeCount += n * isHiddenSafeBits(b);
+            revealedCount += n * isRevealedBits(b);
+            if ((b & STATE_MASK) == FLAGGED_BITS) flagged += n;
+        }
+
+        int[] byRank = new int[mineCount - foundMineCount];
+        int n = 0;
+        for (int r = 0; r < rows; r++) {
+            int i = index(r, 0);
+            for (int end = i + cols; i < end; i++) {
+                if (isHiddenMineBits(bits[i])) byRank[n++] = i;
+            }
+        }
+        hiddenMines = new int[Math.max(16, byRank.length)];
+        hiddenMineCount = 0;
+        for (int j = 0; j < byRank.length; j++) {
+            int rank = in.varint();
+            if (rank >= byRank.length || hiddenMinePos[byRank[rank]] != 0) {
+                throw new IllegalArgumentException("Bad hidden mine order in save");
+            }
+            addHiddenMine(byRank[rank]);
+        }
+        return flagged;
+    }
+
+    // --- Undo deltas ---
+
+    /**
+     * Old contents of the chunks written while the delta was recording, plus the counters
+     * and question ids from when it started. Applying it puts those chunks back.
+     */
+    static final class Delta {
+        private final Map<Integer, short[]> chunks = new HashMap<>();
+        private final Map<Integer, Integer> questionIds;
+        private final int mineCount;
+        private final int foundMineCount;
+        private final int flaggedMineCount;
+        private final int hiddenSafeCount;
+        private final int revealedCount;
+
+        private Delta(CellStore store) {
+            this.questionIds = store.questionIds == null ? null : new HashMap<>(store.questionIds);
+            this.mineCount = store.mineCount;
+            this.foundMineCount = store.foundMineCount;
+            this.flaggedMineCount = store.flaggedMineCount;
+            this.hiddenSafeCount = store.hiddenSafeCount;
+            this.revealedCount = store.revealedCount;
+        }
+
+        boolean isEmpty() {
+            return chunks.isEmpty();
+        }
+
+        /**
+         * Estimated heap retained by this delta.
+         */
+        long bytes() {
+            return 64 + (long) chunks.size() * CHUNK_BYTES;
+        }
+    }
+
+    /**
+     * Starts a new delta; every chunk written from now on is saved in it first.
+     * The previous delta, if any, stops recording.
+     */
+    Delta beginDelta() {
+        if (savedIn == null) savedIn = new int[(bits.length + CHUNK_SIZE - 1) >>> CHUNK_SHIFT];
+        deltaSerial++;
+        recording = new Delta(this);
+        return recording;
+    }
+
+    /**
+     * Stops recording {@code delta} if it is still the recording one.
+     */
+    void endDelta(Delta delta) {
+        if (recording == delta) recording = null;
+    }
+
+    /**
+     * Stops recording deltas (undo turned off).
+     */
+    void stopDeltas() {
+        recording = null;
+    }
+
+    private void saveChunk(int k) {
+        if (savedIn[k] == deltaSerial) return;
+        savedIn[k] = deltaSerial;
+        int from = k << CHUNK_SHIFT;
+        recording.chunks.put(k, Arrays.copyOfRange(bits, from, Math.min(from + CHUNK_SIZE, bits.length)));
+    }
+
+    /**
+     * Puts the delta's chunks and counters back and returns the inverse delta
+     * (the contents it replaced), which applied in turn redoes the change.
+     * The state listener hears about every cell whose state changes.
+     * Recording stops; the next {@link #beginDelta()} starts it again.
+     */
+    Delta apply(Delta delta) {
+        recording = null;
+        Delta inverse = new Delta(this);
+        for (Map.Entry<Integer, short[]> e : delta.chunks.entrySet()) {
+            int from = e.getKey() << CHUNK_SHIFT;
+            short[] saved = e.getValue();
+            inverse.chunks.put(e.getKey(), Arrays.copyOfRange(bits, from, from + saved.length));
+            System.arraycopy(saved, 0, bits, from, saved.length);
+        }
+        questionIds = delta.questionIds == null ? null : new HashMap<>(delta.questionIds);
+        mineCount = delta.mineCount;
+        foundMineCount = delta.foundMineCount;
+        flaggedMineCount = delta.flaggedMineCount;
+        hiddenSafeCount = delta.hiddenSafeCount;
+        revealedCount = delta.revealedCount;
+
+        // the indexes are brought up to date first;
+        // listeners look at the whole board, so they hear about changes once it is consistent
+        for (Map.Entry<Integer, short[]> e : inverse.chunks.entrySet()) {
+            int from = e.getKey() << CHUNK_SHIFT;
+            short[] before = e.getValue();
+            for (int j = 0; j < before.length; j++) {
+                int now = bits[from + j];
+                if (before[j] == now) continue;
+                updateHiddenMine(from + j, now);
+                if (rewardWindows != null) updateRewardWindows(from + j, before[j], now);
+            }
+        }
+        if (stateListener != null) {
+            for (Map.Entry<Integer, short[]> e : inverse.chunks.entrySet()) {
+                int from = e.getKey() << CHUNK_SHIFT;
+                short[] before = e.getValue();
+                for (int j = 0; j < before.length; j++) {
+                    int now = bits[from + j];
+                    if (((before[j] ^ now) & VISIBLE_MASK) != 0) {
+                        stateListener.stateChanged(from + j, (before[j] & STATE_MASK) >>> STATE_SHIFT,
+                                (now & STATE_MASK) >>> STATE_SHIFT);
+                    }
+                }
+            }
+        }
+        return inverse;
+    }
+
+    // --- Counters ---
+
+    int mineCount() {
+        return mineCount;
+    }
+
+    int foundMineCount() {
+        return foundMineCount;
+    }
+
+    int flaggedMineCount() {
+        return flaggedMineCount;
+    }
+
+    int hiddenSafeCount() {
+        return hiddenSafeCount;
+    }
+
+    int revealedCount() {
+        return revealedCount;
+    }
+
+    // --- Field accessors ---
+
+    int adjacent(int i) {
+        return bits[i] & ADJ_MASK;
+    }
+
+    void setAdjacent(int i, int count) {
+        write(i, (bits[i] & ~ADJ_MASK) | (count & ADJ_MASK));
+    }
+
+    Cell.CellContent content(int i) {
+        return CONTENTS[(bits[i] & CONTENT_MASK) >>> CONTENT_SHIFT];
+    }
+
+    void setContent(int i, Cell.CellContent content) {
+        write(i, (bits[i] & ~CONTENT_MASK) | (content.ordinal() << CONTENT_SHIFT));
+    }
+
+    boolean isMine(int i) {
+        return (bits[i] & CONTENT_MASK) == MINE_BITS;
+    }
+
+    /**
+     * True for a HIDDEN (not revealed, not flagged) non-mine cell. Always false on the border.
+     */
+    boolean isHiddenSafe(int i) {
+        int b = bits[i];
+        return (b & STATE_MASK) == HIDDEN_BITS && (b & CONTENT_MASK) != MINE_BITS;
+    }
+
+    Cell.CellState state(int i) {
+        return STATES[(bits[i] & STATE_MASK) >>> STATE_SHIFT];
+    }
+
+    void setState(int i, Cell.CellState state) {
+        write(i, (bits[i] & ~STATE_MASK) | (state.ordinal() << STATE_SHIFT));
+    }
+
+    boolean isRevealed(int i) {
+        return (bits[i] & STATE_MASK) == REVEALED_BITS;
+    }
+
+    boolean isFlagged(int i) {
+        return (bits[i] & STATE_MASK) == FLAGGED_BITS;
+    }
+
+    boolean isUsed(int i) {
+        return (bits[i] & USED_BIT) != 0;
+    }
+
+    void setUsed(int i, boolean used) {
+        write(i, used ? (bits[i] | USED_BIT) : (bits[i] & ~USED_BIT));
+    }
+
+    void setQuestionId(int i, Integer questionId) {
+        if (questionId == null) {
+            if (questionIds != null) questionIds.remove(i);
+            return;
+        }
+        if (questionIds == null) questionIds = new HashMap<>();
+        questionIds.put(i, questionId);
+    }
+
+    Integer getQuestionId(int i) {
+        return (questionIds == null) ? null : questionIds.get(i);
+    }
+}
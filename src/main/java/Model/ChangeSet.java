@@ -0,0 +1,118 @@
+package Model;
+
+import java.util.Arrays;
+
+/**
+ * The cells of one board that changed since the last time changes were taken:
+ * cell (row, col) with its state before and after. A cell that only became used
+ * (an activated question/surprise) has the same old and new state.
+ * <p>
+ * Each cell appears once, with its state from before the first change and after the last,
+ * so a flag placed and removed again shows up as HIDDEN -> HIDDEN.
+ * Views use it to update only the touched cells instead of re-reading the whole board.
+ */
+public final class ChangeSet {
+
+    public static final ChangeSet EMPTY = new ChangeSet(1, new int[0], new byte[0], 0);
+
+    private static final Cell.CellState[] STATES = Cell.CellState.values();
+
+    private final int cols;
+    private final int[] cells;    // row * cols + col
+    private final byte[] states;  // old state << 4 | new state
+    private final int size;
+
+    private ChangeSet(int cols, int[] cells, byte[] states, int size) {
+        this.cols = cols;
+        this.cells = cells;
+        this.states = states;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int row(int k) {
+        return cells[k] / cols;
+    }
+
+    public int col(int k) {
+        return cells[k] % cols;
+    }
+
+    public Cell.CellState oldState(int k) {
+        return STATES[states[k] >>> 4];
+    }
+
+    public Cell.CellState newState(int k) {
+        return STATES[states[k] & 0xF];
+    }
+
+    /**
+     * True if the k-th cell went from not revealed to revealed.
+     */
+    public boolean isNewlyRevealed(int k) {
+        return oldState(k) != Cell.CellState.REVEALED && newState(k) == Cell.CellState.REVEALED;
+    }
+
+    /**
+     * Collects the changes of one board. A stamp per cell finds repeated changes to the
+     * same cell in O(1), so recording costs the same for one cell or a whole cascade.
+     */
+    static final class Recorder {
+        private final int cols;
+        private final int cellCount;
+        private int[] slot;       // slot[cell] = position + 1 in this batch, valid when stamp matches
+        private int[] stamp;
+        private int batch = 1;
+        private int[] cells = new int[16];
+        private byte[] states = new byte[16];
+        private int size;
+
+        Recorder(int rows, int cols) {
+            this.cols = cols;
+            this.cellCount = rows * cols;
+        }
+
+        void record(int row, int col, int oldState, int newState) {
+            if (slot == null) {
+                slot = new int[cellCount];
+                stamp = new int[cellCount];
+            }
+            int cell = row * cols + col;
+            if (stamp[cell] == batch) {
+                int k = slot[cell];
+                states[k] = (byte) (states[k] & 0xF0 | newState);
+                return;
+            }
+            if (size == cells.length) {
+                cells = Arrays.copyOf(cells, size * 2);
+                states = Arrays.copyOf(states, size * 2);
+            }
+            stamp[cell] = batch;
+            slot[cell] = size;
+            cells[size] = cell;
+            states[size] = (byte) (oldState << 4 | newState);
+            size++;
+        }
+
+        /**
+         * Returns the changes recorded so far and starts a new batch.
+         */
+        ChangeSet take() {
+            if (size == 0) return EMPTY;
+            ChangeSet changes = new ChangeSet(cols, Arrays.copyOf(cells, size), Arrays.copyOf(states, size), size);
+            size = 0;
+            if (++batch == 0) {
+                Arrays.fill(stamp, 0);
+                batch = 1;
+            }
+            return changes;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package Model;
 /**
  * Defines game difficulty levels and their configuration parameters.
  * Each level controls board size, mines, special cells, lives and scoring rules.
+ * The levels are presets for {@link BoardSpec}, which also allows custom boards.
  */
 public enum Difficulty {
     EASY(
@@ -103,4 +104,11 @@ public enum Difficulty {
     public int getNonMineFlagPenalty() {
         return nonMineFlagPenalty;
     } // NEW
+
+    /**
+     * Returns this preset as a BoardSpec.
+     */
+    public BoardSpec toSpec() {
+        return BoardSpec.of(this);
+    }
 }
\ No newline at end of file
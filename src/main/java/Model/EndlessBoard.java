@@ -0,0 +1,426 @@
+package Model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Unbounded board for the endless mode, stored as 64x64 chunks generated on demand.
+ * <p>
+ * A chunk's mines depend only on the game seed and the chunk's position
+ * ({@link GameRandom#stream(String, long)}), so chunks can be generated in any order, dropped and
+ * generated again identically; only what the players did (revealed and flagged cells) must be kept.
+ * A chunk holds one bitmask per row (64 columns fit a long) for mines, revealed and flagged cells,
+ * plus adjacent-mine counts computed from its own and its neighbors' mines.
+ * <p>
+ * At most {@code maxLiveChunks} chunks stay expanded. Beyond that the least recently used chunks
+ * that are not next to the current one are evicted: untouched chunks are dropped, changed ones are
+ * kept as deflated bit planes relative to the mines, so a fully revealed chunk takes a few dozen bytes.
+ * Scrolling alone never grows memory; only cells the players changed do, and compactly.
+ * <p>
+ * Coordinates may be negative. The 3x3 area around (0, 0) never has mines, so the first reveal
+ * there opens a region. Endless boards have no question or surprise cells.
+ * One reveal cascades over at most {@link #MAX_CASCADE_CELLS} cells (a zero-region may be unbounded);
+ * clicking a revealed empty cell at its edge continues it.
+ */
+public final class EndlessBoard {
+
+    static final int CHUNK_SHIFT = 6;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int LOCAL_MASK = CHUNK_SIZE - 1;
+
+    public static final double DEFAULT_MINE_DENSITY = 0.16;
+    public static final int DEFAULT_MAX_LIVE_CHUNKS = 256;
+    public static final int MAX_CASCADE_CELLS = 16 * CHUNK_SIZE * CHUNK_SIZE;
+
+    // Chunks within this distance of the current one are never evicted
+    private static final int KEEP_RADIUS = 1;
+    private static final int MIN_LIVE_CHUNKS = (2 * KEEP_RADIUS + 1) * (2 * KEEP_RADIUS + 1);
+
+    // Stored planes are kept as is or XOR a reference (the safe cells / the mines), whichever has fewer bits set
+    private static final int REVEALED_VS_SAFE = 1;
+    private static final int FLAGS_VS_MINES = 2;
+    private static final int PLANES_BYTES = 1 + 2 * CHUNK_SIZE * Long.BYTES;
+
+    private final GameRandom random;
+    private final double mineDensity;
+    private final int maxLiveChunks;
+
+    // Expanded chunks in access order (least recently used first)
+    private final LinkedHashMap<Long, Chunk> live = new LinkedHashMap<>(64, 0.75f, true);
+    // Evicted chunks the players changed
+    private final Map<Long, byte[]> stored = new HashMap<>();
+    private long storedBytes;
+
+    private long revealedCount;
+    private long flagsPlaced;
+    private int minesHit;
+
+    // Chunk of the last access (chunk row, chunk col)
+    private int currentRow;
+    private int currentCol;
+
+    // Cascade queue of packed coordinates, reused between reveals
+    private long[] queue = new long[1024];
+
+    /**
+     * One expanded 64x64 chunk. Bit c of row r is local cell (r, c).
+     */
+    private static final class Chunk {
+        final long[] mines;
+        final long[] revealed = new long[CHUNK_SIZE];
+        final long[] flagged = new long[CHUNK_SIZE];
+        final byte[] adjacent = new byte[CHUNK_SIZE * CHUNK_SIZE];
+        // true once the players changed a cell (it must be stored on eviction)
+        boolean touched;
+
+        Chunk(long[] mines) {
+            this.mines = mines;
+        }
+    }
+
+    public EndlessBoard(long seed) {
+        this(seed, DEFAULT_MINE_DENSITY, DEFAULT_MAX_LIVE_CHUNKS);
+    }
+
+    /**
+     * @param mineDensity   chance that a cell is a mine, in (0, 1)
+     * @param maxLiveChunks chunks kept expanded (each about 5.7 KB); at least 9
+     */
+    public EndlessBoard(long seed, double mineDensity, int maxLiveChunks) {
+        if (!(mineDensity > 0 && mineDensity < 1)) throw new IllegalArgumentException("Mine density must be in (0, 1)");
+        this.random = new GameRandom(seed);
+        this.mineDensity = mineDensity;
+        this.maxLiveChunks = Math.max(maxLiveChunks, MIN_LIVE_CHUNKS);
+    }
+
+    // --- Actions ---
+
+    /**
+     * Reveals a cell; an empty cell cascades across chunk edges.
+     * Revealing an already revealed empty cell continues a cascade that stopped at the limit.
+     *
+     * @return number of safe cells revealed, or -1 if the cell was a mine
+     */
+    public int revealCell(int r, int c) {
+        Chunk chunk = access(r, c);
+        int lr = r & LOCAL_MASK;
+        long bit = 1L << (c & LOCAL_MASK);
+        int revealed = 0;
+
+        if ((chunk.flagged[lr] & bit) != 0) return 0;
+        if ((chunk.revealed[lr] & bit) == 0) {
+            chunk.revealed[lr] |= bit;
+            chunk.touched = true;
+            if ((chunk.mines[lr] & bit) != 0) {
+                minesHit++;
+                revealedCount++;
+                return -1;
+            }
+            revealed = 1;
+        } else if ((chunk.mines[lr] & bit) != 0) {
+            return 0;
+        }
+
+        if (chunk.adjacent[lr * CHUNK_SIZE + (c & LOCAL_MASK)] == 0) revealed += cascade(r, c);
+        revealedCount += revealed;
+        trim();
+        return revealed;
+    }
+
+    /**
+     * Toggles a flag on a hidden cell.
+     *
+     * @return true if the flag changed
+     */
+    public boolean toggleFlag(int r, int c) {
+        Chunk chunk = access(r, c);
+        int lr = r & LOCAL_MASK;
+        long bit = 1L << (c & LOCAL_MASK);
+        if ((chunk.revealed[lr] & bit) != 0) return false;
+
+        chunk.flagged[lr] ^= bit;
+        chunk.touched = true;
+        flagsPlaced += (chunk.flagged[lr] & bit) != 0 ? 1 : -1;
+        trim();
+        return true;
+    }
+
+    /**
+     * Breadth-first reveal from an empty cell, over global coordinates so it crosses chunk edges.
+     */
+    private int cascade(int startRow, int startCol) {
+        int head = 0;
+        int tail = 0;
+        int revealed = 0;
+        queue[tail++] = pack(startRow, startCol);
+
+        while (head < tail && revealed < MAX_CASCADE_CELLS) {
+            if (live.size() > maxLiveChunks) trim();
+            long p = queue[head++];
+            int r = (int) (p >> 32);
+            int c = (int) p;
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    if (dr == 0 && dc == 0) continue;
+                    int nr = r + dr;
+                    int nc = c + dc;
+                    Chunk chunk = chunk(nr >> CHUNK_SHIFT, nc >> CHUNK_SHIFT);
+                    int lr = nr & LOCAL_MASK;
+                    long bit = 1L << (nc & LOCAL_MASK);
+                    if (((chunk.revealed[lr] | chunk.flagged[lr] | chunk.mines[lr]) & bit) != 0) continue;
+
+                    chunk.revealed[lr] |= bit;
+                    chunk.touched = true;
+                    revealed++;
+                    if (chunk.adjacent[lr * CHUNK_SIZE + (nc & LOCAL_MASK)] == 0) {
+                        if (tail == queue.length) queue = Arrays.copyOf(queue, tail * 2);
+                        queue[tail++] = pack(nr, nc);
+                    }
+                }
+            }
+        }
+        return revealed;
+    }
+
+    // --- Queries ---
+
+    public boolean isMine(int r, int c) {
+        return (access(r, c).mines[r & LOCAL_MASK] & (1L << (c & LOCAL_MASK))) != 0;
+    }
+
+    public boolean isRevealed(int r, int c) {
+        return (access(r, c).revealed[r & LOCAL_MASK] & (1L << (c & LOCAL_MASK))) != 0;
+    }
+
+    public boolean isFlagged(int r, int c) {
+        return (access(r, c).flagged[r & LOCAL_MASK] & (1L << (c & LOCAL_MASK))) != 0;
+    }
+
+    public int getAdjacentMines(int r, int c) {
+        return access(r, c).adjacent[(r & LOCAL_MASK) * CHUNK_SIZE + (c & LOCAL_MASK)];
+    }
+
+    /**
+     * MINE, NUMBER or EMPTY.
+     */
+    public Cell.CellContent getContent(int r, int c) {
+        if (isMine(r, c)) return Cell.CellContent.MINE;
+        return getAdjacentMines(r, c) > 0 ? Cell.CellContent.NUMBER : Cell.CellContent.EMPTY;
+    }
+
+    public Cell.CellState getState(int r, int c) {
+        if (isRevealed(r, c)) return Cell.CellState.REVEALED;
+        return isFlagged(r, c) ? Cell.CellState.FLAGGED : Cell.CellState.HIDDEN;
+    }
+
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    public long getRevealedCount() {
+        return revealedCount;
+    }
+
+    public long getFlagsPlaced() {
+        return flagsPlaced;
+    }
+
+    public int getMinesHit() {
+        return minesHit;
+    }
+
+    public int getLiveChunkCount() {
+        return live.size();
+    }
+
+    public int getStoredChunkCount() {
+        return stored.size();
+    }
+
+    /**
+     * Bytes held by the compressed forms of evicted chunks.
+     */
+    public long getStoredBytes() {
+        return storedBytes;
+    }
+
+    // --- Chunks ---
+
+    /**
+     * Returns the chunk of a cell and makes it the current chunk. Loading it may evict others,
+     * so queries alone keep the live limit too.
+     */
+    private Chunk access(int r, int c) {
+        currentRow = r >> CHUNK_SHIFT;
+        currentCol = c >> CHUNK_SHIFT;
+        Chunk chunk = chunk(currentRow, currentCol);
+        if (live.size() > maxLiveChunks) trim();
+        return chunk;
+    }
+
+    private Chunk chunk(int chunkRow, int chunkCol) {
+        long key = pack(chunkRow, chunkCol);
+        Chunk chunk = live.get(key);
+        if (chunk == null) {
+            chunk = load(chunkRow, chunkCol, key);
+            live.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    private Chunk load(int chunkRow, int chunkCol, long key) {
+        long[][] around = new long[9][];
+        for (int dr = -1; dr <= 1; dr++) {
+            for (int dc = -1; dc <= 1; dc++) {
+                Chunk neighbor = live.get(pack(chunkRow + dr, chunkCol + dc));
+                around[(dr + 1) * 3 + dc + 1] = neighbor != null ? neighbor.mines : mines(chunkRow + dr, chunkCol + dc);
+            }
+        }
+        Chunk chunk = new Chunk(around[4]);
+        // per row above / on / below: masks of the west, center and east neighbor of every column
+        long[] west = new long[3];
+        long[] center = new long[3];
+        long[] east = new long[3];
+        for (int r = 0; r < CHUNK_SIZE; r++) {
+            for (int k = 0; k < 3; k++) {
+                int row = r + k - 1;
+                int block = (row < 0 ? 0 : row >= CHUNK_SIZE ? 6 : 3);
+                long left = around[block][row & LOCAL_MASK];
+                long mid = around[block + 1][row & LOCAL_MASK];
+                long right = around[block + 2][row & LOCAL_MASK];
+                west[k] = mid << 1 | left >>> 63;
+                center[k] = mid;
+                east[k] = mid >>> 1 | right << 63;
+            }
+            for (int c = 0; c < CHUNK_SIZE; c++) {
+                long count = (west[0] >>> c & 1) + (center[0] >>> c & 1) + (east[0] >>> c & 1)
+                        + (west[1] >>> c & 1) + (east[1] >>> c & 1)
+                        + (west[2] >>> c & 1) + (center[2] >>> c & 1) + (east[2] >>> c & 1);
+                chunk.adjacent[r * CHUNK_SIZE + c] = (byte) count;
+            }
+        }
+
+        byte[] packed = stored.remove(key);
+        if (packed != null) {
+            storedBytes -= packed.length;
+            restore(chunk, packed);
+            chunk.touched = true;
+        }
+        return chunk;
+    }
+
+    /**
+     * The mines of a chunk, from the seed and the chunk position only.
+     */
+    private long[] mines(int chunkRow, int chunkCol) {
+        GameRandom.Stream stream = random.stream("endless.chunk", pack(chunkRow, chunkCol));
+        long[] mines = new long[CHUNK_SIZE];
+        for (int r = 0; r < CHUNK_SIZE; r++) {
+            long row = 0;
+            for (int c = 0; c < CHUNK_SIZE; c++) {
+                if (stream.nextDouble() < mineDensity) row |= 1L << c;
+            }
+            mines[r] = row;
+        }
+        // keep the start area around (0, 0) free of mines
+        for (int r = -1; r <= 1; r++) {
+            for (int c = -1; c <= 1; c++) {
+                if (r >> CHUNK_SHIFT == chunkRow && c >> CHUNK_SHIFT == chunkCol) {
+                    mines[r & LOCAL_MASK] &= ~(1L << (c & LOCAL_MASK));
+                }
+            }
+        }
+        return mines;
+    }
+
+    /**
+     * Evicts least recently used chunks away from the current one until the live limit holds.
+     */
+    private void trim() {
+        Iterator<Map.Entry<Long, Chunk>> it = live.entrySet().iterator();
+        while (live.size() > maxLiveChunks && it.hasNext()) {
+            Map.Entry<Long, Chunk> e = it.next();
+            long key = e.getKey();
+            if (Math.abs((int) (key >> 32) - currentRow) <= KEEP_RADIUS
+                    && Math.abs((int) key - currentCol) <= KEEP_RADIUS) continue;
+            if (e.getValue().touched) {
+                byte[] packed = compress(e.getValue());
+                stored.put(key, packed);
+                storedBytes += packed.length;
+            }
+            it.remove();
+        }
+    }
+
+    /**
+     * Deflates the revealed and flagged planes. Each is stored as is or XOR its reference (safe cells
+     * for revealed, mines for flagged), whichever is sparser, so both a barely touched and a fully
+     * solved chunk compress to almost nothing.
+     */
+    private static byte[] compress(Chunk chunk) {
+        int revealed = 0;
+        int flagged = 0;
+        int mines = 0;
+        for (int r = 0; r < CHUNK_SIZE; r++) {
+            revealed += Long.bitCount(chunk.revealed[r]);
+            flagged += Long.bitCount(chunk.flagged[r]);
+            mines += Long.bitCount(chunk.mines[r]);
+        }
+        int mode = (revealed * 2 > CHUNK_SIZE * CHUNK_SIZE - mines ? REVEALED_VS_SAFE : 0)
+                | (flagged * 2 > mines ? FLAGS_VS_MINES : 0);
+
+        ByteCodec.Writer planes = new ByteCodec.Writer(PLANES_BYTES);
+        planes.u8(mode);
+        for (int r = 0; r < CHUNK_SIZE; r++) {
+            planes.int64((mode & REVEALED_VS_SAFE) != 0 ? chunk.revealed[r] ^ ~chunk.mines[r] : chunk.revealed[r]);
+        }
+        for (int r = 0; r < CHUNK_SIZE; r++) {
+            planes.int64((mode & FLAGS_VS_MINES) != 0 ? chunk.flagged[r] ^ chunk.mines[r] : chunk.flagged[r]);
+        }
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(planes.buffer(), 0, planes.length());
+            deflater.finish();
+            byte[] out = new byte[PLANES_BYTES + 64];
+            int length = deflater.deflate(out);
+            return Arrays.copyOf(out, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void restore(Chunk chunk, byte[] packed) {
+        byte[] planes = new byte[PLANES_BYTES];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(packed);
+            if (inflater.inflate(planes) != PLANES_BYTES) throw new IllegalStateException("Stored chunk is truncated");
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Stored chunk is damaged", e);
+        } finally {
+            inflater.end();
+        }
+
+        ByteCodec.Reader in = new ByteCodec.Reader(planes, 0, planes.length);
+        int mode = in.u8();
+        for (int r = 0; r < CHUNK_SIZE; r++) {
+            long plane = in.int64();
+            chunk.revealed[r] = (mode & REVEALED_VS_SAFE) != 0 ? plane ^ ~chunk.mines[r] : plane;
+        }
+        for (int r = 0; r < CHUNK_SIZE; r++) {
+            long plane = in.int64();
+            chunk.flagged[r] = (mode & FLAGS_VS_MINES) != 0 ? plane ^ chunk.mines[r] : plane;
+        }
+    }
+
+    private static long pack(int high, int low) {
+        return (long) high << 32 | (low & 0xFFFFFFFFL);
+    }
+}
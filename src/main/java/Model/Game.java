@@ -4,20 +4,31 @@ import Model.specialcell.SpecialCellActivator;
 import Model.specialcell.factory.ActivatorFactoryRegistry;
 import Model.specialcell.factory.QuestionActivatorFactory;
 import Model.specialcell.factory.SurpriseActivatorFactory;
+import util.EventLog;
+import util.Latency;
+import util.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents a cooperative Minesweeper game with two boards.
  * Manages shared lives, shared score, difficulty settings, questions and turns.
+ * <p>
+ * Lives, score and game state live in one atomic word: every change to them is a single
+ * compare-and-set, and so is ending the game (with its life bonus). Players on different threads
+ * ({@link RealTimeGame}) therefore never lose each other's updates, and a game ends exactly once.
  */
 public class Game {
     // Maximum number of lives allowed (extra lives are converted to score)
     private final int MAX_LIVES = 10;
     private Board board1;
     private Board board2;
-    private Difficulty difficulty;
-    private int sharedLives;
-    private int sharedScore;
-    private GameState gameState;
+    private BoardSpec spec;
+    // Shared score (bits 0-31), lives (32-55, signed) and GameState ordinal (56-63); see pack()
+    private final AtomicLong vitals = new AtomicLong();
+    private static final GameState[] STATES = GameState.values();
+    // Time spent evaluating win/loss (see util.Latency)
+    private static final LatencyHistogram STATUS_CHECK_LATENCY = Latency.histogram("model.statusCheck");
     private int currentPlayerTurn;
     private QuestionManager questionManager;
     private QuestionPresenter questionPresenter;
@@ -28,6 +39,32 @@ public class Game {
     private int totalQuestionsAnswered;
     private int totalCorrectAnswers;
 
+    // Move currently being applied (null between moves)
+    private Move openMove;
+
+    // Seeded per game; hands out the random streams of boards, surprises, scoring and questions
+    private GameRandom random;
+
+    // Everything the players did this game, replayable from the seed
+    private MoveJournal journal;
+
+    // Optional replacement for the question manager's pick (used by replays)
+    private QuestionSource questionSource;
+
+    // Undo/redo steps; null while undo is off
+    private UndoHistory undoHistory;
+
+    // Whether boards collect change sets for the view (kept for restarted games)
+    private boolean changeTracking;
+
+    // Set while a RealTimeGame drives this game; it then reveals the boards at the end itself
+    private volatile boolean realTime;
+
+    // Event log records about the game's progress (util.EventLog); simulations turn them off
+    private boolean logging = true;
+    // Records model phases into the shared util.Latency histograms; simulations turn it off
+    private boolean timing = true;
+
     //  Factory Method registry (DP1)
     private final ActivatorFactoryRegistry activatorRegistry =
             new ActivatorFactoryRegistry(
@@ -44,36 +81,288 @@ public class Game {
      * Creates a new game with the given difficulty.
      */
     public Game(Difficulty difficulty) {
-        startNewGame(difficulty);
+        this(BoardSpec.of(difficulty));
+    }
+
+    /**
+     * Creates a new game with the given board spec (preset or custom).
+     */
+    public Game(BoardSpec spec) {
+        startNewGame(spec);
+    }
+
+    /**
+     * Creates a new game whose randomness is fully determined by the given seed.
+     */
+    public Game(BoardSpec spec, long seed) {
+        startNewGame(spec, seed);
+    }
+
+    /**
+     * Shell for a saved game: empty boards and the saved journal, filled in by {@link GameSave}.
+     */
+    Game(BoardSpec spec, long seed, MoveJournal journal) {
+        startNewGame(spec, seed, journal, false);
     }
 
     /**
      * Initializes or resets all game data for the given difficulty.
-     * Creates two boards, sets initial lives, score and game state.
      */
     public void startNewGame(Difficulty difficulty) {
-        this.difficulty = difficulty;
-        this.sharedLives = difficulty.getStartingLives();
-        this.sharedScore = 0;
-        this.gameState = GameState.RUNNING;
+        startNewGame(BoardSpec.of(difficulty));
+    }
+
+    /**
+     * Initializes or resets all game data for the given spec.
+     * Creates two boards, sets initial lives, score and game state.
+     */
+    public void startNewGame(BoardSpec spec) {
+        startNewGame(spec, GameRandom.newSeed());
+    }
+
+    /**
+     * Same as {@link #startNewGame(BoardSpec)}, but seeded: the same seed and the same moves
+     * give the same layouts, rewards, surprises and question picks.
+     */
+    public void startNewGame(BoardSpec spec, long seed) {
+        startNewGame(spec, seed, new MoveJournal(spec, seed), true);
+    }
+
+    private void startNewGame(BoardSpec spec, long seed, MoveJournal journal, boolean placeLayout) {
+        this.spec = spec;
+        this.random = new GameRandom(seed);
+        this.journal = journal;
+        this.undoHistory = (undoHistory == null) ? null : new UndoHistory(undoHistory.budgetBytes());
+        this.vitals.set(pack(GameState.RUNNING, spec.getStartingLives(), 0));
         this.currentPlayerTurn = 1;
         this.lastActionMessage = null; // Initialize the message field
         this.totalQuestionsAnswered = 0;
         this.totalCorrectAnswers = 0;
+        this.openMove = null;
 
-        this.board1 = new Board(difficulty, this);
-        this.board2 = new Board(difficulty, this);
+        this.board1 = new Board(spec, this, random.boardLayout(1), random.boardRewards(1), placeLayout);
+        this.board2 = new Board(spec, this, random.boardLayout(2), random.boardRewards(2), placeLayout);
+        board1.setChangeTracking(changeTracking);
+        board2.setChangeTracking(changeTracking);
         this.totalSurprisesOpened = 0;
 
     }
 
     /**
-     * Restarts the game using the last selected difficulty (if available).
+     * Restarts the game using the last selected spec (if available).
      */
     public void restartGame() {
-        if (this.difficulty != null) {
-            startNewGame(this.difficulty);
+        if (this.spec != null) {
+            startNewGame(this.spec);
+        }
+    }
+
+    /**
+     * Makes both boards (and those of games started from this one) collect change sets.
+     */
+    public void setChangeTracking(boolean enabled) {
+        changeTracking = enabled;
+        board1.setChangeTracking(enabled);
+        board2.setChangeTracking(enabled);
+    }
+
+    // --- Moves (transactions) ---
+
+    /**
+     * Opens a move. Until it is committed, status checks are deferred to the commit.
+     *
+     * @throws IllegalStateException if another move is still open, or the game is played in real time
+     */
+    public Move beginMove() {
+        if (realTime) {
+            throw new IllegalStateException("Moves of a real-time game go through RealTimeGame");
+        }
+        if (openMove != null) {
+            throw new IllegalStateException("A move is already in progress");
+        }
+        openMove = new Move(this);
+        return openMove;
+    }
+
+    /**
+     * Called by Move.commit() to close the move before the final status check.
+     */
+    void endMove(Move move) {
+        if (openMove == move) {
+            openMove = null;
+        }
+    }
+
+    /**
+     * Returns true while a move is open.
+     */
+    public boolean isMoveInProgress() {
+        return openMove != null;
+    }
+
+    /**
+     * Puts back the shared counters of a saved game.
+     */
+    void restoreState(int lives, int score, GameState state, int turn,
+                      int questionsAnswered, int correctAnswers, int surprisesOpened) {
+        this.vitals.set(pack(state, lives, score));
+        this.currentPlayerTurn = turn;
+        this.totalQuestionsAnswered = questionsAnswered;
+        this.totalCorrectAnswers = correctAnswers;
+        this.totalSurprisesOpened = surprisesOpened;
+    }
+
+    // --- Undo / redo ---
+
+    /**
+     * Turns on undo for this game (and games started from it) with the given memory budget.
+     * Every move that changes something becomes one undo step.
+     */
+    public void enableUndo(long memoryBudgetBytes) {
+        if (undoHistory == null) {
+            undoHistory = new UndoHistory(memoryBudgetBytes);
+        } else {
+            undoHistory.setBudget(memoryBudgetBytes);
+        }
+    }
+
+    public void disableUndo() {
+        undoHistory = null;
+        if (board1 != null) board1.stopUndoSteps();
+        if (board2 != null) board2.stopUndoSteps();
+    }
+
+    public boolean isUndoEnabled() {
+        return undoHistory != null;
+    }
+
+    public boolean canUndo() {
+        return undoHistory != null && openMove == null && undoHistory.canUndo();
+    }
+
+    public boolean canRedo() {
+        return undoHistory != null && openMove == null && undoHistory.canRedo();
+    }
+
+    /**
+     * Returns the game to the state before the last move.
+     *
+     * @return false if there is nothing to undo (or undo is off)
+     */
+    public boolean undo() {
+        if (!canUndo()) return false;
+        undoHistory.undo(this::apply);
+        journal.recordUndo();
+        return true;
+    }
+
+    /**
+     * Re-applies the last undone move.
+     *
+     * @return false if there is nothing to redo
+     */
+    public boolean redo() {
+        if (!canRedo()) return false;
+        undoHistory.redo(this::apply);
+        journal.recordRedo();
+        return true;
+    }
+
+    /**
+     * Estimated memory held by the undo and redo steps, in bytes.
+     */
+    public long getUndoMemoryUsed() {
+        return undoHistory == null ? 0 : undoHistory.usedBytes();
+    }
+
+    public int getUndoDepth() {
+        return undoHistory == null ? 0 : undoHistory.undoDepth();
+    }
+
+    /**
+     * Called when a move opens: starts recording an undo step, or returns null while undo is off.
+     */
+    UndoStep captureUndoPoint() {
+        return undoHistory == null ? null : new UndoStep(this, board1.beginUndoStep(), board2.beginUndoStep());
+    }
+
+    /**
+     * Called after a move commits: stops recording the step and keeps it if the move changed anything.
+     * Writes outside a move are then not saved into a step already in the history.
+     */
+    void keepUndoPoint(UndoStep step) {
+        if (step == null) return;
+        board1.endUndoStep(step.board1);
+        board2.endUndoStep(step.board2);
+        if (undoHistory == null || !step.changed(this)) return;
+        undoHistory.push(step);
+    }
+
+    /**
+     * Scores, lives and turn when a step began, plus each board's step (old contents of the
+     * cell chunks written since). Applying it goes back to that point.
+     */
+    static final class UndoStep {
+        private final Board.UndoStep board1;
+        private final Board.UndoStep board2;
+        private final long vitals;
+        private final int currentPlayerTurn;
+        private final int totalQuestionsAnswered;
+        private final int totalCorrectAnswers;
+        private final int totalSurprisesOpened;
+
+        private UndoStep(Game game, Board.UndoStep board1, Board.UndoStep board2) {
+            this.board1 = board1;
+            this.board2 = board2;
+            this.vitals = game.vitals.get();
+            this.currentPlayerTurn = game.currentPlayerTurn;
+            this.totalQuestionsAnswered = game.totalQuestionsAnswered;
+            this.totalCorrectAnswers = game.totalCorrectAnswers;
+            this.totalSurprisesOpened = game.totalSurprisesOpened;
+        }
+
+        long bytes() {
+            return 48 + board1.bytes() + board2.bytes();
         }
+
+        private boolean changed(Game game) {
+            return board1.changed(game.board1) || board2.changed(game.board2)
+                    || vitals != game.vitals.get() || currentPlayerTurn != game.currentPlayerTurn
+                    || totalQuestionsAnswered != game.totalQuestionsAnswered
+                    || totalCorrectAnswers != game.totalCorrectAnswers
+                    || totalSurprisesOpened != game.totalSurprisesOpened;
+        }
+    }
+
+    /**
+     * Goes back to where the step began and returns the inverse step.
+     */
+    private UndoStep apply(UndoStep step) {
+        UndoStep inverse = new UndoStep(this, board1.applyUndoStep(step.board1), board2.applyUndoStep(step.board2));
+        this.vitals.set(step.vitals);
+        this.currentPlayerTurn = step.currentPlayerTurn;
+        this.totalQuestionsAnswered = step.totalQuestionsAnswered;
+        this.totalCorrectAnswers = step.totalCorrectAnswers;
+        this.totalSurprisesOpened = step.totalSurprisesOpened;
+        return inverse;
+    }
+
+    // --- Shared vitals (lives, score, state) ---
+
+    private static long pack(GameState state, int lives, int score) {
+        return (long) state.ordinal() << 56 | (lives & 0xFFFFFFL) << 32 | (score & 0xFFFFFFFFL);
+    }
+
+    private static int scoreOf(long v) {
+        return (int) v;
+    }
+
+    private static int livesOf(long v) {
+        return (int) (v << 8 >> 40);
+    }
+
+    private static GameState stateOf(long v) {
+        return STATES[(int) (v >>> 56)];
     }
 
     // --- Game Status & End Game Logic ---
@@ -81,65 +370,102 @@ public class Game {
     /**
      * Checks if the game has been won or lost, based on lives and safe cells.
      * Updates the game state and triggers end-of-game processing if needed.
+     * While a move is open, the check is deferred to the move's commit.
      */
     public void checkGameStatus() {
-        if (gameState != GameState.RUNNING) return;
+        if (getGameState() != GameState.RUNNING) return;
 
-        // Loss
-        if (sharedLives <= 0) {
-            sharedLives = 0;
-            gameState = GameState.LOST;
-            endGameProcessing();
+        if (openMove != null) {
+            openMove.deferStatusCheck();
             return;
         }
 
-        // Win: one board found ALL mines
-        if (board1.areAllMinesFound() || board2.areAllMinesFound()) {
-            gameState = GameState.WON;
-            endGameProcessing();
+        long start = startTiming();
+        if (getSharedLives() <= 0) {
+            // Loss
+            endGame(GameState.LOST);
+        } else if (board1.areAllMinesFound() || board2.areAllMinesFound()) {
+            // Win: one board found ALL mines
+            endGame(GameState.WON);
         }
+        Latency.stop(STATUS_CHECK_LATENCY, start);
     }
 
     /**
-     * Performs all necessary steps when the game ends (Win or Loss).
-     * This includes auto-revealing all cells and converting remaining lives to points.
+     * Moves the game from RUNNING to the result in one compare-and-set that also converts the
+     * remaining lives to points, so only one caller ends the game and no update slips in between.
+     * A loss is dropped if lives came back above zero before it could be applied.
      */
-    private void endGameProcessing() {
-        if (gameState == GameState.WON || gameState == GameState.LOST) {
-            System.out.println("=== GAME ENDED: " + gameState + " ===");
-
-            // 1. Convert remaining lives to points
-            int lifeValue = difficulty.getActivationCost();
-            int lifeBonus = sharedLives * lifeValue;
-            sharedScore += lifeBonus;
+    private void endGame(GameState result) {
+        long v;
+        long ended;
+        int lives;
+        do {
+            v = vitals.get();
+            if (stateOf(v) != GameState.RUNNING) return;
+            if (result == GameState.LOST && livesOf(v) > 0) return;
+            lives = Math.max(0, livesOf(v));
+            ended = pack(result, lives, scoreOf(v) + lives * spec.getActivationCost());
+        } while (!vitals.compareAndSet(v, ended));
+        endGameProcessing(lives);
+    }
 
-            System.out.println("Final Life Bonus: " + sharedLives + " lives * " + lifeValue + " pts = +" + lifeBonus + " points.");
+    /**
+     * Performs all necessary steps when the game ends (Win or Loss).
+     * This includes auto-revealing all cells; the lives were already converted to points.
+     */
+    private void endGameProcessing(int lives) {
+        int lifeValue = spec.getActivationCost();
+        if (logging(EventLog.Level.INFO)) {
+            EventLog.log(EventLog.Level.INFO, "game.end", getGameState().name(),
+                    "lives", lives, "lifeValue", lifeValue, "lifeBonus", lives * lifeValue, null, 0);
+        }
 
-            // 2. Auto-reveal all cells
+        // Auto-reveal all cells (a real-time game does this under its board locks)
+        if (!realTime) {
             if (board1 != null) board1.revealAll();
             if (board2 != null) board2.revealAll();
-
-            printGameStatus();
         }
+
+        if (logging) printGameStatus();
+    }
+
+    /**
+     * Whether this game's records at the given level reach the event log.
+     */
+    boolean logging(EventLog.Level level) {
+        return logging && EventLog.isEnabled(level);
     }
 
     /**
-     * Prints game state to the console (for debugging).
+     * Turns latency recording of this game's model phases on or off; the game plays the same.
+     */
+    public void setTiming(boolean enabled) {
+        this.timing = enabled;
+    }
+
+    /**
+     * {@link Latency#start()} if this game is timed, else {@link Latency#OFF}.
+     */
+    long startTiming() {
+        return timing ? Latency.start() : Latency.OFF;
+    }
+
+    /**
+     * Turns the game's event log records (rewards, life cap, game end) on or off; the game plays the same.
+     */
+    public void setLogging(boolean enabled) {
+        this.logging = enabled;
+    }
+
+    /**
+     * Logs the game state as one "game.status" event (for debugging).
      */
     public void printGameStatus() {
-        System.out.println("=== GAME STATUS UPDATE ===");
-        System.out.println("State: " + gameState);
-        System.out.println("Lives: " + sharedLives);
-        System.out.println("Score: " + sharedScore);
-        System.out.println("Board 1 Safe Cells Left: " + board1.getSafeCellsRemaining());
-        System.out.println("Board 2 Safe Cells Left: " + board2.getSafeCellsRemaining());
-
-        if (gameState == GameState.WON) {
-            System.out.println("RESULT: VICTORY! The team cleared all mines.");
-        } else if (gameState == GameState.LOST) {
-            System.out.println("RESULT: GAME OVER. The team lost.");
-        }
-        System.out.println("==========================");
+        long v = vitals.get();
+        EventLog.log(EventLog.Level.INFO, "game.status", stateOf(v).name(),
+                "lives", livesOf(v), "score", scoreOf(v),
+                "safeLeft1", board1.getSafeCellsRemaining(), "safeLeft2", board2.getSafeCellsRemaining());
     }
 
     // --- Life Management ---
@@ -149,13 +475,15 @@ public class Game {
      * Extra lives above the cap are converted to score.
      */
     public void setSharedLives(int newLives) {
-        if (newLives > MAX_LIVES) {
-            int excess = newLives - MAX_LIVES;
-            this.sharedLives = MAX_LIVES;
-            this.sharedScore += excess * difficulty.getActivationCost();
-            System.out.println("Life cap reached! Converted " + excess + " excess lives to " + (excess * difficulty.getActivationCost()) + " points.");
-        } else {
-            this.sharedLives = newLives;
+        int lives = Math.min(newLives, MAX_LIVES);
+        int excess = newLives - lives;
+        int bonus = excess * spec.getActivationCost();
+        long v;
+        do {
+            v = vitals.get();
+        } while (!vitals.compareAndSet(v, pack(stateOf(v), lives, scoreOf(v) + bonus)));
+        if (excess > 0 && logging(EventLog.Level.INFO)) {
+            EventLog.log(EventLog.Level.INFO, "life.capped", "lives", excess, "points", bonus);
         }
         checkGameStatus();
     }
@@ -167,11 +495,17 @@ public class Game {
      * @param pointsValue score value to add if life is converted due to cap.
      */
     public void addLife(int pointsValue) {
-        if (sharedLives < MAX_LIVES) {
-            sharedLives++;
-        } else {
-            sharedScore += pointsValue;
-            System.out.println("Life cap reached! Converted life gain to " + pointsValue + " points.");
+        long v;
+        long next;
+        boolean capped;
+        do {
+            v = vitals.get();
+            capped = livesOf(v) >= MAX_LIVES;
+            next = capped ? pack(stateOf(v), livesOf(v), scoreOf(v) + pointsValue)
+                    : pack(stateOf(v), livesOf(v) + 1, scoreOf(v));
+        } while (!vitals.compareAndSet(v, next));
+        if (capped && logging(EventLog.Level.INFO)) {
+            EventLog.log(EventLog.Level.INFO, "life.capped", "lives", 1, "points", pointsValue);
         }
         checkGameStatus();
     }
@@ -180,19 +514,48 @@ public class Game {
      * Deducts lives and triggers a status check for possible loss.
      */
     public void deductLife(int lives) {
-        this.sharedLives -= lives;
+        long v;
+        do {
+            v = vitals.get();
+        } while (!vitals.compareAndSet(v, pack(stateOf(v), livesOf(v) - lives, scoreOf(v))));
         checkGameStatus();
     }
 
     // --- Getters and Setters ---
 
     public void setSharedScore(int sharedScore) {
-        this.sharedScore = sharedScore;
+        long v;
+        do {
+            v = vitals.get();
+        } while (!vitals.compareAndSet(v, pack(stateOf(v), livesOf(v), sharedScore)));
+        checkGameStatus();
+    }
+
+    /**
+     * Adds to (or, if negative, takes from) the shared score and checks the status.
+     * Unlike {@code setSharedScore(getSharedScore() + delta)} this cannot lose a concurrent update.
+     */
+    public void adjustScore(int delta) {
+        addScore(delta);
         checkGameStatus();
     }
 
+    /**
+     * Adds to the shared score without a status check.
+     * Used by Board when a single reveal scores many cells; the caller checks status once.
+     */
+    void addScore(int delta) {
+        long v;
+        do {
+            v = vitals.get();
+        } while (!vitals.compareAndSet(v, pack(stateOf(v), livesOf(v), scoreOf(v) + delta)));
+    }
+
     public void setGameState(GameState gameState) {
-        this.gameState = gameState;
+        long v;
+        do {
+            v = vitals.get();
+        } while (!vitals.compareAndSet(v, pack(gameState, livesOf(v), scoreOf(v))));
     }
 
     // --- LOGIC FROM IMAGES ---
@@ -216,22 +579,22 @@ public class Game {
      * according to game difficulty and question level.
      */
     public ScoreRules.Result processQuestionAnswer(QuestionLevel qLevel, boolean isCorrect) {
-        if (gameState != GameState.RUNNING) {
+        if (getGameState() != GameState.RUNNING) {
             return new ScoreRules.Result(0, 0, "Game not running.");
         }
 
         totalQuestionsAnswered++;
         if (isCorrect) totalCorrectAnswers++;
 
-        ScoreRules.Result r = ScoreRules.compute(difficulty, qLevel, isCorrect);
+        ScoreRules.Result r = ScoreRules.compute(spec.getRules(), qLevel, isCorrect, random.stream(GameRandom.SCORE));
 
         // apply score delta
-        sharedScore += r.deltaScore;
+        addScore(r.deltaScore);
 
         // apply lives delta (with cap handling through addLife)
         if (r.deltaLives > 0) {
             for (int i = 0; i < r.deltaLives; i++) {
-                addLife(difficulty.getActivationCost());
+                addLife(spec.getActivationCost());
             }
         } else if (r.deltaLives < 0) {
             deductLife(-r.deltaLives);
@@ -248,6 +611,31 @@ public class Game {
         QuestionResult presentQuestion(Question question);
     }
 
+    /**
+     * Supplies the next question instead of the question manager's random pick.
+     */
+    public interface QuestionSource {
+        Question nextQuestion();
+    }
+
+    public void setQuestionSource(QuestionSource source) {
+        this.questionSource = source;
+    }
+
+    public boolean hasQuestionSource() {
+        return questionSource != null;
+    }
+
+    /**
+     * Picks the question for a QUESTION cell: from the question source if one is set,
+     * otherwise a random unused one from the question manager (game's question stream).
+     */
+    public Question drawQuestion() {
+        if (questionSource != null) return questionSource.nextQuestion();
+        if (questionManager == null) return null;
+        return questionManager.getRandomUnusedQuestionAnyLevel(random.stream(GameRandom.QUESTIONS));
+    }
+
 
     public void setQuestionPresenter(QuestionPresenter presenter) {
         this.questionPresenter = presenter;
@@ -261,24 +649,58 @@ public class Game {
         return questionManager;
     }
 
+    /**
+     * Returns the random source of the current game.
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Returns the journal of the current game (seed, spec and every move so far).
+     */
+    public MoveJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Returns 1 or 2 for this game's boards, 0 for any other board.
+     */
+    public int getBoardNumber(Board board) {
+        if (board == board1) return 1;
+        if (board == board2) return 2;
+        return 0;
+    }
+
+    /**
+     * Returns the seed of the current game; replaying it with the same moves gives the same game.
+     */
+    public long getSeed() {
+        return random.getSeed();
+    }
+
     /**
      * Applies positive rewards after a correct answer: adds points and lives.
      */
     private void addRewards(int points, int lives) {
-        this.sharedScore += points;
+        addScore(points);
         for (int i = 0; i < lives; i++) {
             addLife(points);
         }
-        System.out.println("Correct! +" + points + " pts, +" + lives + " lives.");
+        if (logging(EventLog.Level.INFO)) {
+            EventLog.log(EventLog.Level.INFO, "question.correct", "points", points, "lives", lives);
+        }
     }
 
     /**
      * Applies penalties after an incorrect answer: removes points and lives.
      */
     private void applyPenalties(int points, int lives) {
-        this.sharedScore -= points;
+        addScore(-points);
         deductLife(lives);
-        System.out.println("Incorrect! -" + points + " pts, -" + lives + " lives.");
+        if (logging(EventLog.Level.INFO)) {
+            EventLog.log(EventLog.Level.INFO, "question.wrong", "points", -points, "lives", -lives);
+        }
     }
 
     // --- Turn Handling ---
@@ -288,12 +710,14 @@ public class Game {
     }
 
     public void setCurrentPlayerTurn(int currentPlayerTurn) {
+        if (this.currentPlayerTurn != currentPlayerTurn) journal.recordTurn(currentPlayerTurn);
         this.currentPlayerTurn = currentPlayerTurn;
     }
 
     public void switchTurn() {
-        if (gameState != GameState.RUNNING) return;
+        if (getGameState() != GameState.RUNNING) return;
         currentPlayerTurn = (currentPlayerTurn == 1) ? 2 : 1;
+        journal.recordTurn(currentPlayerTurn);
     }
 
     public String getAndClearLastActionMessage() {
@@ -309,7 +733,7 @@ public class Game {
     // --- Getters ---
 
     public GameState getGameState() {
-        return gameState;
+        return stateOf(vitals.get());
     }
 
     public Board getBoard1() {
@@ -320,16 +744,37 @@ public class Game {
         return board2;
     }
 
+    /**
+     * Returns the preset whose rules apply (question scoring, special effects).
+     */
     public Difficulty getDifficulty() {
-        return difficulty;
+        return (spec != null) ? spec.getRules() : null;
+    }
+
+    /**
+     * Returns the full board spec (sizes and rule values) of this game.
+     */
+    public BoardSpec getSpec() {
+        return spec;
     }
 
     public int getSharedLives() {
-        return sharedLives;
+        return livesOf(vitals.get());
     }
 
     public int getSharedScore() {
-        return sharedScore;
+        return scoreOf(vitals.get());
+    }
+
+    /**
+     * Marks this game as driven by a {@link RealTimeGame} (or back to turn-based).
+     */
+    void setRealTime(boolean realTime) {
+        this.realTime = realTime;
+    }
+
+    public boolean isRealTime() {
+        return realTime;
     }
 
     public int getMaxLives() {
@@ -348,8 +793,13 @@ public class Game {
         return questionPresenter != null;
     }
 
+    /**
+     * Shows the question through the presenter and records the outcome in the journal.
+     */
     public QuestionResult presentQuestion(Question q) {
-        return questionPresenter.presentQuestion(q);
+        QuestionResult result = questionPresenter.presentQuestion(q);
+        journal.recordQuestion(q.getId(), q.getQuestionLevel(), result);
+        return result;
     }
 
     public int getTotalSurprisesOpened() {
@@ -1,5 +1,7 @@
 package Model;
 
+import util.EventLog;
+
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -75,7 +77,7 @@ public class GameHistoryManager {
                 in.transferTo(out);
             }
         } catch (Exception e) {
-            System.out.println("Failed to seed history from resources: " + e.getMessage());
+            EventLog.log(EventLog.Level.WARN, "history.seedFailed", String.valueOf(e.getMessage()));
         }
     }
 
@@ -104,10 +106,11 @@ public class GameHistoryManager {
         if (entry == null) return;
 
         // Debug information useful during development
-        System.out.println("ADDING HISTORY ENTRY: " + entry);
-        System.out.println("CSV PATH USED: " + csvPath);
-        System.out.println("ABSOLUTE PATH: " + new java.io.File(csvPath).getAbsolutePath());
-        System.out.println("CAN WRITE: " + new java.io.File(csvPath).canWrite());
+        if (EventLog.isEnabled(EventLog.Level.DEBUG)) {
+            EventLog.log(EventLog.Level.DEBUG, "history.add", new File(csvPath).getAbsolutePath(),
+                    "score", entry.getFinalScore(), "lives", entry.getLivesLeft(),
+                    "canWrite", new File(csvPath).canWrite() ? 1 : 0, null, 0);
+        }
 
         entries.add(entry);
         saveToFile();
@@ -124,18 +127,9 @@ public class GameHistoryManager {
     private void saveToFile() {
         try (BufferedWriter bw = new BufferedWriter(
                 new OutputStreamWriter(new FileOutputStream(csvPath), StandardCharsets.UTF_8))) {
-
-            // CSV header
-            bw.write("timestamp,player1,player2,difficulty,result,finalScore,livesLeft,durationSeconds,totalQuestions,correctAnswers");
-            bw.newLine();
-
-            for (GameHistoryEntry e : entries) {
-                bw.write(toCsvLine(e));
-                bw.newLine();
-            }
-
+            writeCsv(bw, entries);
         } catch (IOException ex) {
-            System.out.println("Failed to save history: " + ex.getMessage());
+            EventLog.log(EventLog.Level.WARN, "history.saveFailed", String.valueOf(ex.getMessage()));
         }
     }
 
@@ -150,24 +144,46 @@ public class GameHistoryManager {
 
         try (BufferedReader br = new BufferedReader(
                 new InputStreamReader(new FileInputStream(f), StandardCharsets.UTF_8))) {
+            entries.addAll(readCsv(br));
+        } catch (IOException ex) {
+            EventLog.log(EventLog.Level.WARN, "history.loadFailed", String.valueOf(ex.getMessage()));
+        }
+    }
 
-            String line = br.readLine(); // skip header
-            if (line == null) return;
+    /**
+     * Writes the header and one line per entry.
+     * Shared by {@link #saveToFile()} and the benchmarks, which have no history file.
+     */
+    public static void writeCsv(BufferedWriter bw, List<GameHistoryEntry> entries) throws IOException {
+        bw.write("timestamp,player1,player2,difficulty,result,finalScore,livesLeft,durationSeconds,totalQuestions,correctAnswers");
+        bw.newLine();
 
-            while ((line = br.readLine()) != null) {
-                GameHistoryEntry entry = parseCsvLine(line);
-                if (entry != null) entries.add(entry);
-            }
+        for (GameHistoryEntry e : entries) {
+            bw.write(toCsvLine(e));
+            bw.newLine();
+        }
+    }
 
-        } catch (IOException ex) {
-            System.out.println("Failed to load history: " + ex.getMessage());
+    /**
+     * Reads entries written by {@link #writeCsv}, skipping the header and corrupted lines.
+     */
+    public static List<GameHistoryEntry> readCsv(BufferedReader br) throws IOException {
+        List<GameHistoryEntry> read = new ArrayList<>();
+
+        String line = br.readLine(); // skip header
+        if (line == null) return read;
+
+        while ((line = br.readLine()) != null) {
+            GameHistoryEntry entry = parseCsvLine(line);
+            if (entry != null) read.add(entry);
         }
+        return read;
     }
 
     /**
      * Converts a GameHistoryEntry into a single CSV line.
      */
-    private String toCsvLine(GameHistoryEntry e) {
+    private static String toCsvLine(GameHistoryEntry e) {
         return escape(e.getTimestamp().toString()) + "," +
                 escape(e.getPlayer1Name()) + "," +
                 escape(e.getPlayer2Name()) + "," +
@@ -183,7 +199,7 @@ public class GameHistoryManager {
     /**
      * Parses a CSV line back into a GameHistoryEntry object.
      */
-    private GameHistoryEntry parseCsvLine(String line) {
+    private static GameHistoryEntry parseCsvLine(String line) {
         List<String> parts = splitCsv(line);
         if (parts.size() < 10) return null;
 
@@ -210,7 +226,7 @@ public class GameHistoryManager {
     /**
      * Escapes a string for safe CSV writing.
      */
-    private String escape(String s) {
+    private static String escape(String s) {
         if (s == null) s = "";
         if (s.contains(",") || s.contains("\"") || s.contains("\n")) {
             s = s.replace("\"", "\"\"");
@@ -222,7 +238,7 @@ public class GameHistoryManager {
     /**
      * Reverses CSV escaping back into the original string.
      */
-    private String unescape(String s) {
+    private static String unescape(String s) {
         if (s == null) return "";
         s = s.trim();
         if (s.startsWith("\"") && s.endsWith("\"") && s.length() >= 2) {
@@ -234,7 +250,7 @@ public class GameHistoryManager {
     /**
      * Splits a CSV line while respecting quoted values.
      */
-    private List<String> splitCsv(String line) {
+    private static List<String> splitCsv(String line) {
         List<String> out = new ArrayList<>();
         StringBuilder cur = new StringBuilder();
         boolean inQuotes = false;
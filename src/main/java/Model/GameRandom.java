@@ -0,0 +1,130 @@
+package Model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Per-game source of randomness.
+ * <p>
+ * A game is seeded once; every consumer (board layout, rewards, surprises, scoring, questions)
+ * asks for its own named stream. A stream depends only on the seed and its name, so the order in
+ * which consumers ask for streams or draw from them never changes another consumer's results,
+ * and the same seed always replays the same game.
+ * <p>
+ * Streams are SplitMix64 generators (the algorithm behind {@link SplittableRandom}) whose whole
+ * state is one long, so a saved game can put every stream back exactly where it was.
+ * Streams are not thread-safe; each one belongs to a single consumer.
+ */
+public final class GameRandom {
+
+    /** Stream names used by the model. */
+    public static final String SURPRISE = "surprise";
+    public static final String SCORE = "score";
+    public static final String QUESTIONS = "questions";
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    // seeds games that were not given an explicit seed
+    private static final SplittableRandom SEEDER = new SplittableRandom();
+
+    private final long seed;
+    private final Map<String, Stream> streams = new HashMap<>();
+
+    public GameRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns a fresh, unpredictable seed.
+     */
+    public static long newSeed() {
+        synchronized (SEEDER) {
+            return SEEDER.nextLong();
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the stream with the given name, creating it on first use.
+     * Asking again for the same name continues the same stream.
+     */
+    public synchronized Stream stream(String name) {
+        return streams.computeIfAbsent(name, n -> new Stream(mix(seed + GOLDEN_GAMMA * nameHash(n))));
+    }
+
+    /**
+     * Returns a fresh stream for one numbered item of a family (e.g. one chunk of an endless board).
+     * It depends only on the seed, the name and the index, and is not kept: asking again starts it over.
+     */
+    public Stream stream(String name, long index) {
+        return new Stream(mix(mix(seed + GOLDEN_GAMMA * nameHash(name)) + GOLDEN_GAMMA * index));
+    }
+
+    /**
+     * Current position of every stream created so far, by name.
+     */
+    synchronized Map<String, Long> streamStates() {
+        Map<String, Long> states = new HashMap<>();
+        streams.forEach((name, stream) -> states.put(name, stream.state));
+        return states;
+    }
+
+    /**
+     * Moves the named streams to saved positions.
+     */
+    synchronized void restoreStreamStates(Map<String, Long> states) {
+        states.forEach((name, state) -> stream(name).state = state);
+    }
+
+    /**
+     * Layout stream of the given board (1 or 2).
+     */
+    public Stream boardLayout(int boardNumber) {
+        return stream("board" + boardNumber + ".layout");
+    }
+
+    /**
+     * Reward stream of the given board (1 or 2).
+     */
+    public Stream boardRewards(int boardNumber) {
+        return stream("board" + boardNumber + ".rewards");
+    }
+
+    /**
+     * One named random stream.
+     */
+    public static final class Stream implements RandomGenerator {
+        private long state;
+
+        private Stream(long state) {
+            this.state = state;
+        }
+
+        @Override
+        public long nextLong() {
+            state += GOLDEN_GAMMA;
+            return mix(state);
+        }
+    }
+
+    // 64-bit hash of every char of the name; String.hashCode() collides too easily ("Aa" and "BB")
+    private static long nameHash(String name) {
+        long h = name.length();
+        for (int i = 0; i < name.length(); i++) {
+            h = mix(h + GOLDEN_GAMMA + name.charAt(i));
+        }
+        return h;
+    }
+
+    // SplitMix64 finalizer: nearby inputs give unrelated seeds
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,186 @@
+package Model;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Binary save file of an in-progress game.
+ * <p>
+ * Layout (version 2): magic "SMS1", version byte, the game's {@link MoveJournal} (which carries the
+ * spec and seed), the position of every random stream, the shared counters, elapsed time, player
+ * names, the used question ids (sorted, delta-coded), then both boards at 4 bits per cell plus one
+ * bit per special cell and the order of the board's hidden mine index, and a CRC32 of everything before it.
+ * <p>
+ * Loading decodes the cells directly and only recomputes the numbers, so it does not run mine
+ * placement or the no-guess search again. The restored game keeps its seed, journal and random
+ * streams, so it plays on exactly as the saved one would have. The one exception is the area
+ * reward's window index, which is rebuilt rather than saved: among several equally good windows,
+ * a loaded game may pick a different one.
+ */
+public final class GameSave {
+
+    private static final int MAGIC = 0x534D5331; // "SMS1"
+    private static final int VERSION = 2;
+
+    private GameSave() {
+    }
+
+    /**
+     * A decoded save.
+     */
+    public static final class Loaded {
+        public final Game game;
+        public final List<Integer> usedQuestionIds;
+        public final long elapsedMillis;
+        public final String player1Name;
+        public final String player2Name;
+
+        Loaded(Game game, List<Integer> usedQuestionIds, long elapsedMillis, String player1Name, String player2Name) {
+            this.game = game;
+            this.usedQuestionIds = usedQuestionIds;
+            this.elapsedMillis = elapsedMillis;
+            this.player1Name = player1Name;
+            this.player2Name = player2Name;
+        }
+    }
+
+    /**
+     * Encodes the game and the session details the model does not hold.
+     */
+    public static byte[] encode(Game game, Collection<Integer> usedQuestionIds, long elapsedMillis,
+                                String player1Name, String player2Name) {
+        ByteCodec.Writer out = new ByteCodec.Writer(256);
+        out.int32(MAGIC);
+        out.u8(VERSION);
+
+        byte[] journal = game.getJournal().toByteArray();
+        out.varint(journal.length);
+        out.bytes(journal, 0, journal.length);
+
+        Map<String, Long> streams = new TreeMap<>(game.getRandom().streamStates());
+        out.varint(streams.size());
+        streams.forEach((name, state) -> {
+            out.string(name);
+            out.int64(state);
+        });
+
+        out.u8(game.getGameState().ordinal());
+        out.u8(game.getCurrentPlayerTurn());
+        out.varint(game.getSharedLives());
+        out.varint(ByteCodec.zigzag(game.getSharedScore()));
+        out.varint(game.getTotalQuestionsAnswered());
+        out.varint(game.getTotalCorrectAnswers());
+        out.varint(game.getTotalSurprisesOpened());
+        out.int64(elapsedMillis);
+        out.string(player1Name == null ? "" : player1Name);
+        out.string(player2Name == null ? "" : player2Name);
+
+        int[] ids = usedQuestionIds.stream().mapToInt(Integer::intValue).sorted().toArray();
+        out.varint(ids.length);
+        int previous = 0;
+        for (int id : ids) {
+            out.varint(ByteCodec.zigzag(id - previous));
+            previous = id;
+        }
+
+        game.getBoard1().writeCells(out);
+        game.getBoard2().writeCells(out);
+
+        CRC32 crc = new CRC32();
+        crc.update(out.buffer(), 0, out.length());
+        out.int32((int) crc.getValue());
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a save written by {@link #encode}.
+     *
+     * @throws IllegalArgumentException if the data is not a save, has an unknown version or is damaged
+     */
+    public static Loaded decode(byte[] bytes) {
+        if (bytes.length < 9) throw new IllegalArgumentException("Not a saved game");
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 4);
+        ByteCodec.Reader tail = new ByteCodec.Reader(bytes, bytes.length - 4, bytes.length);
+        try {
+            ByteCodec.Reader in = new ByteCodec.Reader(bytes, 0, bytes.length - 4);
+            if (in.int32() != MAGIC) throw new IllegalArgumentException("Not a saved game");
+            int version = in.u8();
+            if (version != VERSION) throw new IllegalArgumentException("Unsupported save version " + version);
+            if ((int) crc.getValue() != tail.int32()) throw new IllegalArgumentException("Saved game is damaged");
+
+            MoveJournal journal = MoveJournal.fromBytes(in.bytes(in.varint()));
+            Game game = new Game(journal.getSpec(), journal.getSeed(), journal);
+
+            Map<String, Long> streams = new TreeMap<>();
+            for (int n = in.varint(); n > 0; n--) {
+                streams.put(in.string(), in.int64());
+            }
+            game.getRandom().restoreStreamStates(streams);
+
+            GameState state = GameState.values()[in.u8()];
+            int turn = in.u8();
+            int lives = in.varint();
+            int score = ByteCodec.unzigzag(in.varint());
+            int answered = in.varint();
+            int correct = in.varint();
+            int surprises = in.varint();
+            game.restoreState(lives, score, state, turn, answered, correct, surprises);
+
+            long elapsed = in.int64();
+            String player1 = in.string();
+            String player2 = in.string();
+
+            int count = in.varint();
+            List<Integer> ids = new ArrayList<>(count);
+            int previous = 0;
+            for (int k = 0; k < count; k++) {
+                previous += ByteCodec.unzigzag(in.varint());
+                ids.add(previous);
+            }
+
+            game.getBoard1().readCells(in);
+            game.getBoard2().readCells(in);
+            if (in.hasMore()) throw new IllegalArgumentException("Saved game has trailing data");
+            return new Loaded(game, ids, elapsed, player1, player2);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Saved game is truncated", e);
+        }
+    }
+
+    /**
+     * Writes a save atomically: a temporary file in the same directory is moved over the target,
+     * so a crash never leaves a half-written save behind.
+     */
+    public static void write(Path file, byte[] bytes) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tmp, bytes);
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Reads and decodes a save file.
+     */
+    public static Loaded read(Path file) throws IOException {
+        return decode(Files.readAllBytes(file));
+    }
+}
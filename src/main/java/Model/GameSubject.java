@@ -1,5 +1,8 @@
 package Model;
 
+import util.Latency;
+import util.LatencyHistogram;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -8,6 +11,9 @@ import java.util.List;
  * Manages a list of observers and notifies them when the game state changes.
  */
 public class GameSubject {
+    // Time spent in observer callbacks (see util.Latency)
+    private static final LatencyHistogram OBSERVERS_LATENCY = Latency.histogram("model.observers");
+
     private final List<GameObserver> observers = new ArrayList<>();
     private GameStateData currentState;
 
@@ -39,9 +45,11 @@ public class GameSubject {
      */
     public void notifyObservers(GameStateData newState) {
         this.currentState = newState;
+        long start = Latency.start();
         for (GameObserver observer : observers) {
             observer.update(newState);
         }
+        Latency.stop(OBSERVERS_LATENCY, start);
     }
 
     /**
@@ -0,0 +1,14 @@
+package Model;
+
+/**
+ * How a board's mines are laid out.
+ * - STANDARD: placed when the board is created (the original behavior)
+ * - FIRST_CLICK_SAFE: placed on the first reveal, keeping the 3x3 area around it clear
+ * - NO_GUESS: like FIRST_CLICK_SAFE, retried until the built-in deterministic solver
+ *   can clear the board from the first click (within the spec's time budget)
+ */
+public enum GenerationMode {
+    STANDARD,
+    FIRST_CLICK_SAFE,
+    NO_GUESS
+}
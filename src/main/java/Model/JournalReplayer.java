@@ -0,0 +1,146 @@
+package Model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Rebuilds a {@link Game} from a {@link MoveJournal}.
+ * <p>
+ * The game is recreated from the journal's spec and seed, then every recorded action is applied
+ * again as its own {@link Move}. Question cells get the recorded question (id and level) and the
+ * recorded answer, so no question bank or UI is needed. NO_GUESS boards regenerate with the
+ * recorded number of layout attempts rather than their time budget. The replayed game records a
+ * new journal that is identical to the original.
+ */
+public final class JournalReplayer {
+
+    private JournalReplayer() {
+    }
+
+    /**
+     * Replays the whole journal.
+     */
+    public static Game replay(MoveJournal journal) {
+        return replay(journal, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Replays the first {@code actions} player actions (reveal, flag, chord, activate, turn switch, undo, redo);
+     * question outcomes belong to the activation that asked them.
+     */
+    public static Game replay(MoveJournal journal, int actions) {
+        Game game = new Game(journal.getSpec(), journal.getSeed());
+
+        // question outcomes are read back in order while activations run
+        Deque<Question> questions = new ArrayDeque<>();
+        Deque<QuestionResult> answers = new ArrayDeque<>();
+        boolean[] usesUndo = new boolean[1];
+        journal.accept(new Player(null) {
+            @Override
+            public void question(int questionId, Game.QuestionLevel level, QuestionResult result) {
+                questions.add(new Question(questionId, "", List.of(), 'A', level.name()));
+                answers.add(result);
+            }
+
+            @Override
+            public void undo() {
+                usesUndo[0] = true;
+            }
+
+            @Override
+            public void layout(int boardNumber, int attempts) {
+                (boardNumber == 2 ? game.getBoard2() : game.getBoard1()).replayLayoutAttempts(attempts);
+            }
+        });
+        game.setQuestionSource(questions::poll);
+        game.setQuestionPresenter(q -> answers.isEmpty() ? QuestionResult.SKIPPED : answers.poll());
+        // every recorded undo succeeded, so an unbounded history can always repeat it
+        if (usesUndo[0]) game.enableUndo(Long.MAX_VALUE);
+
+        Player player = new Player(game);
+        player.remaining = actions;
+        journal.accept(player);
+        return game;
+    }
+
+    /**
+     * Applies journal actions to a game; with no game it ignores them.
+     */
+    private static class Player implements MoveJournal.Visitor {
+        private final Game game;
+        private int remaining = Integer.MAX_VALUE;
+
+        Player(Game game) {
+            this.game = game;
+        }
+
+        @Override
+        public void reveal(int boardNumber, int row, int col) {
+            if (!next()) return;
+            Move move = game.beginMove();
+            move.reveal(board(boardNumber), row, col);
+            move.commit();
+        }
+
+        @Override
+        public void flag(int boardNumber, int row, int col) {
+            if (!next()) return;
+            Move move = game.beginMove();
+            move.flag(board(boardNumber), row, col);
+            move.commit();
+        }
+
+        @Override
+        public void chord(int boardNumber, int row, int col) {
+            if (!next()) return;
+            Move move = game.beginMove();
+            move.chord(board(boardNumber), row, col);
+            move.commit();
+        }
+
+        @Override
+        public void activate(int boardNumber, int row, int col) {
+            if (!next()) return;
+            Move move = game.beginMove();
+            move.activate(board(boardNumber), row, col);
+            move.commit();
+        }
+
+        @Override
+        public void question(int questionId, Game.QuestionLevel level, QuestionResult result) {
+            // consumed by the activation through the question source
+        }
+
+        @Override
+        public void layout(int boardNumber, int attempts) {
+            // handed to the boards before the replay starts
+        }
+
+        @Override
+        public void turn(int player) {
+            if (!next()) return;
+            game.setCurrentPlayerTurn(player);
+        }
+
+        @Override
+        public void undo() {
+            if (next()) game.undo();
+        }
+
+        @Override
+        public void redo() {
+            if (next()) game.redo();
+        }
+
+        private boolean next() {
+            if (game == null || remaining <= 0) return false;
+            remaining--;
+            return true;
+        }
+
+        private Board board(int boardNumber) {
+            return boardNumber == 2 ? game.getBoard2() : game.getBoard1();
+        }
+    }
+}
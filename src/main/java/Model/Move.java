@@ -0,0 +1,144 @@
+package Model;
+
+/**
+ * One player move applied as a transaction on a Game.
+ * <p>
+ * Usage: {@code Move m = game.beginMove(); m.reveal(board, r, c); Move.Summary s = m.commit();}
+ * <p>
+ * While a move is open, score and lives change as usual but win/loss evaluation
+ * is deferred: every {@link Game#checkGameStatus()} call is only recorded, and
+ * the status is evaluated once at {@link #commit()}. The caller publishes the
+ * new state to observers once, after commit.
+ */
+public class Move {
+
+    private final Game game;
+    private final int scoreBefore;
+    private final int livesBefore;
+    private final int revealedBefore;
+    private final Game.UndoStep undoPoint;   // null while undo is off
+
+    private int statusChecksDeferred;
+    private boolean committed;
+
+    Move(Game game) {
+        this.game = game;
+        this.scoreBefore = game.getSharedScore();
+        this.livesBefore = game.getSharedLives();
+        this.revealedBefore = revealedCells(game);
+        this.undoPoint = game.captureUndoPoint();
+    }
+
+    // --- Actions ---
+
+    /**
+     * Reveals a cell (with cascade) as part of this move.
+     */
+    public void reveal(Board board, int r, int c) {
+        ensureOpen();
+        game.getJournal().recordReveal(game.getBoardNumber(board), r, c);
+        board.revealCell(r, c);
+    }
+
+    /**
+     * Toggles a flag as part of this move.
+     *
+     * @return true if the flag state changed
+     */
+    public boolean flag(Board board, int r, int c) {
+        ensureOpen();
+        game.getJournal().recordFlag(game.getBoardNumber(board), r, c);
+        return board.toggleFlag(r, c);
+    }
+
+    /**
+     * Chords a revealed number as part of this move: all its reveals and cascades belong to this move.
+     *
+     * @return true if any neighbor was revealed
+     */
+    public boolean chord(Board board, int r, int c) {
+        ensureOpen();
+        game.getJournal().recordChord(game.getBoardNumber(board), r, c);
+        return board.chord(r, c);
+    }
+
+    /**
+     * Activates a revealed QUESTION/SURPRISE cell as part of this move.
+     *
+     * @return true if the activation happened
+     */
+    public boolean activate(Board board, int r, int c) {
+        ensureOpen();
+        game.getJournal().recordActivate(game.getBoardNumber(board), r, c);
+        return board.activateSpecialCell(r, c);
+    }
+
+    // --- Transaction ---
+
+    /**
+     * Called by Game instead of evaluating the status while this move is open.
+     */
+    void deferStatusCheck() {
+        statusChecksDeferred++;
+    }
+
+    public boolean isOpen() {
+        return !committed;
+    }
+
+    /**
+     * Ends the move: evaluates win/loss once and returns what changed.
+     */
+    public Summary commit() {
+        ensureOpen();
+        committed = true;
+
+        int cellsRevealed = revealedCells(game) - revealedBefore;
+        game.endMove(this);
+        game.checkGameStatus();
+        game.keepUndoPoint(undoPoint);
+
+        return new Summary(
+                game.getSharedScore() - scoreBefore,
+                game.getSharedLives() - livesBefore,
+                cellsRevealed,
+                statusChecksDeferred,
+                game.getGameState()
+        );
+    }
+
+    private void ensureOpen() {
+        if (committed) throw new IllegalStateException("Move already committed");
+    }
+
+    private static int revealedCells(Game game) {
+        int total = 0;
+        if (game.getBoard1() != null) total += game.getBoard1().getRevealedCount();
+        if (game.getBoard2() != null) total += game.getBoard2().getRevealedCount();
+        return total;
+    }
+
+    // ------------------------
+    // Result object
+    // ------------------------
+    public static class Summary {
+        public final int deltaScore;
+        public final int deltaLives;
+        public final int cellsRevealed;       // by the move itself (not the end-of-game reveal)
+        public final int statusChecksSaved;   // checkGameStatus calls folded into the commit
+        public final GameState gameState;     // state after commit
+
+        public Summary(int deltaScore, int deltaLives, int cellsRevealed,
+                       int statusChecksSaved, GameState gameState) {
+            this.deltaScore = deltaScore;
+            this.deltaLives = deltaLives;
+            this.cellsRevealed = cellsRevealed;
+            this.statusChecksSaved = statusChecksSaved;
+            this.gameState = gameState;
+        }
+
+        public boolean isGameOver() {
+            return gameState == GameState.WON || gameState == GameState.LOST;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package Model;
+
+import java.util.Arrays;
+
+/**
+ * Compact binary log of everything a player did in one game.
+ * <p>
+ * The header holds the game seed and the full {@link BoardSpec}; the body is a sequence of events
+ * (reveal, flag, chord, special-cell activation, question outcome, turn switch, undo, redo). Since all randomness comes
+ * from the seed ({@link GameRandom}), the events are enough to rebuild the game with
+ * {@link JournalReplayer}. The one clock-dependent choice, how many layouts a NO_GUESS board tried
+ * before its budget ran out, is recorded as a layout event after the reveal that generated it.
+ * <p>
+ * Encoding: one tag byte per event, coordinates and ids as unsigned varints.
+ * A move on a HARD board takes 3 bytes.
+ * <p>
+ * Recording and reading the bytes are synchronized, so both players of a {@link RealTimeGame}
+ * can record at the same time.
+ */
+public final class MoveJournal {
+
+    private static final int MAGIC = 0x534D4A31; // "SMJ1"
+    private static final int VERSION = 3;
+
+    // Event tags; reveal/flag/activate/chord carry the board number in BOARD_BIT
+    private static final int REVEAL = 1;
+    private static final int FLAG = 2;
+    private static final int ACTIVATE = 3;
+    private static final int QUESTION = 4;
+    private static final int TURN = 5;
+    private static final int UNDO = 6;
+    private static final int REDO = 7;
+    private static final int CHORD = 8;
+    private static final int LAYOUT = 9;
+    private static final int BOARD_BIT = 0x80;
+
+    /**
+     * Receives the events of a journal in order.
+     */
+    public interface Visitor {
+        void reveal(int boardNumber, int row, int col);
+
+        void flag(int boardNumber, int row, int col);
+
+        void activate(int boardNumber, int row, int col);
+
+        void chord(int boardNumber, int row, int col);
+
+        void question(int questionId, Game.QuestionLevel level, QuestionResult result);
+
+        void turn(int player);
+
+        void undo();
+
+        void redo();
+
+        /** A NO_GUESS board was generated with this many layout attempts. */
+        void layout(int boardNumber, int attempts);
+    }
+
+    private final long seed;
+    private final BoardSpec spec;
+    private final ByteCodec.Writer out;
+    private int events;
+    private final int headerLength;
+
+    public MoveJournal(BoardSpec spec, long seed) {
+        this.seed = seed;
+        this.spec = spec;
+        this.out = new ByteCodec.Writer(64);
+        out.int32(MAGIC);
+        out.u8(VERSION);
+        out.int64(seed);
+        out.spec(spec);
+        this.headerLength = out.length();
+    }
+
+    private MoveJournal(byte[] bytes) {
+        this.out = new ByteCodec.Writer(bytes);
+        ByteCodec.Reader in = new ByteCodec.Reader(bytes, 0, bytes.length);
+        if (in.int32() != MAGIC) throw new IllegalArgumentException("Not a move journal");
+        int version = in.u8();
+        // version 1 specs have no reward window; versions 1 and 2 have no layout events
+        if (version < 1 || version > VERSION) throw new IllegalArgumentException("Unsupported journal version " + version);
+        this.seed = in.int64();
+        this.spec = in.spec(version >= 2);
+        this.headerLength = in.position();
+        this.events = countEvents();
+    }
+
+    /**
+     * Parses a journal written by {@link #toByteArray()}.
+     *
+     * @throws IllegalArgumentException if the bytes are not a valid journal
+     */
+    public static MoveJournal fromBytes(byte[] bytes) {
+        try {
+            return new MoveJournal(Arrays.copyOf(bytes, bytes.length));
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated move journal", e);
+        }
+    }
+
+    public synchronized byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public BoardSpec getSpec() {
+        return spec;
+    }
+
+    /** Number of recorded events. */
+    public synchronized int size() {
+        return events;
+    }
+
+    /** Encoded size in bytes, header included. */
+    public synchronized int byteSize() {
+        return out.length();
+    }
+
+    // --- Recording (called by Move and Game) ---
+
+    void recordReveal(int boardNumber, int row, int col) {
+        recordCell(REVEAL, boardNumber, row, col);
+    }
+
+    void recordFlag(int boardNumber, int row, int col) {
+        recordCell(FLAG, boardNumber, row, col);
+    }
+
+    void recordActivate(int boardNumber, int row, int col) {
+        recordCell(ACTIVATE, boardNumber, row, col);
+    }
+
+    void recordChord(int boardNumber, int row, int col) {
+        recordCell(CHORD, boardNumber, row, col);
+    }
+
+    synchronized void recordQuestion(int questionId, Game.QuestionLevel level, QuestionResult result) {
+        out.u8(QUESTION);
+        out.varint(ByteCodec.zigzag(questionId));
+        out.u8(level.ordinal() << 2 | result.ordinal());
+        events++;
+    }
+
+    synchronized void recordTurn(int player) {
+        out.u8(TURN);
+        out.u8(player);
+        events++;
+    }
+
+    synchronized void recordUndo() {
+        out.u8(UNDO);
+        events++;
+    }
+
+    synchronized void recordRedo() {
+        out.u8(REDO);
+        events++;
+    }
+
+    synchronized void recordLayout(int boardNumber, int attempts) {
+        out.u8(boardNumber == 2 ? LAYOUT | BOARD_BIT : LAYOUT);
+        out.varint(attempts);
+        events++;
+    }
+
+    private synchronized void recordCell(int tag, int boardNumber, int row, int col) {
+        out.u8(boardNumber == 2 ? tag | BOARD_BIT : tag);
+        out.varint(row);
+        out.varint(col);
+        events++;
+    }
+
+    // --- Reading ---
+
+    /**
+     * Feeds every event, in order, to the visitor.
+     */
+    public void accept(Visitor visitor) {
+        ByteCodec.Reader in = new ByteCodec.Reader(out.buffer(), headerLength, out.length());
+        Game.QuestionLevel[] levels = Game.QuestionLevel.values();
+        QuestionResult[] results = QuestionResult.values();
+        while (in.hasMore()) {
+            int tag = in.u8();
+            int boardNumber = (tag & BOARD_BIT) != 0 ? 2 : 1;
+            switch (tag & ~BOARD_BIT) {
+                case REVEAL -> visitor.reveal(boardNumber, in.varint(), in.varint());
+                case FLAG -> visitor.flag(boardNumber, in.varint(), in.varint());
+                case ACTIVATE -> visitor.activate(boardNumber, in.varint(), in.varint());
+                case CHORD -> visitor.chord(boardNumber, in.varint(), in.varint());
+                case QUESTION -> {
+                    int id = ByteCodec.unzigzag(in.varint());
+                    int packed = in.u8();
+                    visitor.question(id, levels[packed >>> 2], results[packed & 3]);
+                }
+                case TURN -> visitor.turn(in.u8());
+                case UNDO -> visitor.undo();
+                case REDO -> visitor.redo();
+                case LAYOUT -> visitor.layout(boardNumber, in.varint());
+                default -> throw new IllegalArgumentException("Unknown journal event " + tag + " at byte " + (in.position() - 1));
+            }
+        }
+    }
+
+    private int countEvents() {
+        int[] count = new int[1];
+        accept(new Visitor() {
+            public void reveal(int b, int r, int c) { count[0]++; }
+            public void flag(int b, int r, int c) { count[0]++; }
+            public void activate(int b, int r, int c) { count[0]++; }
+            public void chord(int b, int r, int c) { count[0]++; }
+            public void question(int id, Game.QuestionLevel level, QuestionResult result) { count[0]++; }
+            public void turn(int player) { count[0]++; }
+            public void undo() { count[0]++; }
+            public void redo() { count[0]++; }
+            public void layout(int b, int attempts) { count[0]++; }
+        });
+        return count[0];
+    }
+}
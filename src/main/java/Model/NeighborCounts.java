@@ -0,0 +1,58 @@
+package Model;
+
+/**
+ * Computes the adjacent-mine count of every cell in one pass.
+ * <p>
+ * The mines are copied into a 0/1 mask with the store's own padded layout; the border
+ * ring is never a mine, so no bounds checks are needed.
+ * Each padded row is reduced to horizontal 3-sums, and a cell's count is the sum of the three
+ * horizontal sums above, on and below it, minus the cell itself.
+ * Only three rows of horizontal sums are kept (a rolling window).
+ * <p>
+ * The inner loops are plain, branch-free array arithmetic, which the JIT auto-vectorizes.
+ */
+final class NeighborCounts {
+
+    private NeighborCounts() {
+    }
+
+    /**
+     * @return adjacent-mine count per store index (also filled for mine cells, 0 on the border)
+     */
+    static byte[] compute(CellStore store) {
+        int rows = store.getRows();
+        int cols = store.getCols();
+        int stride = store.stride();
+
+        byte[] mask = new byte[store.length()];
+        for (int i = 0; i < mask.length; i++) {
+            if (store.isMine(i)) mask[i] = 1;
+        }
+
+        // window[k][c] is the 3-sum centered on padded column c + 1
+        byte[] counts = new byte[mask.length];
+        byte[][] window = new byte[3][cols];
+        horizontalSums(mask, 0, stride, window[0]);
+        horizontalSums(mask, 1, stride, window[1]);
+
+        for (int r = 0; r < rows; r++) {
+            byte[] above = window[r % 3];
+            byte[] same = window[(r + 1) % 3];
+            byte[] below = window[(r + 2) % 3];
+            horizontalSums(mask, r + 2, stride, below);
+
+            int self = store.index(r, 0);
+            for (int c = 0; c < cols; c++) {
+                counts[self + c] = (byte) (above[c] + same[c] + below[c] - mask[self + c]);
+            }
+        }
+        return counts;
+    }
+
+    private static void horizontalSums(byte[] mask, int paddedRow, int stride, byte[] out) {
+        int base = paddedRow * stride;
+        for (int c = 0; c < out.length; c++) {
+            out[c] = (byte) (mask[base + c] + mask[base + c + 1] + mask[base + c + 2]);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package Model;
+
+/**
+ * Plays a freshly generated layout from its first click using only deterministic deductions,
+ * to decide whether the board can be cleared without guessing.
+ * <p>
+ * Rules: a number whose known mines equal its value makes its other unknown neighbors safe;
+ * a number whose unknown neighbors are exactly its missing mines makes them all mines;
+ * when every mine is known (or every unknown is a mine), the board is finished.
+ * Numbers are re-examined only when one of their neighbors changes (worklist), so a check
+ * is linear in the board size.
+ */
+final class NoGuessCheck {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte OPEN = 1;
+    private static final byte MINE = 2;
+    private static final byte BORDER = 3;
+
+    private final CellStore store;
+    private final int[] neighbors;
+    private final byte[] known;
+
+    // Cells known to be safe and waiting to be opened (each pushed once)
+    private final int[] toOpen;
+    private int toOpenSize;
+
+    // Open numbers whose neighborhood changed since they were last examined
+    private final int[] work;
+    private final boolean[] inWork;
+    private int workSize;
+
+    private int safeOpened;
+    private int minesKnown;
+
+    private NoGuessCheck(CellStore store) {
+        this.store = store;
+        this.neighbors = store.neighborOffsets();
+        this.known = new byte[store.length()];
+        this.toOpen = new int[store.length()];
+        this.work = new int[store.length()];
+        this.inWork = new boolean[store.length()];
+        for (int i = 0; i < known.length; i++) {
+            if (store.isBorder(i)) known[i] = BORDER;
+        }
+    }
+
+    /**
+     * @return true if the layout in {@code store} can be cleared from {@code start} without guessing
+     */
+    static boolean solvable(CellStore store, int start) {
+        return new NoGuessCheck(store).run(start);
+    }
+
+    private boolean run(int start) {
+        int totalMines = store.mineCount();
+        int totalSafe = store.size() - totalMines;
+
+        markSafe(start);
+        drainOpen();
+
+        while (workSize > 0) {
+            int i = work[--workSize];
+            inWork[i] = false;
+
+            int unknown = 0;
+            int mines = 0;
+            for (int offset : neighbors) {
+                byte k = known[i + offset];
+                if (k == UNKNOWN) unknown++;
+                else if (k == MINE) mines++;
+            }
+            if (unknown == 0) continue;
+
+            int missing = store.adjacent(i) - mines;
+            if (missing == 0) {
+                for (int offset : neighbors) {
+                    if (known[i + offset] == UNKNOWN) markSafe(i + offset);
+                }
+                drainOpen();
+            } else if (missing == unknown) {
+                for (int offset : neighbors) {
+                    if (known[i + offset] == UNKNOWN) markMine(i + offset);
+                }
+            }
+        }
+
+        // Global count: with all mines found (or only mines left), the rest is decided
+        int unknownLeft = totalSafe - safeOpened + totalMines - minesKnown;
+        return safeOpened == totalSafe
+                || minesKnown == totalMines
+                || unknownLeft == totalMines - minesKnown;
+    }
+
+    private void markSafe(int i) {
+        known[i] = OPEN;
+        toOpen[toOpenSize++] = i;
+    }
+
+    private void markMine(int i) {
+        known[i] = MINE;
+        minesKnown++;
+        enqueueOpenNeighbors(i);
+    }
+
+    /**
+     * Opens the pending safe cells; zero cells open their whole neighborhood, like the cascade.
+     */
+    private void drainOpen() {
+        while (toOpenSize > 0) {
+            int i = toOpen[--toOpenSize];
+            safeOpened++;
+
+            if (store.adjacent(i) == 0) {
+                for (int offset : neighbors) {
+                    if (known[i + offset] == UNKNOWN) markSafe(i + offset);
+                }
+            } else {
+                enqueue(i);
+            }
+            enqueueOpenNeighbors(i);
+        }
+    }
+
+    private void enqueueOpenNeighbors(int i) {
+        for (int offset : neighbors) {
+            int n = i + offset;
+            if (known[n] == OPEN && store.adjacent(n) > 0) enqueue(n);
+        }
+    }
+
+    private void enqueue(int i) {
+        if (inWork[i]) return;
+        inWork[i] = true;
+        work[workSize++] = i;
+    }
+}
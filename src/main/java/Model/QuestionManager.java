@@ -5,6 +5,7 @@ import util.LanguageManager;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 public class QuestionManager {
 
@@ -94,24 +95,33 @@ public class QuestionManager {
         try (InputStream is = supplier.get()) {
             if (is == null) return;
             try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-                String line;
-                reader.readLine(); // Skip header
-                while ((line = reader.readLine()) != null) {
-                    if (line.trim().isEmpty()) continue;
-                    try {
-                        List<String> cols = parseCsvLineFast(line);
-                        Question q = Question.fromCsvRow(cols.toArray(new String[0]));
-                        q = normalizeCorrectOption(q);
-                        targetList.add(q);
-                    } catch (Exception e) { /* skip bad rows */ }
-                }
+                targetList.addAll(readCsv(reader));
             }
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
-    private List<String> parseCsvLineFast(String line) {
+    /**
+     * Reads a questions CSV (header first), skipping blank and bad rows.
+     */
+    public static List<Question> readCsv(BufferedReader reader) throws IOException {
+        List<Question> read = new ArrayList<>();
+        String line;
+        reader.readLine(); // Skip header
+        while ((line = reader.readLine()) != null) {
+            if (line.trim().isEmpty()) continue;
+            try {
+                List<String> cols = parseCsvLineFast(line);
+                Question q = Question.fromCsvRow(cols.toArray(new String[0]));
+                q = normalizeCorrectOption(q);
+                read.add(q);
+            } catch (Exception e) { /* skip bad rows */ }
+        }
+        return read;
+    }
+
+    private static List<String> parseCsvLineFast(String line) {
         if (line.startsWith("\"") && line.endsWith("\"") && line.length() > 2) {
             line = line.substring(1, line.length() - 1);
             line = line.replace("\"\"", "\"");
@@ -133,7 +143,7 @@ public class QuestionManager {
         return cols;
     }
 
-    private Question normalizeCorrectOption(Question q) {
+    private static Question normalizeCorrectOption(Question q) {
         char c = q.getCorrectOption();
         if (c >= '1' && c <= '4') {
             char fixed = (char) ('A' + (c - '1'));
@@ -146,6 +156,21 @@ public class QuestionManager {
         usedQuestionIdsThisGame.clear();
     }
 
+    /**
+     * Ids of the questions already asked this game (for saved games).
+     */
+    public Set<Integer> getUsedQuestionIds() {
+        return new HashSet<>(usedQuestionIdsThisGame);
+    }
+
+    /**
+     * Continues a saved game: the given questions count as already asked.
+     */
+    public void restoreUsedQuestionIds(Collection<Integer> ids) {
+        usedQuestionIdsThisGame.clear();
+        usedQuestionIdsThisGame.addAll(ids);
+    }
+
     public List<Question> getAllQuestions() {
         return new ArrayList<>(allQuestions);
     }
@@ -216,6 +241,13 @@ public class QuestionManager {
     }
 
     public Question getRandomUnusedQuestionAnyLevel() {
+        return getRandomUnusedQuestionAnyLevel(random);
+    }
+
+    /**
+     * Picks an unused question with the caller's random source (e.g. the game's question stream).
+     */
+    public Question getRandomUnusedQuestionAnyLevel(RandomGenerator random) {
         if (allQuestions.isEmpty()) return null;
         List<Question> pool = new ArrayList<>();
         for (Question q : allQuestions) {
@@ -251,4 +283,10 @@ public class QuestionManager {
         cacheEn.clear();
         cacheHe.clear();
     }
+
+    // Installs a question list without files or language caches (tests and benchmarks)
+    public void setQuestionsForTesting(Collection<Question> questions) {
+        clearQuestionsForTesting();
+        allQuestions.addAll(questions);
+    }
 }
\ No newline at end of file
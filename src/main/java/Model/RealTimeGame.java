@@ -0,0 +1,172 @@
+package Model;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Real-time co-op: both players act on their boards at the same time, from separate threads,
+ * instead of taking turns.
+ * <p>
+ * Each board has its own lock, so moves on different boards run in parallel and moves on one board
+ * are applied one at a time. Shared lives and score are updated with compare-and-set by {@link Game},
+ * and the game ends in a single compare-and-set, so neither player's updates are lost and the end is
+ * decided once. Special cells additionally take one shared lock: questions and surprises draw from
+ * the game's shared random streams and question pool.
+ * <p>
+ * Locks are always taken board first, then the special-cell lock, and the end-of-game reveal takes
+ * each board's lock on its own after the move that ended the game let go of its locks, so two
+ * players can never wait on each other.
+ * <p>
+ * Moves go into the game's journal in the order they are applied. Undo is turned off: an undo step
+ * spans both boards and does not fit moves that overlap in time.
+ */
+public final class RealTimeGame {
+
+    private final Game game;
+    private final ReentrantLock board1Lock = new ReentrantLock();
+    private final ReentrantLock board2Lock = new ReentrantLock();
+    private final Object specialCellLock = new Object();
+    private final AtomicBoolean boardsRevealed = new AtomicBoolean();
+
+    /**
+     * Takes over a running game; from now on its moves must go through this object.
+     *
+     * @throws IllegalStateException if a turn-based move is still open
+     */
+    public RealTimeGame(Game game) {
+        if (game.isMoveInProgress()) throw new IllegalStateException("A move is still in progress");
+        this.game = game;
+        game.disableUndo();
+        game.setRealTime(true);
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Reveals a cell (with cascade) on the given board.
+     *
+     * @return false if the game was already over
+     */
+    public boolean reveal(int boardNumber, int row, int col) {
+        ReentrantLock lock = lockFor(boardNumber);
+        lock.lock();
+        try {
+            if (game.getGameState() != GameState.RUNNING) return false;
+            game.getJournal().recordReveal(boardNumber, row, col);
+            board(boardNumber).revealCell(row, col);
+        } finally {
+            lock.unlock();
+        }
+        finishIfOver();
+        return true;
+    }
+
+    /**
+     * Toggles a flag on the given board.
+     *
+     * @return true if the flag state changed
+     */
+    public boolean flag(int boardNumber, int row, int col) {
+        ReentrantLock lock = lockFor(boardNumber);
+        boolean changed;
+        lock.lock();
+        try {
+            if (game.getGameState() != GameState.RUNNING) return false;
+            game.getJournal().recordFlag(boardNumber, row, col);
+            changed = board(boardNumber).toggleFlag(row, col);
+        } finally {
+            lock.unlock();
+        }
+        finishIfOver();
+        return changed;
+    }
+
+    /**
+     * Chords a revealed number on the given board.
+     *
+     * @return true if any neighbor was revealed
+     */
+    public boolean chord(int boardNumber, int row, int col) {
+        ReentrantLock lock = lockFor(boardNumber);
+        boolean revealed;
+        lock.lock();
+        try {
+            if (game.getGameState() != GameState.RUNNING) return false;
+            game.getJournal().recordChord(boardNumber, row, col);
+            revealed = board(boardNumber).chord(row, col);
+        } finally {
+            lock.unlock();
+        }
+        finishIfOver();
+        return revealed;
+    }
+
+    /**
+     * Activates a revealed QUESTION/SURPRISE cell on the given board.
+     *
+     * @return true if the activation happened
+     */
+    public boolean activate(int boardNumber, int row, int col) {
+        ReentrantLock lock = lockFor(boardNumber);
+        boolean activated;
+        lock.lock();
+        try {
+            if (game.getGameState() != GameState.RUNNING) return false;
+            synchronized (specialCellLock) {
+                game.getJournal().recordActivate(boardNumber, row, col);
+                activated = board(boardNumber).activateSpecialCell(row, col);
+            }
+        } finally {
+            lock.unlock();
+        }
+        finishIfOver();
+        return activated;
+    }
+
+    /**
+     * Runs a read of one board (for a view or a bot) while no move changes it.
+     */
+    public void readBoard(int boardNumber, Consumer<Board> reader) {
+        ReentrantLock lock = lockFor(boardNumber);
+        lock.lock();
+        try {
+            reader.accept(board(boardNumber));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands the game back to turn-based play. No move may be running.
+     */
+    public void close() {
+        game.setRealTime(false);
+    }
+
+    // Once the game is over, the first player to notice reveals both boards, one lock at a time
+    private void finishIfOver() {
+        if (game.getGameState() == GameState.RUNNING || !boardsRevealed.compareAndSet(false, true)) return;
+        for (int boardNumber = 1; boardNumber <= 2; boardNumber++) {
+            ReentrantLock lock = lockFor(boardNumber);
+            lock.lock();
+            try {
+                board(boardNumber).revealAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private ReentrantLock lockFor(int boardNumber) {
+        if (boardNumber == 1) return board1Lock;
+        if (boardNumber == 2) return board2Lock;
+        throw new IllegalArgumentException("Board number must be 1 or 2, got " + boardNumber);
+    }
+
+    private Board board(int boardNumber) {
+        return boardNumber == 1 ? game.getBoard1() : game.getBoard2();
+    }
+}
@@ -0,0 +1,145 @@
+package Model;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Index of the area-reveal reward's candidate windows by how many hidden safe cells
+ * (HIDDEN, not a mine) each one covers.
+ * <p>
+ * A window is a {@code height x width} block of cells, identified by its top-left cell.
+ * The counts are built once with a summed-area table in O(rows * cols) and then kept up to
+ * date by {@link #cellChanged}, which touches the {@code height * width} windows covering
+ * the changed cell. Windows are kept in one bucket per count (array plus position, with
+ * swap-remove), so the best windows are found and sampled in O(1).
+ */
+final class RewardWindows {
+
+    private final int height;
+    private final int width;
+    private final int windowCols;
+    private final int windowRows;
+
+    // counts[w] = hidden safe cells in window w (at most MAX_REWARD_WINDOW^2, so a byte)
+    private final byte[] counts;
+    // buckets[n] holds the windows with count n; position[w] = w's place in its bucket
+    private final int[][] buckets;
+    private final int[] bucketSizes;
+    private final int[] position;
+    // no bucket above top is non-empty
+    private int top;
+
+    /**
+     * Builds the index for the store's current cells.
+     *
+     * @param size wanted window side; clamped to the board, so small boards get smaller windows
+     */
+    RewardWindows(CellStore store, int size) {
+        int rows = store.getRows();
+        int cols = store.getCols();
+        this.height = Math.min(size, rows);
+        this.width = Math.min(size, cols);
+        this.windowRows = rows - height + 1;
+        this.windowCols = cols - width + 1;
+
+        // prefix[(r + 1) * (cols + 1) + (c + 1)] = hidden safe cells in rows < r + 1, cols < c + 1
+        int[] prefix = new int[(rows + 1) * (cols + 1)];
+        for (int r = 0; r < rows; r++) {
+            int rowSum = 0;
+            int i = store.index(r, 0);
+            for (int c = 0; c < cols; c++, i++) {
+                if (store.isHiddenSafe(i)) rowSum++;
+                prefix[(r + 1) * (cols + 1) + c + 1] = prefix[r * (cols + 1) + c + 1] + rowSum;
+            }
+        }
+
+        int windows = windowRows * windowCols;
+        this.counts = new byte[windows];
+        int[] histogram = new int[height * width + 1];
+        for (int wr = 0; wr < windowRows; wr++) {
+            for (int wc = 0; wc < windowCols; wc++) {
+                int n = prefix[(wr + height) * (cols + 1) + wc + width] - prefix[wr * (cols + 1) + wc + width]
+                        - prefix[(wr + height) * (cols + 1) + wc] + prefix[wr * (cols + 1) + wc];
+                counts[wr * windowCols + wc] = (byte) n;
+                histogram[n]++;
+            }
+        }
+
+        this.buckets = new int[histogram.length][];
+        this.bucketSizes = new int[histogram.length];
+        this.position = new int[windows];
+        for (int n = 0; n < histogram.length; n++) {
+            buckets[n] = new int[Math.max(4, histogram[n])];
+            if (histogram[n] > 0) top = n;
+        }
+        for (int w = 0; w < windows; w++) add(w, counts[w] & 0xFF);
+    }
+
+    int height() {
+        return height;
+    }
+
+    int width() {
+        return width;
+    }
+
+    /**
+     * Hidden safe cells in the best window.
+     */
+    int bestCount() {
+        while (top > 0 && bucketSizes[top] == 0) top--;
+        return top;
+    }
+
+    /**
+     * A random window among those with the most hidden safe cells;
+     * see {@link #windowRow} and {@link #windowCol} for its top-left cell.
+     */
+    int pickBest(RandomGenerator random) {
+        int n = bestCount();
+        return buckets[n][random.nextInt(bucketSizes[n])];
+    }
+
+    int windowRow(int w) {
+        return w / windowCols;
+    }
+
+    int windowCol(int w) {
+        return w % windowCols;
+    }
+
+    /**
+     * Cell (row, col) gained (+1) or lost (-1) a hidden safe cell.
+     */
+    void cellChanged(int row, int col, int delta) {
+        int r0 = Math.max(0, row - height + 1);
+        int r1 = Math.min(row, windowRows - 1);
+        int c0 = Math.max(0, col - width + 1);
+        int c1 = Math.min(col, windowCols - 1);
+        for (int wr = r0; wr <= r1; wr++) {
+            for (int w = wr * windowCols + c0, end = wr * windowCols + c1; w <= end; w++) {
+                int n = counts[w] & 0xFF;
+                remove(w, n);
+                n += delta;
+                counts[w] = (byte) n;
+                add(w, n);
+                if (n > top) top = n;
+            }
+        }
+    }
+
+    private void add(int w, int n) {
+        int size = bucketSizes[n];
+        if (size == buckets[n].length) buckets[n] = Arrays.copyOf(buckets[n], size * 2);
+        buckets[n][size] = w;
+        position[w] = size;
+        bucketSizes[n] = size + 1;
+    }
+
+    private void remove(int w, int n) {
+        int k = position[w];
+        int last = buckets[n][--bucketSizes[n]];
+        buckets[n][k] = last;
+        position[last] = k;
+    }
+}
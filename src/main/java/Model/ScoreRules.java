@@ -1,6 +1,7 @@
 package Model;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Applies scoring/life changes for answering questions,
@@ -20,26 +21,33 @@ public class ScoreRules {
         }
     }
 
-
-    private static final Random rnd = new Random();
+    /**
+     * Same as {@link #compute(Difficulty, Game.QuestionLevel, boolean, RandomGenerator)}
+     * with an unseeded random source for the "OR" choices.
+     */
+    public static Result compute(Difficulty gameDifficulty, Game.QuestionLevel qLevel, boolean correct) {
+        return compute(gameDifficulty, qLevel, correct, new SplittableRandom());
+    }
 
     /**
      * @param gameDifficulty EASY / MEDIUM / HARD
      * @param qLevel         EASY / MEDIUM / HARD / EXPERT
      * @param correct        whether the answer was correct
+     * @param rnd            picks between the alternatives of an "OR" rule
      */
-    public static Result compute(Difficulty gameDifficulty, Game.QuestionLevel qLevel, boolean correct) {
+    public static Result compute(Difficulty gameDifficulty, Game.QuestionLevel qLevel, boolean correct,
+                                 RandomGenerator rnd) {
         return switch (gameDifficulty) {
-            case EASY -> easyGame(qLevel, correct);
-            case MEDIUM -> mediumGame(qLevel, correct);
-            case HARD -> hardGame(qLevel, correct);
+            case EASY -> easyGame(qLevel, correct, rnd);
+            case MEDIUM -> mediumGame(qLevel, correct, rnd);
+            case HARD -> hardGame(qLevel, correct, rnd);
         };
     }
 
     // ==========================
     // EASY GAME RULES
     // ==========================
-    private static Result easyGame(Game.QuestionLevel q, boolean correct) {
+    private static Result easyGame(Game.QuestionLevel q, boolean correct, RandomGenerator rnd) {
         if (correct) {
             return switch (q) {
                 case EASY -> new Result(+3, +1, "Correct EASY: +3 pts, +1 life.");
@@ -73,7 +81,7 @@ public class ScoreRules {
     // ==========================
 // MEDIUM GAME RULES
 // ==========================
-    private static Result mediumGame(Game.QuestionLevel q, boolean correct) {
+    private static Result mediumGame(Game.QuestionLevel q, boolean correct, RandomGenerator rnd) {
         if (correct) {
             return switch (q) {
                 case EASY -> new Result(+8, +1, "Correct EASY: +8 pts, +1 life.");
@@ -104,7 +112,7 @@ public class ScoreRules {
     // ==========================
 // HARD GAME RULES
 // ==========================
-    private static Result hardGame(Game.QuestionLevel q, boolean correct) {
+    private static Result hardGame(Game.QuestionLevel q, boolean correct, RandomGenerator rnd) {
         if (correct) {
             return switch (q) {
                 case EASY -> new Result(+10, +1, "Correct EASY: +10 pts, +1 life.");
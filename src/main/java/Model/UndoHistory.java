@@ -0,0 +1,86 @@
+package Model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.UnaryOperator;
+
+/**
+ * Undo and redo stacks of game steps, bounded by an estimated memory budget.
+ * When the budget is exceeded the oldest undo steps are dropped; the newest one is always kept.
+ */
+final class UndoHistory {
+
+    private final Deque<Game.UndoStep> undo = new ArrayDeque<>();
+    private final Deque<Game.UndoStep> redo = new ArrayDeque<>();
+    private long budgetBytes;
+    private long usedBytes;
+
+    UndoHistory(long budgetBytes) {
+        setBudget(budgetBytes);
+    }
+
+    void setBudget(long budgetBytes) {
+        if (budgetBytes <= 0) throw new IllegalArgumentException("Undo memory budget must be positive");
+        this.budgetBytes = budgetBytes;
+        trim();
+    }
+
+    /**
+     * Adds the step of a new move. A new move makes the redo steps unreachable.
+     */
+    void push(Game.UndoStep step) {
+        while (!redo.isEmpty()) usedBytes -= redo.pop().bytes();
+        undo.push(step);
+        usedBytes += step.bytes();
+        trim();
+    }
+
+    /**
+     * Applies the last undo step; its inverse becomes the next redo step.
+     */
+    void undo(UnaryOperator<Game.UndoStep> apply) {
+        move(undo, redo, apply);
+    }
+
+    /**
+     * Applies the last redo step; its inverse becomes the next undo step.
+     */
+    void redo(UnaryOperator<Game.UndoStep> apply) {
+        move(redo, undo, apply);
+    }
+
+    private void move(Deque<Game.UndoStep> from, Deque<Game.UndoStep> to, UnaryOperator<Game.UndoStep> apply) {
+        Game.UndoStep step = from.poll();
+        if (step == null) return;
+        usedBytes -= step.bytes();
+        Game.UndoStep inverse = apply.apply(step);
+        to.push(inverse);
+        usedBytes += inverse.bytes();
+    }
+
+    private void trim() {
+        while (usedBytes > budgetBytes && undo.size() > 1) {
+            usedBytes -= undo.removeLast().bytes();
+        }
+    }
+
+    long budgetBytes() {
+        return budgetBytes;
+    }
+
+    boolean canUndo() {
+        return !undo.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redo.isEmpty();
+    }
+
+    int undoDepth() {
+        return undo.size();
+    }
+
+    long usedBytes() {
+        return usedBytes;
+    }
+}
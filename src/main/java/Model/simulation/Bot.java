@@ -0,0 +1,175 @@
+package Model.simulation;
+
+import Model.Board;
+import Model.Cell;
+import Model.ChangeSet;
+import Model.Game;
+import Model.GameState;
+import Model.Move;
+import Model.Question;
+import Model.QuestionResult;
+import Model.solver.CellPos;
+import Model.solver.ConstraintSolver;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Plays one game for both players with a {@link BotPolicy}, using only what a player can see.
+ * <p>
+ * Reveals and activations end the turn, flags do not (as in the UI). Deducing policies ask one
+ * {@link ConstraintSolver} per board, the same engine as the hints, so their results match what a
+ * hint could prove. Special cells to activate are picked up from the boards' change sets.
+ */
+final class Bot {
+
+    private final Game game;
+    private final BotPolicy policy;
+    private final SplittableRandom random;
+    private final BoardPlayer[] players;
+    private int moves;
+
+    Bot(Game game, BotPolicy policy, SplittableRandom random) {
+        this.game = game;
+        this.policy = policy;
+        this.random = random;
+        this.players = new BoardPlayer[]{null, new BoardPlayer(game.getBoard1()), new BoardPlayer(game.getBoard2())};
+
+        int[] nextQuestionId = {1};
+        Game.QuestionLevel[] levels = Game.QuestionLevel.values();
+        game.setQuestionSource(() -> new Question(nextQuestionId[0]++, "", List.of(), 'A',
+                levels[random.nextInt(levels.length)].name()));
+        game.setQuestionPresenter(q -> random.nextDouble() < policy.getQuestionAccuracy()
+                ? QuestionResult.CORRECT : QuestionResult.WRONG);
+        game.setChangeTracking(true);
+    }
+
+    /**
+     * Plays until the game ends or {@code maxMoves} moves were made.
+     *
+     * @return number of moves made
+     */
+    int play(int maxMoves) {
+        while (game.getGameState() == GameState.RUNNING && moves < maxMoves) {
+            BoardPlayer player = players[game.getCurrentPlayerTurn()];
+            boolean endsTurn = player.step();
+            moves++;
+            player.absorbChanges();
+            if (endsTurn) game.switchTurn();
+        }
+        return moves;
+    }
+
+    /**
+     * The bot's view of one board.
+     */
+    private final class BoardPlayer {
+        private final Board board;
+        private final int rows;
+        private final int cols;
+        // deductions from the visible numbers; null for policies that do not deduce.
+        // The bot only flags proven mines, so its flags are trusted.
+        private final ConstraintSolver solver;
+        // revealed, not yet used special cells
+        private int[] specials = new int[8];
+        private int specialCount;
+
+        BoardPlayer(Board board) {
+            this.board = board;
+            this.rows = board.getRows();
+            this.cols = board.getCols();
+            this.solver = policy.isDeduce() ? new ConstraintSolver(board, true) : null;
+        }
+
+        /**
+         * Makes one move on this board.
+         *
+         * @return true if the move ends the turn
+         */
+        boolean step() {
+            if (policy.isActivateSpecials() && specialCount > 0
+                    && game.getSharedScore() - game.getSpec().getActivationCost() >= policy.getScoreReserve()) {
+                int k = specials[--specialCount];
+                Move move = game.beginMove();
+                move.activate(board, k / cols, k % cols);
+                move.commit();
+                return true;
+            }
+            if (solver != null) {
+                CellPos safe = solver.firstSafeCell();
+                if (safe != null) {
+                    Move move = game.beginMove();
+                    move.reveal(board, safe.row, safe.col);
+                    move.commit();
+                    return true;
+                }
+                if (policy.isFlagMines() && board.getFlagsRemaining() > 0) {
+                    CellPos mine = solver.firstMineCell();
+                    if (mine != null) {
+                        Move move = game.beginMove();
+                        move.flag(board, mine.row, mine.col);
+                        move.commit();
+                        return false;
+                    }
+                }
+            }
+            return guess();
+        }
+
+        // Reveals a random hidden cell that is not a proven mine
+        private boolean guess() {
+            int target = -1;
+            for (int attempt = 0; attempt < 32 && target < 0; attempt++) {
+                int k = random.nextInt(rows * cols);
+                if (isGuessable(k)) target = k;
+            }
+            if (target < 0) {
+                int candidates = 0;
+                for (int k = 0; k < rows * cols; k++) {
+                    if (isGuessable(k) && random.nextInt(++candidates) == 0) target = k;
+                }
+            }
+            if (target < 0) return flagKnownMine(); // only proven mines are left
+
+            Move move = game.beginMove();
+            move.reveal(board, target / cols, target % cols);
+            move.commit();
+            return true;
+        }
+
+        // The game is won by finding every mine, so even a policy that does not flag
+        // flags the proven mines once nothing else is left to open
+        private boolean flagKnownMine() {
+            CellPos mine = solver == null ? null : solver.firstMineCell();
+            if (mine == null) return true;
+            Move move = game.beginMove();
+            move.flag(board, mine.row, mine.col);
+            move.commit();
+            return false;
+        }
+
+        private boolean isGuessable(int k) {
+            int r = k / cols;
+            int c = k % cols;
+            return board.getCell(r, c).getState() == Cell.CellState.HIDDEN && (solver == null || !solver.isMine(r, c));
+        }
+
+        /**
+         * Queues the special cells the last move revealed.
+         */
+        void absorbChanges() {
+            ChangeSet changes = board.takeChanges();
+            for (int j = 0; j < changes.size(); j++) {
+                if (!changes.isNewlyRevealed(j)) continue;
+                int r = changes.row(j);
+                int c = changes.col(j);
+                Cell.CellContent content = board.getCell(r, c).getContent();
+                if (content == Cell.CellContent.QUESTION || content == Cell.CellContent.SURPRISE) {
+                    if (specialCount == specials.length) specials = Arrays.copyOf(specials, specialCount * 2);
+                    specials[specialCount++] = r * cols + c;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package Model.simulation;
+
+/**
+ * How a simulated team plays: whether it reasons about numbers or clicks at random,
+ * whether it flags the mines it finds, when it spends score on special cells,
+ * and how often it answers questions correctly.
+ * <p>
+ * Immutable; start from a preset and change single values with the {@code with...} methods.
+ */
+public final class BotPolicy {
+
+    /**
+     * Clicks hidden cells at random, never flags, never activates special cells, guesses answers.
+     */
+    public static final BotPolicy RANDOM = new BotPolicy("RANDOM", false, false, false, 0, 0.25);
+
+    /**
+     * Opens cells that the numbers prove safe, avoids proven mines without flagging them,
+     * activates special cells whenever it can pay, answers half the questions right.
+     */
+    public static final BotPolicy CASUAL = new BotPolicy("CASUAL", true, false, true, 0, 0.5);
+
+    /**
+     * Like CASUAL, but flags every proven mine, keeps a score reserve before activating,
+     * and answers most questions right.
+     */
+    public static final BotPolicy EXPERT = new BotPolicy("EXPERT", true, true, true, 10, 0.85);
+
+    private final String name;
+    private final boolean deduce;
+    private final boolean flagMines;
+    private final boolean activateSpecials;
+    private final int scoreReserve;
+    private final double questionAccuracy;
+
+    private BotPolicy(String name, boolean deduce, boolean flagMines, boolean activateSpecials,
+                      int scoreReserve, double questionAccuracy) {
+        if (questionAccuracy < 0 || questionAccuracy > 1) {
+            throw new IllegalArgumentException("Question accuracy must be between 0 and 1, got " + questionAccuracy);
+        }
+        this.name = name;
+        this.deduce = deduce;
+        this.flagMines = flagMines;
+        this.activateSpecials = activateSpecials;
+        this.scoreReserve = scoreReserve;
+        this.questionAccuracy = questionAccuracy;
+    }
+
+    /**
+     * Preset by name (RANDOM, CASUAL, EXPERT), ignoring case.
+     *
+     * @throws IllegalArgumentException for an unknown name
+     */
+    public static BotPolicy named(String name) {
+        for (BotPolicy p : new BotPolicy[]{RANDOM, CASUAL, EXPERT}) {
+            if (p.name.equalsIgnoreCase(name)) return p;
+        }
+        throw new IllegalArgumentException("Unknown bot policy " + name);
+    }
+
+    public BotPolicy withDeduction(boolean enabled) {
+        return new BotPolicy(name, enabled, flagMines, activateSpecials, scoreReserve, questionAccuracy);
+    }
+
+    public BotPolicy withFlags(boolean enabled) {
+        return new BotPolicy(name, deduce, enabled, activateSpecials, scoreReserve, questionAccuracy);
+    }
+
+    /**
+     * @param reserve score the team keeps after paying the activation cost
+     */
+    public BotPolicy withActivation(boolean enabled, int reserve) {
+        return new BotPolicy(name, deduce, flagMines, enabled, reserve, questionAccuracy);
+    }
+
+    public BotPolicy withQuestionAccuracy(double accuracy) {
+        return new BotPolicy(name, deduce, flagMines, activateSpecials, scoreReserve, accuracy);
+    }
+
+    /**
+     * Same values under another name (used in reports).
+     */
+    public BotPolicy withName(String newName) {
+        return new BotPolicy(newName, deduce, flagMines, activateSpecials, scoreReserve, questionAccuracy);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isDeduce() {
+        return deduce;
+    }
+
+    public boolean isFlagMines() {
+        return flagMines;
+    }
+
+    public boolean isActivateSpecials() {
+        return activateSpecials;
+    }
+
+    public int getScoreReserve() {
+        return scoreReserve;
+    }
+
+    public double getQuestionAccuracy() {
+        return questionAccuracy;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,143 @@
+package Model.simulation;
+
+import Model.Game;
+import Model.GameState;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Outcome of many simulated games of one spec and policy: win/loss counts and the
+ * distributions of final score and lives (as value -> number of games).
+ */
+public final class SimulationResult {
+
+    private long games;
+    private long wins;
+    private long losses;
+    private long totalMoves;
+    private long totalScore;
+    private long totalLives;
+    private long questionsAnswered;
+    private long surprisesOpened;
+    private final TreeMap<Integer, Long> scores = new TreeMap<>();
+    private final TreeMap<Integer, Long> lives = new TreeMap<>();
+
+    SimulationResult() {
+    }
+
+    /**
+     * Counts one finished (or move-capped) game.
+     */
+    void add(Game game, int moves) {
+        games++;
+        if (game.getGameState() == GameState.WON) wins++;
+        if (game.getGameState() == GameState.LOST) losses++;
+        totalMoves += moves;
+        totalScore += game.getSharedScore();
+        totalLives += game.getSharedLives();
+        questionsAnswered += game.getTotalQuestionsAnswered();
+        surprisesOpened += game.getTotalSurprisesOpened();
+        scores.merge(game.getSharedScore(), 1L, Long::sum);
+        lives.merge(game.getSharedLives(), 1L, Long::sum);
+    }
+
+    /**
+     * Adds another partial result into this one.
+     */
+    void merge(SimulationResult other) {
+        games += other.games;
+        wins += other.wins;
+        losses += other.losses;
+        totalMoves += other.totalMoves;
+        totalScore += other.totalScore;
+        totalLives += other.totalLives;
+        questionsAnswered += other.questionsAnswered;
+        surprisesOpened += other.surprisesOpened;
+        other.scores.forEach((score, n) -> scores.merge(score, n, Long::sum));
+        other.lives.forEach((left, n) -> lives.merge(left, n, Long::sum));
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    /**
+     * Games stopped by the move cap before they were won or lost.
+     */
+    public long getUnfinished() {
+        return games - wins - losses;
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    public double getMeanScore() {
+        return games == 0 ? 0 : (double) totalScore / games;
+    }
+
+    public double getMeanLives() {
+        return games == 0 ? 0 : (double) totalLives / games;
+    }
+
+    public double getMeanMoves() {
+        return games == 0 ? 0 : (double) totalMoves / games;
+    }
+
+    public double getMeanQuestionsAnswered() {
+        return games == 0 ? 0 : (double) questionsAnswered / games;
+    }
+
+    public double getMeanSurprisesOpened() {
+        return games == 0 ? 0 : (double) surprisesOpened / games;
+    }
+
+    /**
+     * Final score -> number of games, in score order.
+     */
+    public NavigableMap<Integer, Long> getScoreDistribution() {
+        return Collections.unmodifiableNavigableMap(scores);
+    }
+
+    /**
+     * Lives left at the end -> number of games, in order.
+     */
+    public NavigableMap<Integer, Long> getLivesDistribution() {
+        return Collections.unmodifiableNavigableMap(lives);
+    }
+
+    /**
+     * Smallest score that at least the given share of games did not exceed.
+     *
+     * @param fraction between 0 and 1 (0.5 is the median)
+     */
+    public int getScorePercentile(double fraction) {
+        if (games == 0) throw new IllegalStateException("No games simulated");
+        long rank = Math.max(1, (long) Math.ceil(fraction * games));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> e : scores.entrySet()) {
+            seen += e.getValue();
+            if (seen >= rank) return e.getKey();
+        }
+        return scores.lastKey();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games, win %.1f%%, score mean %.1f (p10 %d, p50 %d, p90 %d), lives left %.2f, moves %.1f",
+                games, 100 * getWinRate(), getMeanScore(),
+                getScorePercentile(0.1), getScorePercentile(0.5), getScorePercentile(0.9),
+                getMeanLives(), getMeanMoves());
+    }
+}
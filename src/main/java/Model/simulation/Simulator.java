@@ -0,0 +1,133 @@
+package Model.simulation;
+
+import Model.BoardSpec;
+import Model.Difficulty;
+import Model.Game;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Headless game simulator for balancing {@link Difficulty} values and {@link Model.ScoreRules}.
+ * <p>
+ * Plays many games with a {@link BotPolicy} on the real {@link Game}/{@link Model.Board} code,
+ * with game logging off, split over all cores with fork/join. Game {@code i} of a run is
+ * seeded from the run seed and {@code i} alone, so a run gives the same result on any number
+ * of cores.
+ * <p>
+ * Command line: {@code Simulator [gamesPerDifficulty] [policy...]}, e.g. {@code Simulator 100000 random expert}.
+ */
+public final class Simulator {
+
+    // Games played by one fork/join leaf; small enough to balance, large enough to amortize the split
+    private static final int LEAF_GAMES = 64;
+
+    private Simulator() {
+    }
+
+    /**
+     * Plays {@code games} games on the common fork/join pool.
+     */
+    public static SimulationResult run(BoardSpec spec, BotPolicy policy, int games, long seed) {
+        return run(spec, policy, games, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays {@code games} games on the given pool.
+     */
+    public static SimulationResult run(BoardSpec spec, BotPolicy policy, int games, long seed, ForkJoinPool pool) {
+        if (games < 0) throw new IllegalArgumentException("Games must not be negative");
+        return pool.invoke(new Batch(spec, policy, seed, 0, games));
+    }
+
+    /**
+     * Plays {@code gamesPerDifficulty} games on every preset.
+     */
+    public static Map<Difficulty, SimulationResult> runAllDifficulties(BotPolicy policy, int gamesPerDifficulty, long seed) {
+        Map<Difficulty, SimulationResult> results = new EnumMap<>(Difficulty.class);
+        for (Difficulty d : Difficulty.values()) {
+            results.put(d, run(BoardSpec.of(d), policy, gamesPerDifficulty, seed));
+        }
+        return results;
+    }
+
+    /**
+     * Plays game number {@code index} of a run.
+     */
+    static void playOne(BoardSpec spec, BotPolicy policy, long seed, int index, SimulationResult into) {
+        // golden-ratio step: neighboring indices get unrelated seeds
+        long gameSeed = seed + index * 0x9E3779B97F4A7C15L;
+        Game game = new Game(spec, gameSeed);
+        game.setLogging(false);
+        // worker threads would contend on the shared histograms and mix into the interactive report
+        game.setTiming(false);
+        Bot bot = new Bot(game, policy, new SplittableRandom(~gameSeed));
+        int moves = bot.play(maxMoves(spec));
+        into.add(game, moves);
+    }
+
+    // Enough for any game to end; guards against a policy that stops making progress
+    private static int maxMoves(BoardSpec spec) {
+        return 8 * spec.getCellCount();
+    }
+
+    /**
+     * Games [from, to) of a run, split in halves until a leaf is small.
+     */
+    private static final class Batch extends RecursiveTask<SimulationResult> {
+        private final BoardSpec spec;
+        private final BotPolicy policy;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        Batch(BoardSpec spec, BotPolicy policy, long seed, int from, int to) {
+            this.spec = spec;
+            this.policy = policy;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= LEAF_GAMES) {
+                SimulationResult result = new SimulationResult();
+                for (int i = from; i < to; i++) playOne(spec, policy, seed, i, result);
+                return result;
+            }
+            int mid = (from + to) >>> 1;
+            Batch left = new Batch(spec, policy, seed, from, mid);
+            left.fork();
+            SimulationResult result = new Batch(spec, policy, seed, mid, to).compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        List<BotPolicy> policies = new ArrayList<>();
+        for (int k = 1; k < args.length; k++) policies.add(BotPolicy.named(args[k]));
+        if (policies.isEmpty()) policies = List.of(BotPolicy.RANDOM, BotPolicy.CASUAL, BotPolicy.EXPERT);
+
+        System.out.println("Simulating " + games + " games per difficulty on "
+                + ForkJoinPool.commonPool().getParallelism() + " workers");
+        for (BotPolicy policy : policies) {
+            for (Difficulty d : Difficulty.values()) {
+                long start = System.nanoTime();
+                SimulationResult result = run(BoardSpec.of(d), policy, games, 1L);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("%-7s %-6s %s, questions %.2f, surprises %.2f [%.0f games/s]%n",
+                        policy, d, result, result.getMeanQuestionsAnswered(), result.getMeanSurprisesOpened(),
+                        games / seconds);
+                System.out.println("        lives left: " + result.getLivesDistribution());
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package Model.solver;
+
+/**
+ * Immutable (row, col) position of a cell, used in solver results.
+ */
+public final class CellPos {
+
+    public final int row;
+    public final int col;
+
+    public CellPos(int row, int col) {
+        this.row = row;
+        this.col = col;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CellPos)) return false;
+        CellPos other = (CellPos) o;
+        return row == other.row && col == other.col;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * row + col;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + row + "," + col + ")";
+    }
+}
@@ -0,0 +1,545 @@
+package Model.solver;
+
+import Model.Board;
+import Model.Cell;
+import Model.CellChangeListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Deterministic constraint-propagation solver over the visible state of one Board.
+ * <p>
+ * It only reads what a player can see: revealed numbers, revealed mines and (optionally) flags.
+ * From the constraints of the revealed numbers on the frontier it derives cells that are
+ * certainly safe or certainly mines, using:
+ * - single-point rules: a number with all its mines known clears its other neighbors;
+ *   a number whose unknown neighbors are exactly its missing mines makes them all mines
+ * - subset (pair) rules: for two numbers within distance 2, the mines they share are bounded
+ *   by both, which can decide the cells only one of them touches
+ * - the global mine count, once all mines (or all remaining cells) are accounted for
+ * <p>
+ * The solver listens to the board ({@link CellChangeListener}) and only re-examines the
+ * numbers around cells that changed. Work is done lazily, on the next query.
+ * Changes that can invalidate earlier deductions (a cell hidden again, a trusted flag removed,
+ * a contradiction with a trusted flag) trigger a rebuild from the board.
+ * <p>
+ * Flags are player guesses and may be wrong, so by default they are ignored;
+ * with {@code trustFlags} a flagged cell is treated as a mine.
+ */
+public class ConstraintSolver implements CellChangeListener {
+
+    // Knowledge per cell
+    private static final byte UNKNOWN = 0;
+    private static final byte OPEN = 1;     // revealed safe cell; value holds its number
+    private static final byte SAFE = 2;     // deduced safe, still hidden
+    private static final byte MINE = 3;     // deduced mine, still hidden
+    private static final byte FLAG = 4;     // flagged and trusted as a mine
+    private static final byte BLOWN = 5;    // revealed mine
+    private static final byte BORDER = 6;
+
+    // Two-cell border: 5x5 pair scans stay inside the arrays without bounds checks
+    private static final int PAD = 2;
+
+    private final Board board;
+    private final boolean trustFlags;
+    private final int rows;
+    private final int cols;
+    private final int stride;
+
+    private final int[] neighbors;   // the 8 surrounding cells
+    private final int[] area;        // the 24 other cells of the 5x5 square (pair partners)
+
+    private final byte[] known;
+    private final byte[] value;
+
+    // Open numbers whose neighborhood changed since they were last examined
+    private final int[] work;
+    private final boolean[] queued;
+    private int workSize;
+
+    private int unknownCount;
+    private int minesKnown;          // MINE + FLAG + BLOWN
+    private int safeCount;           // SAFE
+    private int deducedMineCount;    // MINE
+    private boolean rebuildNeeded;
+
+    // Scratch sets of unknown neighbors for the pair rule
+    private final int[] setA = new int[8];
+    private final int[] setB = new int[8];
+
+    // Statistics
+    private long singlePointDeductions;
+    private long pairDeductions;
+    private long globalDeductions;
+    private int rebuilds;
+
+    /**
+     * Creates a solver that ignores flags.
+     */
+    public ConstraintSolver(Board board) {
+        this(board, false);
+    }
+
+    /**
+     * Creates a solver and attaches it to the board.
+     *
+     * @param trustFlags if true, flagged cells are treated as mines
+     */
+    public ConstraintSolver(Board board, boolean trustFlags) {
+        this.board = board;
+        this.trustFlags = trustFlags;
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+        this.stride = cols + 2 * PAD;
+
+        int length = (rows + 2 * PAD) * stride;
+        this.known = new byte[length];
+        this.value = new byte[length];
+        this.work = new int[length];
+        this.queued = new boolean[length];
+
+        this.neighbors = new int[8];
+        this.area = new int[24];
+        int n = 0;
+        int a = 0;
+        for (int dr = -2; dr <= 2; dr++) {
+            for (int dc = -2; dc <= 2; dc++) {
+                if (dr == 0 && dc == 0) continue;
+                int offset = dr * stride + dc;
+                area[a++] = offset;
+                if (Math.abs(dr) <= 1 && Math.abs(dc) <= 1) neighbors[n++] = offset;
+            }
+        }
+
+        rebuild();
+        board.addCellChangeListener(this);
+    }
+
+    /**
+     * Stops listening to the board.
+     */
+    public void detach() {
+        board.removeCellChangeListener(this);
+    }
+
+    // ------------------------
+    // Queries
+    // ------------------------
+
+    /**
+     * Brings all deductions up to date. Queries call this themselves.
+     */
+    public void solve() {
+        if (rebuildNeeded) rebuild();
+
+        do {
+            while (workSize > 0) {
+                int i = work[--workSize];
+                queued[i] = false;
+                examine(i);
+            }
+        } while (applyGlobalCount());
+    }
+
+    /**
+     * Returns true if the hidden cell is certainly safe.
+     */
+    public boolean isSafe(int row, int col) {
+        solve();
+        return inside(row, col) && known[index(row, col)] == SAFE;
+    }
+
+    /**
+     * Returns true if the hidden cell is certainly a mine (by deduction, not by a flag).
+     */
+    public boolean isMine(int row, int col) {
+        solve();
+        return inside(row, col) && known[index(row, col)] == MINE;
+    }
+
+    /**
+     * Returns true if at least one hidden cell is certainly safe.
+     */
+    public boolean hasSafeMove() {
+        solve();
+        return safeCount > 0;
+    }
+
+    public int getSafeCount() {
+        solve();
+        return safeCount;
+    }
+
+    public int getMineCount() {
+        solve();
+        return deducedMineCount;
+    }
+
+    /**
+     * Hidden cells that are certainly safe, in row-major order.
+     */
+    public List<CellPos> getSafeCells() {
+        solve();
+        return collect(SAFE, safeCount);
+    }
+
+    /**
+     * Hidden cells that are certainly mines, in row-major order.
+     */
+    public List<CellPos> getMineCells() {
+        solve();
+        return collect(MINE, deducedMineCount);
+    }
+
+    /**
+     * The first certainly safe hidden cell in row-major order, or null; cheaper than
+     * {@link #getSafeCells()} for a caller that acts on one cell at a time.
+     */
+    public CellPos firstSafeCell() {
+        solve();
+        return first(SAFE, safeCount);
+    }
+
+    /**
+     * The first certainly-mine hidden cell (by deduction) in row-major order, or null.
+     */
+    public CellPos firstMineCell() {
+        solve();
+        return first(MINE, deducedMineCount);
+    }
+
+    public long getSinglePointDeductions() {
+        return singlePointDeductions;
+    }
+
+    public long getPairDeductions() {
+        return pairDeductions;
+    }
+
+    public long getGlobalDeductions() {
+        return globalDeductions;
+    }
+
+    public int getRebuilds() {
+        return rebuilds;
+    }
+
+    private CellPos first(byte kind, int expected) {
+        if (expected == 0) return null;
+        for (int r = 0; r < rows; r++) {
+            int i = index(r, 0);
+            for (int c = 0; c < cols; c++, i++) {
+                if (known[i] == kind) return new CellPos(r, c);
+            }
+        }
+        return null;
+    }
+
+    private List<CellPos> collect(byte kind, int expected) {
+        List<CellPos> cells = new ArrayList<>(expected);
+        for (int r = 0; r < rows && cells.size() < expected; r++) {
+            int i = index(r, 0);
+            for (int c = 0; c < cols; c++, i++) {
+                if (known[i] == kind) cells.add(new CellPos(r, c));
+            }
+        }
+        return cells;
+    }
+
+    // ------------------------
+    // Incremental updates
+    // ------------------------
+
+    @Override
+    public void cellChanged(Board source, int row, int col) {
+        if (rebuildNeeded) return;
+
+        int i = index(row, col);
+        byte old = known[i];
+        Cell cell = board.getCell(row, col);
+        byte now = classify(cell);
+
+        if (now == old) return;
+
+        if (now == OPEN) {
+            // a deduced or trusted mine turned out safe: earlier deductions relied on a wrong flag
+            if (old == MINE || old == FLAG) {
+                rebuildNeeded = true;
+                return;
+            }
+            if (old == UNKNOWN) unknownCount--;
+            if (old == SAFE) safeCount--;
+            known[i] = OPEN;
+            value[i] = (byte) cell.getAdjacentMines();
+            enqueue(i);
+        } else if (now == BLOWN) {
+            if (old == SAFE) {
+                rebuildNeeded = true;
+                return;
+            }
+            if (old == UNKNOWN) {
+                unknownCount--;
+                minesKnown++;
+            }
+            if (old == MINE) deducedMineCount--;
+            known[i] = BLOWN;
+        } else if (now == FLAG) {
+            // a trusted flag on a cell deduced safe contradicts the deductions
+            if (old == SAFE) {
+                rebuildNeeded = true;
+                return;
+            }
+            if (old == MINE) {
+                // the player flagged a deduced mine: it is no longer one to report
+                deducedMineCount--;
+                known[i] = FLAG;
+                return;
+            }
+            if (old != UNKNOWN) return;   // already known as a mine
+            unknownCount--;
+            minesKnown++;
+            known[i] = FLAG;
+        } else {
+            // back to hidden: a removed trusted flag or an undone reveal invalidates deductions
+            if (old == OPEN || old == FLAG || old == BLOWN) rebuildNeeded = true;
+            // otherwise an untrusted flag was removed: nothing changes
+            return;
+        }
+        enqueueOpenNeighbors(i);
+    }
+
+    private byte classify(Cell cell) {
+        if (cell.isRevealed()) return cell.isMine() ? BLOWN : OPEN;
+        if (trustFlags && cell.isFlagged()) return FLAG;
+        return UNKNOWN;
+    }
+
+    /**
+     * Re-reads the whole visible board and queues every open number.
+     */
+    private void rebuild() {
+        Arrays.fill(known, BORDER);
+        Arrays.fill(queued, false);
+        workSize = 0;
+        unknownCount = 0;
+        minesKnown = 0;
+        safeCount = 0;
+        deducedMineCount = 0;
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int i = index(r, c);
+                Cell cell = board.getCell(r, c);
+                byte k = classify(cell);
+                known[i] = k;
+                if (k == UNKNOWN) unknownCount++;
+                else if (k == FLAG || k == BLOWN) minesKnown++;
+                else value[i] = (byte) cell.getAdjacentMines();
+            }
+        }
+        for (int r = 0; r < rows; r++) {
+            int i = index(r, 0);
+            for (int c = 0; c < cols; c++, i++) {
+                if (known[i] == OPEN && value[i] > 0) enqueue(i);
+            }
+        }
+        rebuildNeeded = false;
+        rebuilds++;
+    }
+
+    // ------------------------
+    // Rules
+    // ------------------------
+
+    /**
+     * Applies the single-point rules to an open number, then the pair rules
+     * with every open number within distance 2.
+     */
+    private void examine(int i) {
+        if (known[i] != OPEN) return;
+
+        int na = unknownNeighbors(i, setA);
+        if (na == 0) return;
+        int needA = value[i] - minesAround(i);
+
+        if (needA == 0) {
+            markAll(setA, na, SAFE);
+            singlePointDeductions += na;
+            return;
+        }
+        if (needA == na) {
+            markAll(setA, na, MINE);
+            singlePointDeductions += na;
+            return;
+        }
+
+        for (int offset : area) {
+            int j = i + offset;
+            if (known[j] != OPEN) continue;
+
+            int nb = unknownNeighbors(j, setB);
+            if (nb == 0) continue;
+            int needB = value[j] - minesAround(j);
+
+            if (applyPair(setA, na, needA, setB, nb, needB)) {
+                // the scratch sets are stale now; look at i again with fresh ones
+                enqueue(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Pair rule for constraints A (needA mines among setA) and B (needB among setB).
+     * The shared cells hold x mines with
+     * max(0, needA - onlyA, needB - onlyB) <= x <= min(shared, needA, needB);
+     * if that range forces the cells of only one side (or the shared cells), they are marked.
+     *
+     * @return true if anything was marked
+     */
+    private boolean applyPair(int[] a, int na, int needA, int[] b, int nb, int needB) {
+        int shared = 0;
+        for (int x = 0; x < na; x++) {
+            if (contains(b, nb, a[x])) shared++;
+        }
+        if (shared == 0) return false;
+
+        int onlyA = na - shared;
+        int onlyB = nb - shared;
+        int minShared = Math.max(0, Math.max(needA - onlyA, needB - onlyB));
+        int maxShared = Math.min(shared, Math.min(needA, needB));
+
+        int marked = 0;
+        if (onlyA > 0) {
+            if (needA - minShared == 0) marked += markOnly(a, na, b, nb, SAFE);
+            else if (needA - maxShared == onlyA) marked += markOnly(a, na, b, nb, MINE);
+        }
+        if (onlyB > 0) {
+            if (needB - minShared == 0) marked += markOnly(b, nb, a, na, SAFE);
+            else if (needB - maxShared == onlyB) marked += markOnly(b, nb, a, na, MINE);
+        }
+        if (maxShared == 0) marked += markShared(a, na, b, nb, SAFE);
+        else if (minShared == shared) marked += markShared(a, na, b, nb, MINE);
+
+        pairDeductions += marked;
+        return marked > 0;
+    }
+
+    /**
+     * Global rule: once every mine is known the rest is safe; once the remaining
+     * mines equal the unknown cells they are all mines.
+     *
+     * @return true if anything was marked
+     */
+    private boolean applyGlobalCount() {
+        if (unknownCount == 0) return false;
+        int remaining = board.getTotalMines() - minesKnown;
+
+        byte kind;
+        if (remaining == 0) kind = SAFE;
+        else if (remaining == unknownCount) kind = MINE;
+        else return false;
+
+        for (int r = 0; r < rows; r++) {
+            int i = index(r, 0);
+            for (int c = 0; c < cols; c++, i++) {
+                if (known[i] == UNKNOWN) {
+                    mark(i, kind);
+                    globalDeductions++;
+                }
+            }
+        }
+        return true;
+    }
+
+    // ------------------------
+    // Helpers
+    // ------------------------
+
+    private int unknownNeighbors(int i, int[] out) {
+        int n = 0;
+        for (int offset : neighbors) {
+            if (known[i + offset] == UNKNOWN) out[n++] = i + offset;
+        }
+        return n;
+    }
+
+    private int minesAround(int i) {
+        int mines = 0;
+        for (int offset : neighbors) {
+            byte k = known[i + offset];
+            if (k == MINE || k == FLAG || k == BLOWN) mines++;
+        }
+        return mines;
+    }
+
+    private int markOnly(int[] cells, int n, int[] other, int otherSize, byte kind) {
+        int marked = 0;
+        for (int x = 0; x < n; x++) {
+            if (!contains(other, otherSize, cells[x]) && known[cells[x]] == UNKNOWN) {
+                mark(cells[x], kind);
+                marked++;
+            }
+        }
+        return marked;
+    }
+
+    private int markShared(int[] a, int na, int[] b, int nb, byte kind) {
+        int marked = 0;
+        for (int x = 0; x < na; x++) {
+            if (contains(b, nb, a[x]) && known[a[x]] == UNKNOWN) {
+                mark(a[x], kind);
+                marked++;
+            }
+        }
+        return marked;
+    }
+
+    private void markAll(int[] cells, int n, byte kind) {
+        for (int x = 0; x < n; x++) {
+            mark(cells[x], kind);
+        }
+    }
+
+    private void mark(int i, byte kind) {
+        known[i] = kind;
+        unknownCount--;
+        if (kind == MINE) {
+            minesKnown++;
+            deducedMineCount++;
+        } else {
+            safeCount++;
+        }
+        enqueueOpenNeighbors(i);
+    }
+
+    private void enqueueOpenNeighbors(int i) {
+        for (int offset : neighbors) {
+            int n = i + offset;
+            if (known[n] == OPEN) enqueue(n);
+        }
+    }
+
+    private void enqueue(int i) {
+        if (queued[i]) return;
+        queued[i] = true;
+        work[workSize++] = i;
+    }
+
+    private static boolean contains(int[] cells, int n, int cell) {
+        for (int x = 0; x < n; x++) {
+            if (cells[x] == cell) return true;
+        }
+        return false;
+    }
+
+    private int index(int row, int col) {
+        return (row + PAD) * stride + col + PAD;
+    }
+
+    private boolean inside(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+}
@@ -0,0 +1,660 @@
+package Model.solver;
+
+import Model.Board;
+import Model.Cell;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exact per-cell mine probabilities over the visible state of one Board.
+ * <p>
+ * Hidden cells next to revealed numbers (the frontier) are split into independent components:
+ * two cells are in the same component when some number constrains both.
+ * Each component is counted on its own: for every possible number of mines k in it,
+ * how many consistent configurations exist and how many of them put a mine on each cell.
+ * The counting walks the component cells in row-major order and merges partial assignments
+ * that leave the open constraints with the same remaining needs (memoized states),
+ * forward and backward, so no configuration is listed one by one.
+ * <p>
+ * The components are then combined against the remaining mine total: the hidden cells
+ * no number touches take the rest of the mines, weighted by C(rest cells, rest mines)
+ * in BigInteger arithmetic.
+ * <p>
+ * Component counts are cached by the component's shape (cells, numbers and needs),
+ * so after a move only the components it touched are counted again.
+ * Like {@link ConstraintSolver}, flags are ignored unless {@code trustFlags} is set.
+ */
+public class ProbabilityCalculator {
+
+    // Cached component results (least recently used are dropped first)
+    private static final int CACHE_LIMIT = 1024;
+
+    private static final byte HIDDEN = 0;
+    private static final byte OPEN = 1;
+    private static final byte MINE = 2;
+
+    private final Board board;
+    private final boolean trustFlags;
+    private final int rows;
+    private final int cols;
+
+    private final Map<ComponentKey, ComponentCounts> cache =
+            new LinkedHashMap<ComponentKey, ComponentCounts>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ComponentKey, ComponentCounts> eldest) {
+                    return size() > CACHE_LIMIT;
+                }
+            };
+    private long cacheHits;
+    private long cacheMisses;
+
+    public ProbabilityCalculator(Board board) {
+        this(board, false);
+    }
+
+    /**
+     * @param trustFlags if true, flagged cells are treated as mines
+     */
+    public ProbabilityCalculator(Board board, boolean trustFlags) {
+        this.board = board;
+        this.trustFlags = trustFlags;
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    /**
+     * Computes the mine probability of every cell from the board's current visible state.
+     */
+    public Probabilities compute() {
+        int n = rows * cols;
+        byte[] state = new byte[n];
+        byte[] value = new byte[n];
+        int knownMines = 0;
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int i = r * cols + c;
+                Cell cell = board.getCell(r, c);
+                if (cell.isRevealed()) {
+                    state[i] = cell.isMine() ? MINE : OPEN;
+                    value[i] = (byte) cell.getAdjacentMines();
+                } else if (trustFlags && cell.isFlagged()) {
+                    state[i] = MINE;
+                }
+                if (state[i] == MINE) knownMines++;
+            }
+        }
+
+        double[] probability = new double[n];
+        for (int i = 0; i < n; i++) {
+            probability[i] = state[i] == MINE ? 1.0 : 0.0;
+        }
+
+        // Constraints: every revealed number with hidden neighbors; union their hidden cells
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        List<Integer> numbers = new ArrayList<>();
+        int[] need = new int[n];
+        boolean consistent = true;
+
+        for (int i = 0; i < n; i++) {
+            if (state[i] != OPEN) continue;
+            int r = i / cols;
+            int c = i % cols;
+            int hidden = 0;
+            int mines = 0;
+            int first = -1;
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    int nr = r + dr;
+                    int nc = c + dc;
+                    if ((dr == 0 && dc == 0) || nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                    int j = nr * cols + nc;
+                    if (state[j] == MINE) {
+                        mines++;
+                    } else if (state[j] == HIDDEN) {
+                        hidden++;
+                        if (parent[j] < 0) parent[j] = j;
+                        if (first < 0) first = j;
+                        else union(parent, first, j);
+                    }
+                }
+            }
+            need[i] = value[i] - mines;
+            if (need[i] < 0 || need[i] > hidden) consistent = false;
+            if (hidden > 0) numbers.add(i);
+        }
+
+        // Group frontier cells by component root (row-major inside each component)
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        int frontier = 0;
+        for (int i = 0; i < n; i++) {
+            if (state[i] == HIDDEN && parent[i] >= 0) {
+                groups.computeIfAbsent(find(parent, i), k -> new ArrayList<>()).add(i);
+                frontier++;
+            }
+        }
+        Map<Integer, List<Integer>> groupNumbers = new HashMap<>();
+        for (int number : numbers) {
+            int anyCell = firstHiddenNeighbor(state, number);
+            groupNumbers.computeIfAbsent(find(parent, anyCell), k -> new ArrayList<>()).add(number);
+        }
+
+        int hiddenTotal = 0;
+        for (int i = 0; i < n; i++) {
+            if (state[i] == HIDDEN) hiddenTotal++;
+        }
+        int restCells = hiddenTotal - frontier;
+        int remainingMines = board.getTotalMines() - knownMines;
+
+        List<int[]> componentCells = new ArrayList<>();
+        List<ComponentCounts> componentCounts = new ArrayList<>();
+        boolean exact = true;
+        for (Map.Entry<Integer, List<Integer>> group : groups.entrySet()) {
+            int[] cells = toArray(group.getValue());
+            List<Integer> cons = groupNumbers.getOrDefault(group.getKey(), new ArrayList<>());
+            ComponentCounts counts = countCached(cells, cons, need);
+            if (counts.overflow) {
+                // too many configurations for exact counting: treat these cells as unconstrained
+                exact = false;
+                restCells += cells.length;
+                continue;
+            }
+            componentCells.add(cells);
+            componentCounts.add(counts);
+        }
+
+        if (consistent) {
+            consistent = combine(componentCells, componentCounts, restCells, remainingMines, state, probability);
+        }
+        if (!consistent) {
+            for (int i = 0; i < n; i++) {
+                if (state[i] == HIDDEN) probability[i] = Double.NaN;
+            }
+        }
+        return new Probabilities(rows, cols, probability, componentCells.size(), frontier, exact, consistent);
+    }
+
+    // ------------------------
+    // Combination
+    // ------------------------
+
+    /**
+     * Weights every total of frontier mines K by the product of component counts and
+     * C(restCells, remainingMines - K), then fills in the probabilities.
+     *
+     * @return false if no configuration matches the visible state
+     */
+    private boolean combine(List<int[]> componentCells, List<ComponentCounts> components,
+                            int restCells, int remainingMines, byte[] state, double[] probability) {
+        int m = components.size();
+
+        // prefix[i] = convolution of components 0..i-1, suffix[i] = of components i..m-1
+        BigInteger[][] prefix = new BigInteger[m + 1][];
+        BigInteger[][] suffix = new BigInteger[m + 1][];
+        prefix[0] = new BigInteger[]{BigInteger.ONE};
+        suffix[m] = new BigInteger[]{BigInteger.ONE};
+        for (int i = 0; i < m; i++) {
+            prefix[i + 1] = convolve(prefix[i], components.get(i).totals());
+        }
+        for (int i = m - 1; i >= 0; i--) {
+            suffix[i] = convolve(components.get(i).totals(), suffix[i + 1]);
+        }
+
+        BigInteger[] all = prefix[m];
+        BigInteger[] rest = restWeights(restCells, remainingMines, all.length - 1);
+
+        BigInteger total = BigInteger.ZERO;
+        BigInteger restMines = BigInteger.ZERO;
+        for (int k = 0; k < all.length; k++) {
+            BigInteger w = all[k].multiply(rest[k]);
+            total = total.add(w);
+            if (remainingMines - k > 0) restMines = restMines.add(w.multiply(BigInteger.valueOf(remainingMines - k)));
+        }
+        if (total.signum() == 0) return false;
+
+        for (int i = 0; i < m; i++) {
+            BigInteger[] others = convolve(prefix[i], suffix[i + 1]);
+            ComponentCounts counts = components.get(i);
+            int size = counts.totals.length;
+
+            // g[k]: weight of everything outside this component when it holds k mines
+            BigInteger[] g = new BigInteger[size];
+            for (int k = 0; k < size; k++) {
+                BigInteger sum = BigInteger.ZERO;
+                for (int j = 0; j < others.length && k + j < rest.length; j++) {
+                    if (others[j].signum() != 0) sum = sum.add(others[j].multiply(rest[k + j]));
+                }
+                g[k] = sum;
+            }
+
+            int[] cells = componentCells.get(i);
+            for (int p = 0; p < cells.length; p++) {
+                BigInteger num = BigInteger.ZERO;
+                long[] perCell = counts.mineCounts[p];
+                for (int k = 0; k < size; k++) {
+                    if (perCell[k] != 0) num = num.add(BigInteger.valueOf(perCell[k]).multiply(g[k]));
+                }
+                probability[cells[p]] = ratio(num, total);
+            }
+        }
+
+        if (restCells > 0) {
+            double restProbability = ratio(restMines, total.multiply(BigInteger.valueOf(restCells)));
+            boolean[] inComponent = new boolean[state.length];
+            for (int[] cells : componentCells) {
+                for (int cell : cells) inComponent[cell] = true;
+            }
+            for (int i = 0; i < state.length; i++) {
+                if (state[i] == HIDDEN && !inComponent[i]) probability[i] = restProbability;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * rest[K] = C(restCells, remainingMines - K) for K = 0..maxFrontierMines (0 when impossible).
+     */
+    private static BigInteger[] restWeights(int restCells, int remainingMines, int maxFrontierMines) {
+        BigInteger[] rest = new BigInteger[maxFrontierMines + 1];
+        Arrays.fill(rest, BigInteger.ZERO);
+
+        int lowK = Math.max(0, remainingMines - restCells);
+        int highK = Math.min(maxFrontierMines, remainingMines);
+        if (lowK > highK) return rest;
+
+        // start at the smallest t = remainingMines - highK and step t up (K down) by the ratio
+        int t = remainingMines - highK;
+        BigInteger c = binomial(restCells, t);
+        for (int k = highK; k >= lowK; k--) {
+            rest[k] = c;
+            c = c.multiply(BigInteger.valueOf(restCells - t)).divide(BigInteger.valueOf(t + 1));
+            t++;
+        }
+        return rest;
+    }
+
+    private static BigInteger binomial(int n, int k) {
+        if (k < 0 || k > n) return BigInteger.ZERO;
+        k = Math.min(k, n - k);
+        BigInteger result = BigInteger.ONE;
+        for (int i = 0; i < k; i++) {
+            result = result.multiply(BigInteger.valueOf(n - i)).divide(BigInteger.valueOf(i + 1));
+        }
+        return result;
+    }
+
+    private static BigInteger[] convolve(BigInteger[] a, BigInteger[] b) {
+        BigInteger[] out = new BigInteger[a.length + b.length - 1];
+        Arrays.fill(out, BigInteger.ZERO);
+        for (int i = 0; i < a.length; i++) {
+            if (a[i].signum() == 0) continue;
+            for (int j = 0; j < b.length; j++) {
+                if (b[j].signum() != 0) out[i + j] = out[i + j].add(a[i].multiply(b[j]));
+            }
+        }
+        return out;
+    }
+
+    private static double ratio(BigInteger num, BigInteger den) {
+        return new BigDecimal(num).divide(new BigDecimal(den), MathContext.DECIMAL64).doubleValue();
+    }
+
+    // ------------------------
+    // Component counting
+    // ------------------------
+
+    private ComponentCounts countCached(int[] cells, List<Integer> numbers, int[] need) {
+        int[] key = new int[1 + cells.length + 2 * numbers.size()];
+        int k = 0;
+        key[k++] = cells.length;
+        for (int cell : cells) key[k++] = cell;
+        for (int number : numbers) {
+            key[k++] = number;
+            key[k++] = need[number];
+        }
+        ComponentKey cacheKey = new ComponentKey(key);
+
+        ComponentCounts counts = cache.get(cacheKey);
+        if (counts != null) {
+            cacheHits++;
+            return counts;
+        }
+        cacheMisses++;
+
+        int[][] positions = new int[numbers.size()][];
+        int[] needs = new int[numbers.size()];
+        for (int j = 0; j < numbers.size(); j++) {
+            positions[j] = localNeighbors(numbers.get(j), cells);
+            needs[j] = need[numbers.get(j)];
+        }
+        counts = ComponentCounts.count(cells.length, positions, needs);
+        cache.put(cacheKey, counts);
+        return counts;
+    }
+
+    /**
+     * Positions (ascending) in {@code cells} of the given number's neighbors.
+     */
+    private int[] localNeighbors(int number, int[] cells) {
+        int r = number / cols;
+        int c = number % cols;
+        int[] found = new int[8];
+        int n = 0;
+        for (int p = 0; p < cells.length; p++) {
+            int cr = cells[p] / cols;
+            int cc = cells[p] % cols;
+            if (Math.abs(cr - r) <= 1 && Math.abs(cc - c) <= 1) found[n++] = p;
+        }
+        return Arrays.copyOf(found, n);
+    }
+
+    private int firstHiddenNeighbor(byte[] state, int i) {
+        int r = i / cols;
+        int c = i % cols;
+        for (int dr = -1; dr <= 1; dr++) {
+            for (int dc = -1; dc <= 1; dc++) {
+                int nr = r + dr;
+                int nc = c + dc;
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                if (state[nr * cols + nc] == HIDDEN && !(dr == 0 && dc == 0)) return nr * cols + nc;
+            }
+        }
+        return -1;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int ra = find(parent, a);
+        int rb = find(parent, b);
+        if (ra != rb) parent[Math.max(ra, rb)] = Math.min(ra, rb);
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        int[] out = new int[values.size()];
+        for (int i = 0; i < out.length; i++) out[i] = values.get(i);
+        return out;
+    }
+
+    /**
+     * Counts of one component: totals[k] consistent configurations with k mines,
+     * and mineCounts[p][k] of them with a mine on cell p.
+     */
+    static final class ComponentCounts {
+        final long[] totals;
+        final long[][] mineCounts;
+        final boolean overflow;
+
+        private ComponentCounts(long[] totals, long[][] mineCounts, boolean overflow) {
+            this.totals = totals;
+            this.mineCounts = mineCounts;
+            this.overflow = overflow;
+        }
+
+        BigInteger[] totals() {
+            BigInteger[] out = new BigInteger[totals.length];
+            for (int k = 0; k < totals.length; k++) out[k] = BigInteger.valueOf(totals[k]);
+            return out;
+        }
+
+        /**
+         * Forward/backward counting over cells 0..n-1. The state at boundary p holds the remaining
+         * need of every constraint that has cells on both sides of p; equal states are merged.
+         *
+         * @param positions per constraint, its cell positions (ascending)
+         * @param needs     per constraint, mines still needed among its cells
+         */
+        static ComponentCounts count(int n, int[][] positions, int[] needs) {
+            try {
+                return new Counter(n, positions, needs).run();
+            } catch (ArithmeticException overflow) {
+                return new ComponentCounts(new long[n + 1], new long[n][n + 1], true);
+            }
+        }
+    }
+
+    /**
+     * The memoized forward/backward pass behind {@link ComponentCounts#count}.
+     */
+    private static final class Counter {
+        private final int n;
+        private final int[][] positions;
+        private final int[] needs;
+        private final int[][] open;        // open[p]: constraints with cells before and at/after p
+        private final int[][] touching;    // touching[p]: constraints containing cell p
+        private final int[] slot;          // constraint -> index in the current open list
+
+        Counter(int n, int[][] positions, int[] needs) {
+            this.n = n;
+            this.positions = positions;
+            this.needs = needs;
+            this.slot = new int[needs.length];
+
+            List<List<Integer>> openLists = new ArrayList<>();
+            List<List<Integer>> touchLists = new ArrayList<>();
+            for (int p = 0; p <= n; p++) {
+                openLists.add(new ArrayList<>());
+                touchLists.add(new ArrayList<>());
+            }
+            for (int j = 0; j < positions.length; j++) {
+                int first = positions[j][0];
+                int last = positions[j][positions[j].length - 1];
+                for (int p = first + 1; p <= last; p++) openLists.get(p).add(j);
+                for (int pos : positions[j]) touchLists.get(pos).add(j);
+            }
+            this.open = new int[n + 1][];
+            this.touching = new int[n + 1][];
+            for (int p = 0; p <= n; p++) {
+                open[p] = toArray(openLists.get(p));
+                touching[p] = toArray(touchLists.get(p));
+            }
+        }
+
+        ComponentCounts run() {
+            List<Map<State, long[]>> forward = new ArrayList<>();
+            for (int p = 0; p <= n; p++) forward.add(new HashMap<>());
+            long[] one = new long[n + 1];
+            one[0] = 1;
+            forward.get(0).put(new State(new byte[0]), one);
+
+            for (int p = 0; p < n; p++) {
+                for (Map.Entry<State, long[]> e : forward.get(p).entrySet()) {
+                    for (int x = 0; x <= 1; x++) {
+                        State next = step(p, e.getKey(), x);
+                        if (next == null) continue;
+                        long[] acc = forward.get(p + 1).computeIfAbsent(next, s -> new long[n + 1]);
+                        addShifted(acc, e.getValue(), x);
+                    }
+                }
+            }
+
+            // backward[p]: for each reachable state at p, configurations of cells p..n-1 by mines
+            Map<State, long[]> after = new HashMap<>();
+            long[] end = new long[n + 1];
+            end[0] = 1;
+            after.put(new State(new byte[0]), end);
+
+            long[][] mineCounts = new long[n][n + 1];
+            for (int p = n - 1; p >= 0; p--) {
+                Map<State, long[]> here = new HashMap<>();
+                for (Map.Entry<State, long[]> e : forward.get(p).entrySet()) {
+                    long[] acc = new long[n + 1];
+                    boolean any = false;
+                    for (int x = 0; x <= 1; x++) {
+                        State next = step(p, e.getKey(), x);
+                        if (next == null) continue;
+                        long[] tail = after.get(next);
+                        if (tail == null) continue;
+                        addShifted(acc, tail, x);
+                        any = true;
+                        if (x == 1) addConvolved(mineCounts[p], e.getValue(), tail, 1);
+                    }
+                    if (any) here.put(e.getKey(), acc);
+                }
+                after = here;
+            }
+
+            long[] totals = after.getOrDefault(new State(new byte[0]), new long[n + 1]);
+            return new ComponentCounts(totals, mineCounts, false);
+        }
+
+        /**
+         * Decides cell p (x = 1 for a mine) from the state at boundary p.
+         *
+         * @return the state at boundary p + 1, or null if a constraint is broken
+         */
+        private State step(int p, State state, int x) {
+            int[] openHere = open[p];
+            for (int s = 0; s < openHere.length; s++) slot[openHere[s]] = s;
+
+            // check every constraint touched at p (newly opened ones start at their full need)
+            for (int j : touching[p]) {
+                int remaining = currentNeed(j, p, state, openHere) - x;
+                if (remaining < 0 || remaining > cellsAfter(j, p)) return null;
+            }
+
+            int[] openNext = open[p + 1];
+            byte[] needs = new byte[openNext.length];
+            for (int s = 0; s < openNext.length; s++) {
+                int j = openNext[s];
+                int remaining = currentNeed(j, p, state, openHere);
+                if (contains(touching[p], j)) remaining -= x;
+                needs[s] = (byte) remaining;
+            }
+            return new State(needs);
+        }
+
+        private int currentNeed(int j, int p, State state, int[] openHere) {
+            int s = slot[j];
+            if (s < openHere.length && openHere[s] == j) return state.needs[s];
+            return needs[j];
+        }
+
+        private int cellsAfter(int j, int p) {
+            int count = 0;
+            for (int pos : positions[j]) {
+                if (pos > p) count++;
+            }
+            return count;
+        }
+
+        private static boolean contains(int[] values, int value) {
+            for (int v : values) {
+                if (v == value) return true;
+            }
+            return false;
+        }
+
+        private static void addShifted(long[] acc, long[] dist, int shift) {
+            for (int k = 0; k + shift < acc.length; k++) {
+                if (dist[k] != 0) acc[k + shift] = Math.addExact(acc[k + shift], dist[k]);
+            }
+        }
+
+        private static void addConvolved(long[] acc, long[] a, long[] b, int shift) {
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] == 0) continue;
+                for (int j = 0; i + j + shift < acc.length; j++) {
+                    if (b[j] != 0) acc[i + j + shift] = Math.addExact(acc[i + j + shift], Math.multiplyExact(a[i], b[j]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Remaining needs of the open constraints at one boundary.
+     */
+    private static final class State {
+        final byte[] needs;
+        final int hash;
+
+        State(byte[] needs) {
+            this.needs = needs;
+            this.hash = Arrays.hashCode(needs);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof State && Arrays.equals(needs, ((State) o).needs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class ComponentKey {
+        final int[] key;
+        final int hash;
+
+        ComponentKey(int[] key) {
+            this.key = key;
+            this.hash = Arrays.hashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ComponentKey && Arrays.equals(key, ((ComponentKey) o).key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // ------------------------
+    // Result object
+    // ------------------------
+    public static class Probabilities {
+        public final int components;        // independent frontier components
+        public final int frontierCells;     // hidden cells next to a revealed number
+        public final boolean exact;         // false if a component was too large to count exactly
+        public final boolean consistent;    // false if no layout matches the visible state
+
+        private final int cols;
+        private final double[] probability;
+
+        public Probabilities(int rows, int cols, double[] probability,
+                             int components, int frontierCells, boolean exact, boolean consistent) {
+            this.cols = cols;
+            this.probability = probability;
+            this.components = components;
+            this.frontierCells = frontierCells;
+            this.exact = exact;
+            this.consistent = consistent;
+        }
+
+        /**
+         * Mine probability of (row, col): 0 for revealed safe cells, 1 for known mines,
+         * NaN for hidden cells when the visible state is inconsistent.
+         */
+        public double get(int row, int col) {
+            return probability[row * cols + col];
+        }
+    }
+}
@@ -12,7 +12,7 @@ public class QuestionActivator extends SpecialCellActivator {
 
     @Override
     protected String preChecks() {
-        if (game.getQuestionManager() == null) return "Question system is not available.";
+        if (game.getQuestionManager() == null && !game.hasQuestionSource()) return "Question system is not available.";
         // presenter is private in Game; we will add a getter OR use a helper method (see step 6 below)
         if (!game.hasQuestionPresenter()) return "Question system is not available.";
         return null;
@@ -20,9 +20,7 @@ public class QuestionActivator extends SpecialCellActivator {
 
     @Override
     protected ActivationResult doActivation() {
-        QuestionManager qm = game.getQuestionManager();
-
-        question = qm.getRandomUnusedQuestionAnyLevel();
+        question = game.drawQuestion();
         if (question == null) {
             return new ActivationResult(false, false, "No questions available.");
         }
@@ -20,7 +20,7 @@ public abstract class SpecialCellActivator {
         this.game = game;
         this.board = board;
         this.content = content;
-        this.cost = game.getDifficulty().getActivationCost();
+        this.cost = game.getSpec().getActivationCost();
     }
 
     /**
@@ -83,8 +83,8 @@ public abstract class SpecialCellActivator {
     }
 
     protected void payCost() {
-        game.setSharedScore(game.getSharedScore() - cost);
-        // setSharedScore already checks status in your code
+        game.adjustScore(-cost);
+        // adjustScore already checks status
     }
 
     // ------------------------
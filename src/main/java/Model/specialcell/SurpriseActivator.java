@@ -3,8 +3,7 @@ package Model.specialcell;
 import Model.Board;
 import Model.Cell;
 import Model.Game;
-
-import java.util.Random;
+import Model.GameRandom;
 
 public class SurpriseActivator extends SpecialCellActivator {
 
@@ -15,20 +14,19 @@ public class SurpriseActivator extends SpecialCellActivator {
     @Override
     protected ActivationResult doActivation() {
         game.incrementSurprisesOpened();
-        Random rand = new Random();
-        boolean good = rand.nextBoolean();
-        int value = game.getDifficulty().getSurpriseValue();
+        boolean good = game.getRandom().stream(GameRandom.SURPRISE).nextBoolean();
+        int value = game.getSpec().getSurpriseValue();
 
         if (good) {
             // reward: +points +life (life capped inside addLife logic)
-            game.setSharedScore(game.getSharedScore() + value);
+            game.adjustScore(value);
             game.addLife(value);
             return new ActivationResult(true, false,
                     " Surprise result: GOOD\n" +
                             "Reward: +" + value + " pts, +1 life.");
         } else {
             // penalty: -points -life
-            game.setSharedScore(game.getSharedScore() - value);
+            game.adjustScore(-value);
             game.deductLife(1);
             return new ActivationResult(true, false,
                     " Surprise result: BAD\n" +
@@ -18,7 +18,13 @@ public class BoardPanel extends JPanel {
     }
 
     private static final int MIN_CELL = 18;
+
+    // Boards with more cells than this are painted directly (no JButton per cell)
+    private static final int MAX_BUTTON_CELLS = 48 * 48;
+    private static final int MIN_PAINTED_CELL = 2;
+
     private int cellSize = 40;
+    private boolean paintedMode;
     private Font cachedCellFont;
 
     private final MoveCallback moveCallback;
@@ -29,6 +35,8 @@ public class BoardPanel extends JPanel {
 
     public EffectType pendingEffect = null;
     private boolean[][] prevRevealed;
+    // enabled state last given to the buttons
+    private boolean buttonsEnabled;
     private final java.util.Map<Point, Long> animStart = new java.util.HashMap<>();
     private javax.swing.Timer animTimer;
 
@@ -40,9 +48,16 @@ public class BoardPanel extends JPanel {
         initComponents();
     }
 
+    /**
+     * True when the board is too large for one button per cell and is painted instead.
+     */
+    public boolean isPaintedMode() {
+        return paintedMode;
+    }
+
     public void setCellSize(int newSize) {
         int maxCell = 120;
-        newSize = Math.max(MIN_CELL, Math.min(newSize, maxCell));
+        newSize = Math.max(paintedMode ? MIN_PAINTED_CELL : MIN_CELL, Math.min(newSize, maxCell));
         this.cellSize = newSize;
         this.cachedCellFont = new Font("Segoe UI Black", Font.BOLD, (int) (cellSize * 0.6));
 
@@ -50,7 +65,7 @@ public class BoardPanel extends JPanel {
         int cols = controller.getBoardCols(boardNumber);
         Dimension pref = new Dimension(cols * cellSize, rows * cellSize);
         setPreferredSize(pref);
-        setMinimumSize(new Dimension(cols * MIN_CELL, rows * MIN_CELL));
+        if (!paintedMode) setMinimumSize(new Dimension(cols * MIN_CELL, rows * MIN_CELL));
         setMaximumSize(pref);
 
         if (buttons != null) {
@@ -68,6 +83,10 @@ public class BoardPanel extends JPanel {
     private void initComponents() {
         int rows = controller.getBoardRows(boardNumber);
         int cols = controller.getBoardCols(boardNumber);
+        if ((long) rows * cols > MAX_BUTTON_CELLS) {
+            initPaintedComponents(rows, cols);
+            return;
+        }
         int maxDim = Math.max(rows, cols);
         this.cellSize = (maxDim <= 9) ? 48 : (maxDim <= 13 ? 42 : 30);
         this.cachedCellFont = new Font("Segoe UI Black", Font.BOLD, (int) (cellSize * 0.6));
@@ -112,6 +131,30 @@ public class BoardPanel extends JPanel {
         refresh();
     }
 
+    /**
+     * Large boards: no child components; cells are painted and clicks are mapped to cells.
+     */
+    private void initPaintedComponents(int rows, int cols) {
+        paintedMode = true;
+        this.cellSize = Math.max(MIN_PAINTED_CELL, Math.min(12, 900 / Math.max(rows, cols)));
+        this.cachedCellFont = new Font("Segoe UI Black", Font.BOLD, (int) (cellSize * 0.6));
+
+        setLayout(null);
+        setOpaque(false);
+        setDoubleBuffered(true);
+        setPreferredSize(new Dimension(cols * cellSize, rows * cellSize));
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int r = e.getY() / cellSize;
+                int c = e.getX() / cellSize;
+                if (r < 0 || r >= rows || c < 0 || c >= cols) return;
+                handleClick(r, c, SwingUtilities.isRightMouseButton(e));
+            }
+        });
+    }
+
     public void queueEffect(EffectType type) {
         this.pendingEffect = type;
     }
@@ -152,9 +195,12 @@ public class BoardPanel extends JPanel {
             }
         } else {
             boolean wasRevealed = controller.isCellRevealed(boardNumber, r, c);
-            if (wasRevealed && !controller.isQuestionOrSurprise(boardNumber, r, c)) return;
+            // chording a satisfied number reveals its other neighbors and ends the turn
+            boolean chorded = wasRevealed && !special && controller.chordUI(boardNumber, r, c);
+            if (wasRevealed && !special && !chorded) return;
 
-            boolean revealedNow = false;
+            boolean revealedNow = chorded;
+            if (chorded) stateChanged = true;
             if (!wasRevealed) {
                 controller.revealCellUI(boardNumber, r, c);
                 revealedNow = true;
@@ -193,9 +239,15 @@ public class BoardPanel extends JPanel {
     }
 
     public void refresh() {
+        if (paintedMode) {
+            controller.takeCellChanges(boardNumber); // the whole board is repainted anyway
+            pendingEffect = null;
+            repaint();
+            return;
+        }
         int rows = controller.getBoardRows(boardNumber);
         int cols = controller.getBoardCols(boardNumber);
-        boolean gameIsRunning = controller.isGameRunning();
+        boolean enabled = controller.isGameRunning() && !waiting;
         boolean playMineSfx = false;
 
         java.util.Set<Point> newlyRevealed = null;
@@ -205,96 +257,208 @@ public class BoardPanel extends JPanel {
             for (int rr = 0; rr < rows; rr++) {
                 for (int cc = 0; cc < cols; cc++) {
                     boolean nowRev = controller.isCellRevealed(boardNumber, rr, cc);
-                    if (nowRev && !prevRevealed[rr][cc]) {
-                        if (pendingEffect == EffectType.REVEAL_1_MINE) {
-                            GameController.CellViewData d = controller.getCellViewData(boardNumber, rr, cc);
-                            if ("M".equals(d.text)) newlyRevealed.add(new Point(rr, cc));
-                        } else {
-                            newlyRevealed.add(new Point(rr, cc));
-                        }
-                    }
+                    if (nowRev && !prevRevealed[rr][cc]) addEffectCell(newlyRevealed, rr, cc);
                 }
             }
         }
 
         for (int r = 0; r < rows; r++) {
             for (int c = 0; c < cols; c++) {
-                JButton btn = buttons[r][c];
-                GameController.CellViewData data = controller.getCellViewData(boardNumber, r, c);
-                boolean revealed = controller.isCellRevealed(boardNumber, r, c);
-                boolean wasRevealedBefore = prevRevealed != null && prevRevealed[r][c];
-                if (revealed && !wasRevealedBefore && "M".equals(data.text)) {
-                    playMineSfx = true;
-                }
+                if (refreshCell(r, c, enabled)) playMineSfx = true;
+            }
+        }
+        buttonsEnabled = enabled;
+        controller.takeCellChanges(boardNumber); // everything is up to date now
+        finishUpdate(playMineSfx, newlyRevealed);
+        revalidate();
+    }
 
+    /**
+     * Redraws only the cells that changed since the last update (see {@link GameController#takeCellChanges}).
+     * Falls back to {@link #refresh()} when most of the board changed.
+     */
+    public void update() {
+        GameController.CellChangesDTO changes = controller.takeCellChanges(boardNumber);
+        if (paintedMode) {
+            for (int k = 0; k < changes.size(); k++) {
+                repaint(changes.cols[k] * cellSize, changes.rows[k] * cellSize, cellSize, cellSize);
+            }
+            pendingEffect = null;
+            return;
+        }
+        int rows = controller.getBoardRows(boardNumber);
+        int cols = controller.getBoardCols(boardNumber);
+        if (changes.size() > rows * cols / 4) {
+            refresh();
+            return;
+        }
 
-                if (boardNumber == 1) {
-                    btn.setBackground(revealed ? new Color(255, 215, 215) : new Color(255, 165, 165));
-                    btn.setBorder(BorderFactory.createLineBorder(revealed ? new Color(200, 150, 150, 120) : new Color(184, 82, 82, 140), 1));
-                } else {
-                    btn.setBackground(revealed ? new Color(235, 235, 235) : new Color(210, 230, 255));
-                    btn.setBorder(BorderFactory.createLineBorder(revealed ? new Color(120, 120, 120, 120) : new Color(40, 90, 160, 180), 1));
-                }
+        // turn changes enable/disable every button, which is cheap next to a full redraw
+        boolean enabled = controller.isGameRunning() && !waiting;
+        if (enabled != buttonsEnabled) {
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) buttons[r][c].setEnabled(enabled);
+            }
+            buttonsEnabled = enabled;
+        }
 
-                btn.setForeground(new Color(40, 40, 40));
-                btn.setText("");
-                btn.setIcon(null);
-                btn.setDisabledIcon(null);
+        java.util.Set<Point> newlyRevealed = (pendingEffect != null) ? new java.util.HashSet<>() : null;
+        boolean playMineSfx = false;
+        for (int k = 0; k < changes.size(); k++) {
+            int r = changes.rows[k];
+            int c = changes.cols[k];
+            if (newlyRevealed != null && changes.newlyRevealed[k]) addEffectCell(newlyRevealed, r, c);
+            if (refreshCell(r, c, enabled)) playMineSfx = true;
+        }
+        // cells whose pulse just ended get their normal border back
+        for (Point p : new java.util.ArrayList<>(animStart.keySet())) refreshCell(p.x, p.y, enabled);
+        finishUpdate(playMineSfx, newlyRevealed);
+    }
 
-                String t = data.text;
-                if ("🚩".equals(t)) {
-                    btn.setIcon(IconCache.icon("/ui/cells/flag.png", (int) (cellSize * 0.80)));
-                    btn.setDisabledIcon(btn.getIcon());
-                } else if ("M".equals(t)) {
-                    btn.setIcon(IconCache.icon("/ui/cells/mine.png", (int) (cellSize * 0.85)));
-                    btn.setDisabledIcon(btn.getIcon());
-                } else if ("Q".equals(t)) {
-                    Icon icon = IconCache.icon("/ui/cells/question.png", (int) (cellSize * 0.82));
-                    btn.setIcon(icon);
-                    btn.setDisabledIcon(icon);
-                } else if ("S".equals(t)) {
-                    Icon icon = IconCache.icon("/ui/cells/surprise_btn.png", (int) (cellSize * 0.82));
-                    btn.setIcon(icon);
-                    btn.setDisabledIcon(icon);
-                } else {
-                    btn.setText(t);
-                    if (!t.isEmpty() && Character.isDigit(t.charAt(0))) {
-                        int val = Integer.parseInt(t);
-                        btn.setForeground(getNumberColor(val));
-                        btn.setFont(this.cachedCellFont);
-                    }
-                }
+    private void addEffectCell(java.util.Set<Point> cells, int r, int c) {
+        if (pendingEffect == EffectType.REVEAL_1_MINE) {
+            GameController.CellViewData d = controller.getCellViewData(boardNumber, r, c);
+            if ("M".equals(d.text)) cells.add(new Point(r, c));
+        } else {
+            cells.add(new Point(r, c));
+        }
+    }
 
-                btn.setEnabled(gameIsRunning && !waiting);
+    private void finishUpdate(boolean playMineSfx, java.util.Set<Point> newlyRevealed) {
+        if (playMineSfx) {
+            SoundManager.wrongAnswer();
+        }
+        if (pendingEffect != null && newlyRevealed != null && !newlyRevealed.isEmpty())
+            startPulseAnimation(newlyRevealed);
+        pendingEffect = null;
+        repaint();
+    }
 
-                boolean usedSpecial = (revealed && ("Q".equals(t) || "S".equals(t)) && !data.enabled);
-                if (usedSpecial) markUsedSpecial(btn, "Q".equals(t));
-                else clearUsedSpecial(btn);
+    /**
+     * Brings one button up to date with its cell.
+     *
+     * @return true if the cell is a mine that was just revealed
+     */
+    private boolean refreshCell(int r, int c, boolean enabled) {
+        JButton btn = buttons[r][c];
+        GameController.CellViewData data = controller.getCellViewData(boardNumber, r, c);
+        boolean revealed = controller.isCellRevealed(boardNumber, r, c);
+        boolean wasRevealedBefore = prevRevealed != null && prevRevealed[r][c];
+        if (prevRevealed != null) prevRevealed[r][c] = revealed;
+        boolean newMine = revealed && !wasRevealedBefore && "M".equals(data.text);
 
-                Point key = new Point(r, c);
-                if (animStart.containsKey(key)) {
-                    long start = animStart.get(key);
-                    float tt = animPhase(start);
-                    float pulse = (tt < 0.5f) ? (tt / 0.5f) : ((1f - tt) / 0.5f);
-                    Color neon = (boardNumber == 1) ? new Color(255, 60, 60) : new Color(80, 180, 255);
-                    btn.setBorder(BorderFactory.createLineBorder(new Color(neon.getRed(), neon.getGreen(), neon.getBlue(), 130 + Math.round(120 * pulse)), 2 + Math.round(4 * pulse)));
-                }
+
+        if (boardNumber == 1) {
+            btn.setBackground(revealed ? new Color(255, 215, 215) : new Color(255, 165, 165));
+            btn.setBorder(BorderFactory.createLineBorder(revealed ? new Color(200, 150, 150, 120) : new Color(184, 82, 82, 140), 1));
+        } else {
+            btn.setBackground(revealed ? new Color(235, 235, 235) : new Color(210, 230, 255));
+            btn.setBorder(BorderFactory.createLineBorder(revealed ? new Color(120, 120, 120, 120) : new Color(40, 90, 160, 180), 1));
+        }
+
+        btn.setForeground(new Color(40, 40, 40));
+        btn.setText("");
+        btn.setIcon(null);
+        btn.setDisabledIcon(null);
+
+        String t = data.text;
+        if ("🚩".equals(t)) {
+            btn.setIcon(IconCache.icon("/ui/cells/flag.png", (int) (cellSize * 0.80)));
+            btn.setDisabledIcon(btn.getIcon());
+        } else if ("M".equals(t)) {
+            btn.setIcon(IconCache.icon("/ui/cells/mine.png", (int) (cellSize * 0.85)));
+            btn.setDisabledIcon(btn.getIcon());
+        } else if ("Q".equals(t)) {
+            Icon icon = IconCache.icon("/ui/cells/question.png", (int) (cellSize * 0.82));
+            btn.setIcon(icon);
+            btn.setDisabledIcon(icon);
+        } else if ("S".equals(t)) {
+            Icon icon = IconCache.icon("/ui/cells/surprise_btn.png", (int) (cellSize * 0.82));
+            btn.setIcon(icon);
+            btn.setDisabledIcon(icon);
+        } else {
+            btn.setText(t);
+            if (!t.isEmpty() && Character.isDigit(t.charAt(0))) {
+                int val = Integer.parseInt(t);
+                btn.setForeground(getNumberColor(val));
+                btn.setFont(this.cachedCellFont);
             }
         }
-        if (playMineSfx) {
-            SoundManager.wrongAnswer();
+
+        btn.setEnabled(enabled);
+
+        boolean usedSpecial = (revealed && ("Q".equals(t) || "S".equals(t)) && !data.enabled);
+        if (usedSpecial) markUsedSpecial(btn, "Q".equals(t));
+        else clearUsedSpecial(btn);
+
+        Point key = new Point(r, c);
+        if (animStart.containsKey(key)) {
+            long start = animStart.get(key);
+            float tt = animPhase(start);
+            float pulse = (tt < 0.5f) ? (tt / 0.5f) : ((1f - tt) / 0.5f);
+            Color neon = (boardNumber == 1) ? new Color(255, 60, 60) : new Color(80, 180, 255);
+            btn.setBorder(BorderFactory.createLineBorder(new Color(neon.getRed(), neon.getGreen(), neon.getBlue(), 130 + Math.round(120 * pulse)), 2 + Math.round(4 * pulse)));
         }
+        return newMine;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (paintedMode) paintCells(g);
+    }
+
+    /**
+     * Painted mode: draws only the cells inside the clip, so cost follows the visible area.
+     */
+    private void paintCells(Graphics g) {
+        int rows = controller.getBoardRows(boardNumber);
+        int cols = controller.getBoardCols(boardNumber);
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+
+        int r0 = Math.max(0, clip.y / cellSize);
+        int c0 = Math.max(0, clip.x / cellSize);
+        int r1 = Math.min(rows - 1, (clip.y + clip.height) / cellSize);
+        int c1 = Math.min(cols - 1, (clip.x + clip.width) / cellSize);
+
+        Color hidden = (boardNumber == 1) ? new Color(255, 165, 165) : new Color(210, 230, 255);
+        Color revealedBg = (boardNumber == 1) ? new Color(255, 215, 215) : new Color(235, 235, 235);
+        Color grid = (boardNumber == 1) ? new Color(184, 82, 82, 140) : new Color(40, 90, 160, 180);
+        boolean drawDetail = cellSize >= 10;
+
+        g.setFont(cachedCellFont);
+        FontMetrics fm = g.getFontMetrics();
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int x = c * cellSize;
+                int y = r * cellSize;
+                boolean revealed = controller.isCellRevealed(boardNumber, r, c);
+                String t = controller.getCellViewData(boardNumber, r, c).text;
+
+                g.setColor(revealed ? revealedBg : hidden);
+                g.fillRect(x, y, cellSize, cellSize);
 
-        for (int rr = 0; rr < rows; rr++) {
-            for (int cc = 0; cc < cols; cc++) {
-                prevRevealed[rr][cc] = controller.isCellRevealed(boardNumber, rr, cc);
+                if ("🚩".equals(t)) {
+                    g.setColor(new Color(220, 30, 30));
+                    g.fillRect(x + cellSize / 4, y + cellSize / 4, Math.max(1, cellSize / 2), Math.max(1, cellSize / 2));
+                } else if ("M".equals(t)) {
+                    g.setColor(Color.BLACK);
+                    g.fillOval(x + cellSize / 4, y + cellSize / 4, Math.max(1, cellSize / 2), Math.max(1, cellSize / 2));
+                } else if (drawDetail && ("Q".equals(t) || "S".equals(t))) {
+                    g.setColor(new Color(40, 40, 40));
+                    g.drawString(t, x + (cellSize - fm.stringWidth(t)) / 2, y + (cellSize + fm.getAscent()) / 2 - 2);
+                } else if (drawDetail && !t.isEmpty() && Character.isDigit(t.charAt(0))) {
+                    g.setColor(getNumberColor(Integer.parseInt(t)));
+                    g.drawString(t, x + (cellSize - fm.stringWidth(t)) / 2, y + (cellSize + fm.getAscent()) / 2 - 2);
+                }
+
+                if (drawDetail) {
+                    g.setColor(grid);
+                    g.drawRect(x, y, cellSize - 1, cellSize - 1);
+                }
             }
         }
-        if (pendingEffect != null && newlyRevealed != null && !newlyRevealed.isEmpty())
-            startPulseAnimation(newlyRevealed);
-        pendingEffect = null;
-        revalidate();
-        repaint();
     }
 
     @Override
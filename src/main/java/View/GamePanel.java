@@ -42,6 +42,7 @@ public class GamePanel extends JPanel {
     private JPanel centerPanel;
     private Timer resizeStabilizer;
     private Timer gameTimer;
+    private int ticksSinceAutosave;
     private final Runnable onBackToStart;
 
     private JLabel langToastLabel;
@@ -58,6 +59,9 @@ public class GamePanel extends JPanel {
     private static final int FIXED_BOX_HEIGHT = 65;
     private static final int TOP_HEADER_HEIGHT = 240;
 
+    // Seconds between autosaves of the running game
+    private static final int AUTOSAVE_SECONDS = 10;
+
     // Thinking Icon Path
     private static final String THINKING_ICON = "/ui/icons/thinking.png";
 
@@ -226,7 +230,7 @@ public class GamePanel extends JPanel {
         boardPanel1 = new BoardPanel(controller, 1, false, this::handleMoveMade);
         boardPanel1.setOpaque(false);
         NeonFramePanel leftGlow = new NeonFramePanel(new Color(255, 80, 80), 14, 24);
-        leftGlow.add(boardPanel1, new GridBagConstraints());
+        leftGlow.add(boardHolder(boardPanel1), new GridBagConstraints());
         wrap1 = new JPanel(new GridBagLayout());
         wrap1.setOpaque(false);
         wrap1.add(leftGlow, new GridBagConstraints());
@@ -264,7 +268,7 @@ public class GamePanel extends JPanel {
         boardPanel2 = new BoardPanel(controller, 2, true, this::handleMoveMade);
         boardPanel2.setOpaque(false);
         NeonFramePanel rightGlow = new NeonFramePanel(new Color(80, 180, 255), 14, 24);
-        rightGlow.add(boardPanel2, new GridBagConstraints());
+        rightGlow.add(boardHolder(boardPanel2), new GridBagConstraints());
         wrap2 = new JPanel(new GridBagLayout());
         wrap2.setOpaque(false);
         wrap2.add(rightGlow, new GridBagConstraints());
@@ -349,12 +353,35 @@ public class GamePanel extends JPanel {
             long minutes = (elapsedMillis / 1000) / 60;
             LanguageManager.Language currentLang = controller.getCurrentLanguage();
             lblTime.setText(LanguageManager.get("time", currentLang) + String.format(": %02d:%02d", minutes, seconds));
+            if (++ticksSinceAutosave >= AUTOSAVE_SECONDS) {
+                ticksSinceAutosave = 0;
+                controller.autosave(elapsedMillis, player1Name, player2Name);
+            }
         });
         gameTimer.start();
 
         new Thread(() -> new IconButton(THINKING_ICON, true)).start();
     }
 
+    public long getElapsedMillis() {
+        return System.currentTimeMillis() - startTimeMillis;
+    }
+
+    /**
+     * Continues the clock of a resumed game.
+     */
+    public void setElapsedMillis(long elapsedMillis) {
+        startTimeMillis = System.currentTimeMillis() - elapsedMillis;
+    }
+
+    public String getPlayer1Name() {
+        return player1Name;
+    }
+
+    public String getPlayer2Name() {
+        return player2Name;
+    }
+
     private void handleLanguageSwitch() {
         // 1. Show thinking icon immediately
         btnLanguage.setIconPath(THINKING_ICON);
@@ -475,11 +502,11 @@ public class GamePanel extends JPanel {
         if (controller.isGameOver()) { handleGameOverUI(); return; }
 
         if (endedTurn && controller.isGameRunning()) {
-            updateTurnUI(); boardPanel1.refresh(); boardPanel2.refresh();
-            Timer delayTimer = new Timer(500, e -> { controller.processTurnEnd(); updateTurnUI(); boardPanel1.refresh(); boardPanel2.refresh(); });
+            updateTurnUI(); boardPanel1.update(); boardPanel2.update();
+            Timer delayTimer = new Timer(500, e -> { controller.processTurnEnd(); updateTurnUI(); boardPanel1.update(); boardPanel2.update(); });
             delayTimer.setRepeats(false); delayTimer.start();
         } else {
-            updateTurnUI(); boardPanel1.refresh(); boardPanel2.refresh();
+            updateTurnUI(); boardPanel1.update(); boardPanel2.update();
         }
     }
 
@@ -597,6 +624,7 @@ public class GamePanel extends JPanel {
         boardPanel1.refresh(); boardPanel2.refresh();
         long durationSeconds = (System.currentTimeMillis() - startTimeMillis) / 1000L;
         controller.recordFinishedGame(player1Name, player2Name, durationSeconds);
+        controller.deleteSavedGame();
         GameController.GameSummaryDTO summary = controller.getGameSummaryDTO();
         GameResultDialog.ResultAction action = GameResultDialog.showResultDialog(SwingUtilities.getWindowAncestor(this), summary, durationSeconds, controller.getTotalSurprisesOpened());
         if (action == GameResultDialog.ResultAction.RESTART) {
@@ -607,6 +635,19 @@ public class GamePanel extends JPanel {
         }
     }
 
+    /**
+     * Painted (very large) boards may not fit even at the smallest cell size, so they scroll.
+     */
+    private Component boardHolder(BoardPanel panel) {
+        if (!panel.isPaintedMode()) return panel;
+        JScrollPane scroll = new JScrollPane(panel);
+        scroll.setOpaque(false);
+        scroll.getViewport().setOpaque(false);
+        scroll.setBorder(null);
+        scroll.setPreferredSize(new Dimension(560, 560));
+        return scroll;
+    }
+
     private void resizeBoardsToFit() {
         if (wrap1 == null || wrap2 == null || boardPanel1 == null || boardPanel2 == null) return;
 
@@ -617,13 +658,9 @@ public class GamePanel extends JPanel {
 
         String diff = controller.getDifficultyName();
 
-        // Get grid dimensions
-        int rows = switch (diff) {
-            case "MEDIUM" -> 13;
-            case "HARD" -> 16;
-            default -> 9;
-        };
-        int cols = rows;
+        // Get grid dimensions (presets and custom specs)
+        int rows = Math.max(1, controller.getBoardRows(1));
+        int cols = Math.max(1, controller.getBoardCols(1));
 
         // *** KEY FIX: Unified cell size calculation with better proportions ***
         // Account for glow effect padding (approximately 48px total)
@@ -637,7 +674,7 @@ public class GamePanel extends JPanel {
         int cell = Math.min(cellFromWidth, cellFromHeight);
 
         // *** UNIFIED LIMITS: Same range for all difficulties ***
-        int minCell = 22;  // Absolute minimum (readable)
+        int minCell = boardPanel1.isPaintedMode() ? 2 : 22;  // Absolute minimum (readable; painted boards can go smaller)
         int maxCell = switch (diff) {
             case "EASY" -> 55;     // Generous max for Easy
             case "MEDIUM" -> 42;   // Balanced for Medium
@@ -1,7 +1,9 @@
 package View;
 
 import Controller.GameController;
+import util.EventLog;
 import util.LanguageManager;
+import util.Latency;
 import util.SoundManager;
 import util.SoundToggleOverlay;
 
@@ -10,6 +12,8 @@ import javax.swing.text.html.HTMLEditorKit;
 import javax.swing.text.html.StyleSheet;
 import java.awt.*;
 import java.net.URL;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
 
 public class MainFrame extends JFrame
         implements StartPanel.StartGameListener,
@@ -68,6 +72,13 @@ public class MainFrame extends JFrame
         addWindowListener(new java.awt.event.WindowAdapter() {
             @Override
             public void windowClosing(java.awt.event.WindowEvent e) {
+                // Keep the running game so it can be resumed next time
+                if (gamePanel != null && controller.isGameRunning()) {
+                    controller.saveGame(gamePanel.getElapsedMillis(), gamePanel.getPlayer1Name(), gamePanel.getPlayer2Name());
+                } else {
+                    // a queued delete must not be lost when the JVM exits
+                    controller.finishSaveTasks();
+                }
                 SoundManager.stop();
             }
         });
@@ -75,6 +86,32 @@ public class MainFrame extends JFrame
         setVisible(true);
 
         SoundManager.playLoop("/audio/bg_music.wav");
+
+        if (controller.hasSavedGame()) {
+            SwingUtilities.invokeLater(this::offerResume);
+        }
+    }
+
+    /**
+     * Asks whether to continue the game that was running when the app was last closed.
+     */
+    private void offerResume() {
+        boolean isHebrew = controller.getCurrentLanguage() == LanguageManager.Language.HE;
+        String title = isHebrew ? "המשך משחק" : "Resume Game";
+        String message = isHebrew ? "נמצא משחק שלא הסתיים.\nהאם להמשיך אותו?"
+                : "An unfinished game was found.\nDo you want to continue it?";
+        if (!ConfirmDialog.show(this, title, message, ACCENT_COLOR, isHebrew)) {
+            controller.deleteSavedGame();
+            return;
+        }
+
+        GameController.ResumedGameDTO resumed = controller.resumeSavedGame();
+        if (resumed == null) {
+            controller.deleteSavedGame();
+            return;
+        }
+        showGamePanel(resumed.player1Name, resumed.player2Name);
+        gamePanel.setElapsedMillis(resumed.elapsedMillis);
     }
 
     // =================================================================
@@ -84,7 +121,10 @@ public class MainFrame extends JFrame
     @Override
     public void onStartGame(String player1Name, String player2Name, String difficultyKey) {
         controller.startNewGame(difficultyKey);
+        showGamePanel(player1Name, player2Name);
+    }
 
+    private void showGamePanel(String player1Name, String player2Name) {
         controller.registerQuestionPresenter(q -> {
             GameController.QuestionDTO dto = controller.buildQuestionDTO(q);
 
@@ -436,6 +476,12 @@ public class MainFrame extends JFrame
     }
 
     public static void main(String[] args) {
+        // Game events go to a rotating log file; what is still buffered is written on exit
+        EventLog.start(Paths.get(System.getProperty("user.home"), ".scorpion-minesweeper", "logs", "game.log"));
+        Runtime.getRuntime().addShutdownHook(new Thread(EventLog::stop));
+        // Move latency percentiles for this session, refreshed every minute
+        Latency.startPeriodicDump(Paths.get(System.getProperty("user.home"), ".scorpion-minesweeper", "latency.txt"),
+                1, TimeUnit.MINUTES);
         SwingUtilities.invokeLater(MainFrame::new);
     }
 }
\ No newline at end of file
@@ -0,0 +1,371 @@
+package util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Structured event log: an event name, an optional detail text and up to four numeric fields,
+ * written as one line {@code time level [thread] event detail key=value ...}.
+ * <p>
+ * Logging copies the record into a slot of a ring buffer allocated by {@link #start} and returns;
+ * a background thread formats the slots and writes them to a file that is rotated by size.
+ * Nothing is formatted or written on the calling thread. If the ring is full the record is
+ * dropped and counted ({@link #droppedCount()}), so a slow disk never blocks a move.
+ * <p>
+ * A disabled level (or a log that was never started) costs one volatile read. Callers that must
+ * build a detail string check {@link #isEnabled} first.
+ */
+public final class EventLog {
+
+    public enum Level {DEBUG, INFO, WARN, ERROR, OFF}
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final long DEFAULT_MAX_FILE_BYTES = 5L * 1024 * 1024;
+    public static final int DEFAULT_KEEP_FILES = 3;
+
+    private static final int MAX_FIELDS = 4;
+    // Backstop for the idle drainer; producers, flush() and stop() unpark it sooner
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    // Ordinal of the lowest level written; above every level while stopped or OFF
+    private static volatile int threshold = Integer.MAX_VALUE;
+    private static volatile Level level = Level.INFO;
+    private static volatile Ring ring;
+    private static Thread drainer;
+
+    private EventLog() {
+    }
+
+    /**
+     * Starts logging to {@code file} with the default ring size and rotation.
+     */
+    public static void start(Path file) {
+        start(file, DEFAULT_CAPACITY, DEFAULT_MAX_FILE_BYTES, DEFAULT_KEEP_FILES);
+    }
+
+    /**
+     * Starts logging, replacing an earlier log.
+     *
+     * @param capacity     ring slots, rounded up to a power of two
+     * @param maxFileBytes size at which the file is rotated (counted in characters)
+     * @param keepFiles    rotated files kept as {@code file.1} (newest) to {@code file.keepFiles}
+     */
+    public static synchronized void start(Path file, int capacity, long maxFileBytes, int keepFiles) {
+        if (capacity < 2) throw new IllegalArgumentException("Capacity must be at least 2");
+        if (maxFileBytes < 1 || keepFiles < 0) throw new IllegalArgumentException("Bad rotation settings");
+        stop();
+        ring = new Ring(Integer.highestOneBit(capacity - 1) << 1, new RotatingFile(file, maxFileBytes, keepFiles));
+        drainer = new Thread(ring::drain, "event-log");
+        drainer.setDaemon(true);
+        drainer.start();
+        threshold = thresholdOf(level);
+    }
+
+    /**
+     * Writes what is still in the ring, closes the file and stops logging.
+     */
+    public static synchronized void stop() {
+        if (ring == null) return;
+        threshold = Integer.MAX_VALUE;
+        ring.stopping = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ring = null;
+        drainer = null;
+    }
+
+    /**
+     * Waits (up to the timeout) until every record logged so far is written to the file.
+     *
+     * @return true if everything was written in time
+     */
+    public static boolean flush(long timeout, TimeUnit unit) {
+        Ring r = ring;
+        if (r == null) return true;
+        long target = r.claimed.get();
+        r.flushRequested = true;
+        LockSupport.unpark(drainer);
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (r.written < target || r.flushRequested) {
+            if (System.nanoTime() > deadline) return false;
+            LockSupport.parkNanos(100_000);
+        }
+        return true;
+    }
+
+    public static synchronized void setLevel(Level newLevel) {
+        level = newLevel;
+        if (ring != null) threshold = thresholdOf(newLevel);
+    }
+
+    private static int thresholdOf(Level l) {
+        return l == Level.OFF ? Integer.MAX_VALUE : l.ordinal();
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Whether a record at this level would be written ({@link Level#OFF} never is).
+     */
+    public static boolean isEnabled(Level l) {
+        return l.ordinal() >= threshold && l != Level.OFF;
+    }
+
+    /**
+     * Records lost because the ring was full.
+     */
+    public static long droppedCount() {
+        Ring r = ring;
+        return r == null ? 0 : r.dropped.get();
+    }
+
+    public static void log(Level l, String event) {
+        log(l, event, null, null, 0, null, 0, null, 0, null, 0);
+    }
+
+    public static void log(Level l, String event, String detail) {
+        log(l, event, detail, null, 0, null, 0, null, 0, null, 0);
+    }
+
+    public static void log(Level l, String event, String k1, long v1) {
+        log(l, event, null, k1, v1, null, 0, null, 0, null, 0);
+    }
+
+    public static void log(Level l, String event, String k1, long v1, String k2, long v2) {
+        log(l, event, null, k1, v1, k2, v2, null, 0, null, 0);
+    }
+
+    public static void log(Level l, String event, String k1, long v1, String k2, long v2, String k3, long v3) {
+        log(l, event, null, k1, v1, k2, v2, k3, v3, null, 0);
+    }
+
+    /**
+     * Full form; unused keys are null.
+     */
+    public static void log(Level l, String event, String detail,
+                           String k1, long v1, String k2, long v2, String k3, long v3, String k4, long v4) {
+        if (l.ordinal() < threshold || l == Level.OFF) return;
+        Ring r = ring;
+        if (r == null) return;
+        r.publish(l, event, detail, k1, v1, k2, v2, k3, v3, k4, v4);
+    }
+
+    /**
+     * One preallocated record.
+     */
+    private static final class Slot {
+        // sequence number of the record in this slot; written last by the producer
+        volatile long published = -1;
+        long timeMillis;
+        Level level;
+        String thread;
+        String event;
+        String detail;
+        final String[] keys = new String[MAX_FIELDS];
+        final long[] values = new long[MAX_FIELDS];
+    }
+
+    /**
+     * Multi-producer, single-consumer ring. A producer claims a sequence number with a CAS
+     * (or drops the record if the consumer is a full ring behind), fills the slot and publishes
+     * it; the consumer writes slots in sequence order. An idle consumer parks and the next
+     * producer to publish unparks it.
+     */
+    private static final class Ring {
+        private final Slot[] slots;
+        private final int mask;
+        private final RotatingFile out;
+        final AtomicLong claimed = new AtomicLong();
+        final AtomicLong dropped = new AtomicLong();
+        // next sequence the consumer will write; slots below it are free
+        volatile long written;
+        volatile boolean stopping;
+        volatile boolean flushRequested;
+        // set by the consumer just before it parks; producers then unpark it
+        volatile boolean sleeping;
+        private Thread consumer;
+
+        Ring(int capacity, RotatingFile out) {
+            this.slots = new Slot[capacity];
+            for (int i = 0; i < capacity; i++) slots[i] = new Slot();
+            this.mask = capacity - 1;
+            this.out = out;
+        }
+
+        void publish(Level l, String event, String detail,
+                     String k1, long v1, String k2, long v2, String k3, long v3, String k4, long v4) {
+            long seq;
+            do {
+                seq = claimed.get();
+                if (seq - written >= slots.length) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+            } while (!claimed.compareAndSet(seq, seq + 1));
+
+            Slot s = slots[(int) seq & mask];
+            s.timeMillis = System.currentTimeMillis();
+            s.level = l;
+            s.thread = Thread.currentThread().getName();
+            s.event = event;
+            s.detail = detail;
+            s.keys[0] = k1;
+            s.values[0] = v1;
+            s.keys[1] = k2;
+            s.values[1] = v2;
+            s.keys[2] = k3;
+            s.values[2] = v3;
+            s.keys[3] = k4;
+            s.values[3] = v4;
+            s.published = seq;
+            if (sleeping) LockSupport.unpark(consumer);
+        }
+
+        void drain() {
+            consumer = Thread.currentThread();
+            StringBuilder line = new StringBuilder(160);
+            long next = written;
+            boolean dirty = false;
+            while (true) {
+                Slot s = slots[(int) next & mask];
+                if (s.published == next) {
+                    format(s, line);
+                    out.write(line);
+                    written = ++next;
+                    dirty = true;
+                    continue;
+                }
+                // nothing ready: make the file current if anything was written, then stop or wait
+                boolean flush = flushRequested;
+                if (dirty) {
+                    out.flush();
+                    dirty = false;
+                }
+                if (flush && next >= claimed.get()) flushRequested = false;
+                if (stopping && next >= claimed.get()) break;
+                sleeping = true;
+                // re-check after announcing the park, or a record published just before would wait for the backstop
+                if (s.published != next && !stopping && !flushRequested) LockSupport.parkNanos(IDLE_PARK_NANOS);
+                sleeping = false;
+            }
+            flushRequested = false;
+            out.close();
+        }
+
+        private static void format(Slot s, StringBuilder line) {
+            line.setLength(0);
+            TIME_FORMAT.formatTo(Instant.ofEpochMilli(s.timeMillis), line);
+            line.append(' ').append(s.level).append(" [").append(s.thread).append("] ").append(s.event);
+            if (s.detail != null) line.append(' ').append(s.detail);
+            for (int k = 0; k < MAX_FIELDS; k++) {
+                if (s.keys[k] != null) line.append(' ').append(s.keys[k]).append('=').append(s.values[k]);
+            }
+            line.append(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Appends to a file and moves it to {@code file.1} (shifting older ones) when it gets too big.
+     * Write errors are reported once on stderr; the log then keeps trying on the next rotation.
+     */
+    private static final class RotatingFile {
+        private final Path file;
+        private final long maxBytes;
+        private final int keep;
+        private Writer writer;
+        private long size;
+        private boolean failed;
+
+        RotatingFile(Path file, long maxBytes, int keep) {
+            this.file = file;
+            this.maxBytes = maxBytes;
+            this.keep = keep;
+        }
+
+        void write(CharSequence line) {
+            try {
+                if (writer == null) open();
+                if (size > 0 && size + line.length() > maxBytes) {
+                    rotate();
+                }
+                writer.append(line);
+                size += line.length();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        void flush() {
+            try {
+                if (writer != null) writer.flush();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        void close() {
+            try {
+                if (writer != null) writer.close();
+            } catch (IOException e) {
+                fail(e);
+            }
+            writer = null;
+        }
+
+        private void open() throws IOException {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            size = Files.exists(file) ? Files.size(file) : 0;
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+
+        private void rotate() throws IOException {
+            writer.close();
+            writer = null;
+            if (keep == 0) {
+                Files.deleteIfExists(file);
+            } else {
+                Files.deleteIfExists(rotated(keep));
+                for (int n = keep - 1; n >= 1; n--) {
+                    if (Files.exists(rotated(n))) Files.move(rotated(n), rotated(n + 1));
+                }
+                Files.move(file, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+            }
+            open();
+        }
+
+        private Path rotated(int n) {
+            return file.resolveSibling(file.getFileName() + "." + n);
+        }
+
+        private void fail(IOException e) {
+            if (!failed) System.err.println("Event log write failed: " + e.getMessage());
+            failed = true;
+            try {
+                if (writer != null) writer.close();
+            } catch (IOException ignored) {
+                // already failing
+            }
+            writer = null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Named {@link LatencyHistogram}s for the controller entry points and model phases.
+ * <p>
+ * Usage: {@code long t = Latency.start(); ... Latency.stop(HISTOGRAM, t);}. Timing costs two
+ * {@code System.nanoTime()} calls and a histogram record; with timing switched off it costs a
+ * field read. That is small next to a UI move (model, observers, view update) but not next to a
+ * bare model move, so games played headless (the simulator) switch it off with {@code Game.setTiming};
+ * they then also stay out of the interactive report.
+ * Percentiles are read with {@link #histograms()}, {@link #report()} or from the file written
+ * by {@link #startPeriodicDump}.
+ */
+public final class Latency {
+
+    /**
+     * Start value for an operation that is not timed; {@link #stop} ignores it.
+     */
+    public static final long OFF = Long.MIN_VALUE;
+
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = true;
+
+    private static ScheduledExecutorService dumpExecutor;
+    private static ScheduledFuture<?> dumpTask;
+
+    private Latency() {
+    }
+
+    /**
+     * The histogram with this name, created on first use. Callers keep it in a static field.
+     */
+    public static LatencyHistogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * All histograms by name, in name order.
+     */
+    public static SortedMap<String, LatencyHistogram> histograms() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(HISTOGRAMS));
+    }
+
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static long start() {
+        return enabled ? System.nanoTime() : OFF;
+    }
+
+    /**
+     * Records the time since {@code start} (a {@link #start()} result).
+     */
+    public static void stop(LatencyHistogram histogram, long start) {
+        if (start != OFF) histogram.record(System.nanoTime() - start);
+    }
+
+    public static void resetAll() {
+        HISTOGRAMS.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * One line per histogram that has values: count, mean and percentiles in microseconds.
+     */
+    public static String report() {
+        StringBuilder sb = new StringBuilder(String.format("%-24s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation (us)", "count", "mean", "p50", "p90", "p99", "p99.9", "max"));
+        for (LatencyHistogram h : histograms().values()) {
+            LatencyHistogram.Snapshot s = h.snapshot();
+            if (s.count == 0) continue;
+            sb.append(String.format("%-24s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    s.name, s.count, s.meanNanos() / 1e3,
+                    s.percentileNanos(0.5) / 1e3, s.percentileNanos(0.9) / 1e3,
+                    s.percentileNanos(0.99) / 1e3, s.percentileNanos(0.999) / 1e3, s.maxNanos / 1e3));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes {@link #report()} to {@code file} every {@code period} on a daemon thread,
+     * replacing the previous dump. A later call replaces the schedule.
+     */
+    public static synchronized void startPeriodicDump(Path file, long period, TimeUnit unit) {
+        stopPeriodicDump();
+        if (dumpExecutor == null) {
+            dumpExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "latency-dump");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        dumpTask = dumpExecutor.scheduleAtFixedRate(() -> dump(file), period, period, unit);
+    }
+
+    public static synchronized void stopPeriodicDump() {
+        if (dumpTask != null) {
+            dumpTask.cancel(false);
+            dumpTask = null;
+        }
+    }
+
+    /**
+     * Writes the report now; a reader never sees a half-written file.
+     */
+    public static void dump(Path file) {
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(tmp, report(), StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            EventLog.log(EventLog.Level.WARN, "latency.dumpFailed", String.valueOf(e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets (the HdrHistogram layout).
+ * <p>
+ * Values below 2^{@value #SUB_BITS} nanoseconds get a bucket each; every power of two above
+ * that is split into 2^{@value #SUB_BITS} equal buckets, so a percentile is off by at most
+ * 1/64 (1.6%) of its value. Recording is a few atomic increments, safe from any thread.
+ * A {@link Snapshot} copies the buckets while recording goes on, so it may miss values
+ * recorded during the copy, but never shows a half-written one.
+ */
+public final class LatencyHistogram {
+
+    // Buckets per power of two, as a power of two
+    private static final int SUB_BITS = 6;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    // Enough buckets for any non-negative long
+    private static final int BUCKETS = bucketOf(Long.MAX_VALUE) + 1;
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records one duration; negative values (a clock step) count as 0.
+     */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts.incrementAndGet(bucketOf(nanos));
+        totalNanos.addAndGet(nanos);
+        long max;
+        while (nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos)) {
+            // lost a race with a larger or equal value; look again
+        }
+    }
+
+    /**
+     * Clears all recorded values (values recorded meanwhile may survive).
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) counts.set(i, 0);
+        totalNanos.set(0);
+        maxNanos.set(0);
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(name, copy, count, totalNanos.get(), maxNanos.get());
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_COUNT) return (int) nanos;
+        int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BITS;
+        return ((shift + 1) << SUB_BITS) + (int) ((nanos >>> shift) - SUB_COUNT);
+    }
+
+    // Largest value that falls into the bucket
+    static long bucketHigh(int bucket) {
+        int shift = (bucket >>> SUB_BITS) - 1;
+        if (shift < 0) return bucket;
+        long low = (long) ((bucket & (SUB_COUNT - 1)) + SUB_COUNT) << shift;
+        return low + (1L << shift) - 1;
+    }
+
+    /**
+     * Values of a histogram at one moment, for reading percentiles.
+     */
+    public static final class Snapshot {
+        public final String name;
+        public final long count;
+        public final long maxNanos;
+        private final long[] counts;
+        private final long totalNanos;
+
+        Snapshot(String name, long[] counts, long count, long totalNanos, long maxNanos) {
+            this.name = name;
+            this.counts = counts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Smallest recorded duration that at least the given share of values did not exceed
+         * (bucket upper bound, capped at the maximum).
+         *
+         * @param fraction between 0 and 1, e.g. 0.99
+         * @return nanoseconds, 0 if nothing was recorded
+         */
+        public long percentileNanos(double fraction) {
+            if (count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(fraction * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return Math.min(bucketHigh(i), maxNanos);
+            }
+            return maxNanos;
+        }
+    }
+}
@@ -129,9 +129,9 @@ public final class SoundManager {
     private static Clip loadClip(String resourcePath) {
         try {
             URL url = SoundManager.class.getResource(resourcePath);
-            System.out.println("Loading sound: " + resourcePath + " -> " + url); // debug
+            EventLog.log(EventLog.Level.DEBUG, "sound.load", resourcePath);
             if (url == null) {
-                System.err.println("Sound not found: " + resourcePath);
+                EventLog.log(EventLog.Level.WARN, "sound.missing", resourcePath);
                 return null;
             }
             AudioInputStream ais = AudioSystem.getAudioInputStream(url);
@@ -139,7 +139,9 @@ public final class SoundManager {
             c.open(ais);
             return c;
         } catch (Exception e) {
-            e.printStackTrace();
+            if (EventLog.isEnabled(EventLog.Level.ERROR)) {
+                EventLog.log(EventLog.Level.ERROR, "sound.loadFailed", resourcePath + ": " + e);
+            }
             return null;
         }
     }
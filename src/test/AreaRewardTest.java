@@ -0,0 +1,124 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.Move;
+import Model.MoveJournal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the area reveal reward: it opens the window with the most hidden safe cells.
+ */
+public class AreaRewardTest {
+
+    @Test
+    @DisplayName("The reward opens the only area that still has hidden safe cells")
+    void findsRemainingPocket() {
+        Game game = new Game(BoardSpec.custom(Difficulty.EASY, 30, 30, 40), 3L);
+        Board board = game.getBoard1();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                boolean pocket = r >= 20 && r < 23 && c >= 7 && c < 10;
+                Cell cell = board.getCell(r, c);
+                cell.setContent(pocket ? Cell.CellContent.EMPTY : cell.getContent());
+                if (!pocket && !cell.isMine()) cell.setState(Cell.CellState.REVEALED);
+            }
+        }
+
+        board.revealRandom3x3AreaReward();
+        for (int r = 20; r < 23; r++) {
+            for (int c = 7; c < 10; c++) {
+                assertTrue(board.getCell(r, c).isRevealed(), "(" + r + "," + c + ")");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Each reward uncovers as many hidden safe cells as the best window holds, through moves and undo")
+    void alwaysPicksBestWindow() {
+        BoardSpec spec = BoardSpec.custom(Difficulty.HARD, 24, 31, 120).withRewardWindow(5);
+        Game game = new Game(spec, 12L);
+        game.enableUndo(1 << 20);
+        Board board = game.getBoard1();
+        Random random = new Random(12);
+
+        for (int step = 0; step < 200 && board.getSafeCellsRemaining() > 0; step++) {
+            int r = random.nextInt(board.getRows());
+            int c = random.nextInt(board.getCols());
+            switch (random.nextInt(5)) {
+                case 0 -> board.toggleFlag(r, c);
+                case 1 -> game.undo();
+                case 2 -> {
+                    int best = bestWindow(board, 5);
+                    int before = countHiddenSafe(board);
+                    board.revealRandom3x3AreaReward();
+                    assertEquals(best, before - countHiddenSafe(board), "step " + step);
+                }
+                default -> {
+                    if (board.getCell(r, c).isMine()) break;
+                    Move move = game.beginMove();
+                    move.reveal(board, r, c);
+                    move.commit();
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Boards smaller than the window get a clamped window instead of an error")
+    void smallBoards() {
+        Game game = new Game(BoardSpec.custom(Difficulty.EASY, 2, 2, 1), 1L);
+        Board board = game.getBoard1();
+        board.revealRandom3x3AreaReward();
+        assertEquals(4, board.getRevealedCount());
+        board.revealRandom3x3AreaReward(); // nothing left to open
+        assertEquals(4, board.getRevealedCount());
+
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.of(Difficulty.EASY).withRewardWindow(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardSpec.of(Difficulty.EASY).withRewardWindow(BoardSpec.MAX_REWARD_WINDOW + 1));
+    }
+
+    @Test
+    @DisplayName("The window size is part of the spec saved in the journal")
+    void windowSizeIsJournaled() {
+        BoardSpec spec = BoardSpec.of(Difficulty.MEDIUM).withRewardWindow(7);
+        MoveJournal journal = MoveJournal.fromBytes(new MoveJournal(spec, 9L).toByteArray());
+        assertEquals(7, journal.getSpec().getRewardWindow());
+        assertEquals(BoardSpec.DEFAULT_REWARD_WINDOW, BoardSpec.of(Difficulty.MEDIUM).getRewardWindow());
+    }
+
+    private static int countHiddenSafe(Board board) {
+        int n = 0;
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                if (!cell.isMine() && cell.getState() == Cell.CellState.HIDDEN) n++;
+            }
+        }
+        return n;
+    }
+
+    private static int bestWindow(Board board, int size) {
+        int best = 0;
+        for (int r0 = 0; r0 + size <= board.getRows(); r0++) {
+            for (int c0 = 0; c0 + size <= board.getCols(); c0++) {
+                int n = 0;
+                for (int r = r0; r < r0 + size; r++) {
+                    for (int c = c0; c < c0 + size; c++) {
+                        Cell cell = board.getCell(r, c);
+                        if (!cell.isMine() && cell.getState() == Cell.CellState.HIDDEN) n++;
+                    }
+                }
+                best = Math.max(best, n);
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,81 @@
+import Model.Board;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that the O(1) found-mine / flagged-mine / hidden-safe counters kept by Board
+ * always agree with a full scan of the cells, through reveals, flags and unflags.
+ */
+public class BoardCountersTest {
+
+    @Test
+    @DisplayName("Counters match a full scan after every random move")
+    void countersMatchScan() {
+        Random random = new Random(7);
+        for (int g = 0; g < 50; g++) {
+            Game game = new Game(Difficulty.HARD);
+            Board board = game.getBoard1();
+            assertCountersMatch(board);
+
+            for (int move = 0; move < 200 && game.getGameState() == GameState.RUNNING; move++) {
+                int r = random.nextInt(board.getRows());
+                int c = random.nextInt(board.getCols());
+                if (random.nextInt(3) == 0) {
+                    board.revealCell(r, c);
+                } else {
+                    board.toggleFlag(r, c);
+                }
+                assertCountersMatch(board);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Direct cell edits through views keep the counters exact")
+    void viewEditsUpdateCounters() {
+        Game game = new Game(Difficulty.EASY);
+        Board board = game.getBoard1();
+
+        Cell cell = board.getCell(0, 0);
+        cell.setContent(Cell.CellContent.MINE);
+        cell.setState(Cell.CellState.FLAGGED);
+        assertCountersMatch(board);
+
+        cell.setContent(Cell.CellContent.NUMBER);
+        assertCountersMatch(board);
+
+        board.revealAll();
+        assertEquals(0, board.getSafeCellsRemaining());
+        assertTrue(board.isSolved());
+        assertCountersMatch(board);
+    }
+
+    private static void assertCountersMatch(Board board) {
+        int found = 0;
+        int flagged = 0;
+        int hiddenSafe = 0;
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                if (cell.isMine()) {
+                    if (cell.isRevealed() || cell.isFlagged()) found++;
+                    if (cell.isFlagged()) flagged++;
+                } else if (!cell.isRevealed()) {
+                    hiddenSafe++;
+                }
+            }
+        }
+        assertEquals(found, board.getMinesFound(), "found mines");
+        assertEquals(flagged, board.getFlaggedMines(), "flagged mines");
+        assertEquals(hiddenSafe, board.getSafeCellsRemaining(), "hidden safe cells");
+        assertEquals(found == board.getTotalMines(), board.areAllMinesFound());
+    }
+}
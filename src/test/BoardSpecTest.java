@@ -0,0 +1,94 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BoardSpec: presets, validation and custom (large) boards.
+ */
+public class BoardSpecTest {
+
+    @Test
+    @DisplayName("Presets carry exactly the Difficulty values")
+    void presetsMatchDifficulty() {
+        for (Difficulty d : Difficulty.values()) {
+            BoardSpec spec = BoardSpec.of(d);
+            assertEquals(d.name(), spec.getName());
+            assertEquals(d, spec.getRules());
+            assertEquals(d.getRows(), spec.getRows());
+            assertEquals(d.getCols(), spec.getCols());
+            assertEquals(d.getMines(), spec.getMines());
+            assertEquals(d.getQuestionCells(), spec.getQuestionCells());
+            assertEquals(d.getSurpriseCells(), spec.getSurpriseCells());
+            assertEquals(d.getStartingLives(), spec.getStartingLives());
+            assertEquals(d.getActivationCost(), spec.getActivationCost());
+            assertEquals(d.getSurpriseValue(), spec.getSurpriseValue());
+
+            Game game = new Game(d);
+            assertEquals(d, game.getDifficulty());
+            assertEquals(d.getRows(), game.getBoard1().getRows());
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid sizes and densities are rejected")
+    void validation() {
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.custom(Difficulty.EASY, 1, 10, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardSpec.custom(Difficulty.EASY, BoardSpec.MAX_DIMENSION + 1, 10, 2));
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.custom(Difficulty.EASY, 10, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.custom(Difficulty.EASY, 10, 10, 90));
+        assertThrows(IllegalArgumentException.class, () -> new BoardSpec("X", Difficulty.EASY,
+                10, 10, 10, 50, 50, 3, 5, 8, 1, -3));
+        assertThrows(IllegalArgumentException.class, () -> new BoardSpec("X", Difficulty.EASY,
+                10, 10, 10, 1, 1, 0, 5, 8, 1, -3));
+        assertDoesNotThrow(() -> BoardSpec.custom(Difficulty.HARD, 2000, 2000, 400_000));
+    }
+
+    @Test
+    @DisplayName("A custom game uses the spec's size, mines and rule values")
+    void customGame() {
+        BoardSpec spec = BoardSpec.custom(Difficulty.MEDIUM, 30, 50, 200);
+        Game game = new Game(spec);
+        Board board = game.getBoard2();
+
+        assertEquals(spec, game.getSpec());
+        assertEquals(Difficulty.MEDIUM, game.getDifficulty());
+        assertEquals(30, board.getRows());
+        assertEquals(50, board.getCols());
+        assertEquals(spec.getStartingLives(), game.getSharedLives());
+
+        int mines = 0;
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                if (board.getCell(r, c).isMine()) mines++;
+            }
+        }
+        assertEquals(200, mines);
+    }
+
+    @Test
+    @DisplayName("A huge open region cascades without recursion")
+    void largeBoardCascade() {
+        Game game = new Game(BoardSpec.custom(Difficulty.EASY, 1000, 1000, 1));
+        Board board = game.getBoard1();
+
+        int r = 0, c = 0;
+        search:
+        for (r = 0; r < board.getRows(); r++) {
+            for (c = 0; c < board.getCols(); c++) {
+                if (board.getCell(r, c).getContent() == Cell.CellContent.EMPTY) break search;
+            }
+        }
+        board.revealCell(r, c);
+
+        assertEquals(GameState.RUNNING, game.getGameState());
+        assertEquals(0, board.getSafeCellsRemaining(), "one click clears a board with a single mine");
+    }
+}
@@ -0,0 +1,118 @@
+import Model.Board;
+import Model.Cell;
+import Model.ChangeSet;
+import Model.Difficulty;
+import Model.Game;
+import Model.Move;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for change sets: a board reports exactly the cells a mutation touched.
+ */
+public class ChangeSetTest {
+
+    private Game game;
+    private Board board;
+
+    // Empty board with one mine at (0,0); its three neighbors are 1s
+    @BeforeEach
+    void setup() {
+        game = new Game(Difficulty.EASY);
+        game.setChangeTracking(true);
+        board = game.getBoard1();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                cell.setContent(Cell.CellContent.EMPTY);
+                cell.setAdjacentMines(0);
+                cell.setState(Cell.CellState.HIDDEN);
+            }
+        }
+        board.getCell(0, 0).setContent(Cell.CellContent.MINE);
+        for (int[] p : new int[][]{{0, 1}, {1, 0}, {1, 1}}) {
+            board.getCell(p[0], p[1]).setContent(Cell.CellContent.NUMBER);
+            board.getCell(p[0], p[1]).setAdjacentMines(1);
+        }
+        board.takeChanges();
+    }
+
+    @Test
+    @DisplayName("A cascade reports every newly revealed cell once, and nothing else")
+    void cascadeReportsRevealedCells() {
+        Move move = game.beginMove();
+        move.reveal(board, 5, 5);
+        move.commit();
+
+        ChangeSet changes = board.takeChanges();
+        Set<Integer> seen = new HashSet<>();
+        for (int k = 0; k < changes.size(); k++) {
+            assertTrue(seen.add(changes.row(k) * board.getCols() + changes.col(k)), "cell reported twice");
+            assertEquals(Cell.CellState.HIDDEN, changes.oldState(k));
+            assertEquals(Cell.CellState.REVEALED, changes.newState(k));
+            assertTrue(changes.isNewlyRevealed(k));
+            assertTrue(board.getCell(changes.row(k), changes.col(k)).isRevealed());
+        }
+        assertEquals(board.getRows() * board.getCols() - 1, changes.size(), "everything but the mine");
+        assertTrue(board.takeChanges().isEmpty(), "taking starts a new batch");
+        assertTrue(game.getBoard2().takeChanges().isEmpty(), "the other board did not change");
+    }
+
+    @Test
+    @DisplayName("Several changes to one cell collapse to its first and last state")
+    void changesToOneCellCoalesce() {
+        board.toggleFlag(3, 3);
+        board.toggleFlag(3, 3);
+        board.toggleFlag(4, 4);
+
+        ChangeSet changes = board.takeChanges();
+        assertEquals(2, changes.size());
+        assertEquals(3, changes.row(0));
+        assertEquals(Cell.CellState.HIDDEN, changes.oldState(0));
+        assertEquals(Cell.CellState.HIDDEN, changes.newState(0));
+        assertEquals(Cell.CellState.FLAGGED, changes.newState(1));
+        assertFalse(changes.isNewlyRevealed(1));
+    }
+
+    @Test
+    @DisplayName("A special cell that only becomes used is reported with an unchanged state")
+    void usedOnlyChangeIsReported() {
+        Cell cell = board.getCell(6, 6);
+        cell.setContent(Cell.CellContent.QUESTION);
+        cell.setState(Cell.CellState.REVEALED);
+        board.takeChanges();
+
+        cell.setUsed(true);
+        ChangeSet changes = board.takeChanges();
+        assertEquals(1, changes.size());
+        assertEquals(Cell.CellState.REVEALED, changes.oldState(0));
+        assertEquals(Cell.CellState.REVEALED, changes.newState(0));
+        assertFalse(changes.isNewlyRevealed(0));
+    }
+
+    @Test
+    @DisplayName("Undo reports the cells it put back; without tracking nothing is recorded")
+    void undoAndTrackingOff() {
+        game.enableUndo(1 << 20);
+        Move move = game.beginMove();
+        move.reveal(board, 0, 1);
+        move.commit();
+        board.takeChanges();
+
+        assertTrue(game.undo());
+        ChangeSet changes = board.takeChanges();
+        assertEquals(1, changes.size());
+        assertEquals(Cell.CellState.REVEALED, changes.oldState(0));
+        assertEquals(Cell.CellState.HIDDEN, changes.newState(0));
+
+        game.setChangeTracking(false);
+        board.toggleFlag(2, 2);
+        assertSame(ChangeSet.EMPTY, board.takeChanges());
+    }
+}
@@ -0,0 +1,115 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import Model.JournalReplayer;
+import Model.Move;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for chording: a satisfied number reveals its other neighbors as one move.
+ */
+public class ChordTest {
+
+    private Game game;
+    private Board board;
+
+    // Empty board with one mine at (0,0); its three neighbors are 1s
+    @BeforeEach
+    void setup() {
+        game = new Game(Difficulty.EASY);
+        board = game.getBoard1();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                cell.setContent(Cell.CellContent.EMPTY);
+                cell.setAdjacentMines(0);
+                cell.setState(Cell.CellState.HIDDEN);
+            }
+        }
+        board.getCell(0, 0).setContent(Cell.CellContent.MINE);
+        for (int[] p : new int[][]{{0, 1}, {1, 0}, {1, 1}}) {
+            board.getCell(p[0], p[1]).setContent(Cell.CellContent.NUMBER);
+            board.getCell(p[0], p[1]).setAdjacentMines(1);
+        }
+        board.getCell(1, 1).setState(Cell.CellState.REVEALED);
+    }
+
+    @Test
+    @DisplayName("Chording a satisfied number reveals all other neighbors with cascades, checked once")
+    void chordRevealsNeighbors() {
+        board.toggleFlag(0, 0);
+        int scoreBefore = game.getSharedScore();
+
+        Move move = game.beginMove();
+        assertTrue(move.chord(board, 1, 1));
+        Move.Summary summary = move.commit();
+
+        assertTrue(board.getCell(0, 1).isRevealed());
+        assertTrue(board.getCell(8, 8).isRevealed(), "the cascade from an empty neighbor reaches the far corner");
+        assertFalse(board.getCell(0, 0).isRevealed());
+        assertEquals(board.getRows() * board.getCols() - 1, summary.cellsRevealed + 1);
+        assertEquals(summary.cellsRevealed, game.getSharedScore() - scoreBefore);
+        assertEquals(1, summary.statusChecksSaved, "one status check for the whole chord");
+    }
+
+    @Test
+    @DisplayName("A number without matching flags does not chord")
+    void unsatisfiedNumberDoesNothing() {
+        Move move = game.beginMove();
+        assertFalse(move.chord(board, 1, 1));
+        Move.Summary summary = move.commit();
+        assertEquals(0, summary.cellsRevealed);
+
+        assertFalse(board.chord(2, 2), "hidden cells cannot be chorded");
+    }
+
+    @Test
+    @DisplayName("A wrong flag makes the chord hit the mine and cost a life")
+    void wrongFlagHitsMine() {
+        board.toggleFlag(0, 1);
+        int lives = game.getSharedLives();
+
+        Move move = game.beginMove();
+        assertTrue(move.chord(board, 1, 1));
+        move.commit();
+
+        assertTrue(board.getCell(0, 0).isRevealed());
+        assertEquals(lives - 1, game.getSharedLives());
+    }
+
+    @Test
+    @DisplayName("Chords are journaled and replay to the same game")
+    void chordReplays() {
+        Game seeded = new Game(BoardSpec.of(Difficulty.MEDIUM), 9L);
+        Board b = seeded.getBoard1();
+        int chords = 0;
+        for (int r = 0; r < b.getRows() && seeded.getGameState() == GameState.RUNNING; r++) {
+            for (int c = 0; c < b.getCols() && seeded.getGameState() == GameState.RUNNING; c++) {
+                if (b.getCell(r, c).getContent() != Cell.CellContent.NUMBER || b.getCell(r, c).isFlagged()) continue;
+                Move move = seeded.beginMove();
+                move.reveal(b, r, c);
+                for (int dr = -1; dr <= 1; dr++) {
+                    for (int dc = -1; dc <= 1; dc++) {
+                        Cell n = b.getCell(r + dr, c + dc);
+                        if (n != null && n.isMine() && !n.isFlagged() && !n.isRevealed()) move.flag(b, r + dr, c + dc);
+                    }
+                }
+                if (move.chord(b, r, c)) chords++;
+                move.commit();
+            }
+        }
+        assertTrue(chords > 0);
+
+        Game replayed = JournalReplayer.replay(seeded.getJournal());
+        assertEquals(seeded.getSharedScore(), replayed.getSharedScore());
+        assertEquals(b.getRevealedCount(), replayed.getBoard1().getRevealedCount());
+        assertEquals(seeded.getGameState(), replayed.getGameState());
+    }
+}
@@ -0,0 +1,164 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import Model.GenerationMode;
+import Model.solver.CellPos;
+import Model.solver.ConstraintSolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the deterministic solver: soundness, the subset rule,
+ * and that incremental updates agree with a solve from scratch.
+ */
+public class ConstraintSolverTest {
+
+    @Test
+    @DisplayName("Deductions are always correct and incremental results match a fresh solve")
+    void soundAndIncremental() {
+        BoardSpec spec = BoardSpec.of(Difficulty.HARD).withGenerationMode(GenerationMode.FIRST_CLICK_SAFE);
+        Random random = new Random(11);
+
+        for (int g = 0; g < 100; g++) {
+            Game game = new Game(spec);
+            Board board = game.getBoard1();
+            ConstraintSolver solver = new ConstraintSolver(board);
+            board.revealCell(random.nextInt(16), random.nextInt(16));
+
+            while (game.getGameState() == GameState.RUNNING && solver.hasSafeMove()) {
+                List<CellPos> safe = solver.getSafeCells();
+                List<CellPos> mines = solver.getMineCells();
+                for (CellPos p : safe) assertFalse(board.getCell(p.row, p.col).isMine(), "safe " + p);
+                for (CellPos p : mines) assertTrue(board.getCell(p.row, p.col).isMine(), "mine " + p);
+
+                ConstraintSolver fresh = new ConstraintSolver(board);
+                assertEquals(safe, fresh.getSafeCells());
+                assertEquals(mines, fresh.getMineCells());
+                fresh.detach();
+
+                // flag one deduced mine now and then (ignored by this solver)
+                if (!mines.isEmpty() && random.nextBoolean()) {
+                    CellPos m = mines.get(random.nextInt(mines.size()));
+                    board.toggleFlag(m.row, m.col);
+                }
+                CellPos next = safe.get(random.nextInt(safe.size()));
+                board.revealCell(next.row, next.col);
+            }
+            assertEquals(1, solver.getRebuilds(), "no rebuilds without trusted flags");
+            solver.detach();
+        }
+    }
+
+    @Test
+    @DisplayName("A 1-1 pattern at the edge is solved by the subset rule")
+    void subsetRule() {
+        Game game = new Game(Difficulty.EASY);
+        Board board = game.getBoard1();
+        // hidden top row with mines at columns 0, 3, 6, 8; everything below is revealed
+        boolean[] mine = new boolean[board.getCols()];
+        mine[0] = mine[3] = mine[6] = mine[8] = true;
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                if (r == 0) {
+                    cell.setContent(mine[c] ? Cell.CellContent.MINE : Cell.CellContent.NUMBER);
+                    cell.setState(Cell.CellState.HIDDEN);
+                    continue;
+                }
+                int adjacent = 0;
+                if (r == 1) {
+                    for (int dc = -1; dc <= 1; dc++) {
+                        if (c + dc >= 0 && c + dc < board.getCols() && mine[c + dc]) adjacent++;
+                    }
+                }
+                cell.setAdjacentMines(adjacent);
+                cell.setContent(adjacent > 0 ? Cell.CellContent.NUMBER : Cell.CellContent.EMPTY);
+                cell.setState(Cell.CellState.REVEALED);
+            }
+        }
+
+        ConstraintSolver solver = new ConstraintSolver(board);
+
+        assertTrue(solver.isSafe(0, 2), "{a,b} has 1 mine and {a,b,c} has 1 mine, so c is safe");
+        assertTrue(solver.getPairDeductions() > 0);
+        for (int c = 0; c < board.getCols(); c++) {
+            assertEquals(mine[c], solver.isMine(0, c), "column " + c);
+            assertEquals(!mine[c], solver.isSafe(0, c), "column " + c);
+        }
+    }
+
+    @Test
+    @DisplayName("Trusted flags count as mines, and removing one triggers a rebuild")
+    void trustedFlags() {
+        Game game = new Game(Difficulty.EASY);
+        Board board = game.getBoard1();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                cell.setContent(Cell.CellContent.EMPTY);
+                cell.setAdjacentMines(0);
+                cell.setState(Cell.CellState.HIDDEN);
+            }
+        }
+        // (0,0) is a mine; (0,1) is a revealed 1 whose other neighbors are hidden
+        board.getCell(0, 0).setContent(Cell.CellContent.MINE);
+        board.getCell(0, 1).setContent(Cell.CellContent.NUMBER);
+        board.getCell(0, 1).setAdjacentMines(1);
+        board.getCell(0, 1).setState(Cell.CellState.REVEALED);
+
+        ConstraintSolver solver = new ConstraintSolver(board, true);
+        assertFalse(solver.isSafe(0, 2));
+
+        board.toggleFlag(0, 0);
+        assertTrue(solver.isSafe(0, 2));
+        assertTrue(solver.isSafe(1, 1));
+
+        board.toggleFlag(0, 0);
+        assertFalse(solver.isSafe(0, 2));
+        assertEquals(2, solver.getRebuilds());
+    }
+
+    @Test
+    @DisplayName("A deduced mine that gets a trusted flag is no longer reported as a mine to flag")
+    void flaggedDeducedMine() {
+        Game game = new Game(Difficulty.EASY);
+        Board board = game.getBoard1();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                cell.setContent(Cell.CellContent.EMPTY);
+                cell.setAdjacentMines(0);
+                cell.setState(Cell.CellState.HIDDEN);
+            }
+        }
+        // (0,0) is a mine and the only hidden neighbor of the revealed 1 at (0,1)
+        board.getCell(0, 0).setContent(Cell.CellContent.MINE);
+        for (int[] p : new int[][]{{0, 1}, {1, 0}, {1, 1}}) {
+            board.getCell(p[0], p[1]).setContent(Cell.CellContent.NUMBER);
+            board.getCell(p[0], p[1]).setAdjacentMines(1);
+        }
+        for (int[] p : new int[][]{{0, 1}, {1, 0}, {1, 1}, {0, 2}, {1, 2}}) {
+            board.getCell(p[0], p[1]).setState(Cell.CellState.REVEALED);
+        }
+
+        ConstraintSolver solver = new ConstraintSolver(board, true);
+        assertTrue(solver.isMine(0, 0));
+        assertEquals(new CellPos(0, 0), solver.firstMineCell());
+
+        board.toggleFlag(0, 0);
+        assertFalse(solver.isMine(0, 0));
+        assertNull(solver.firstMineCell());
+        assertEquals(0, solver.getMineCount());
+
+        board.toggleFlag(0, 0);
+        assertTrue(solver.isMine(0, 0));
+    }
+}
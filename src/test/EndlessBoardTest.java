@@ -0,0 +1,138 @@
+import Model.Cell;
+import Model.EndlessBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the chunked endless board: layouts come from the seed alone, cascades cross chunk
+ * edges, and evicted chunks come back exactly as they were while memory stays bounded.
+ */
+public class EndlessBoardTest {
+
+    @Test
+    @DisplayName("The same seed gives the same mines and numbers in any visiting order")
+    void layoutDependsOnlyOnSeed() {
+        EndlessBoard a = new EndlessBoard(42L);
+        EndlessBoard b = new EndlessBoard(42L);
+        // b sees the far area first, so its chunks are generated in a different order
+        b.isMine(5000, -7000);
+
+        for (int r = -100; r < 100; r += 7) {
+            for (int c = -100; c < 100; c += 3) {
+                assertEquals(a.getContent(r, c), b.getContent(r, c), "cell " + r + "," + c);
+                assertEquals(a.getAdjacentMines(r, c), b.getAdjacentMines(r, c));
+            }
+        }
+        assertEquals(a.getContent(5000, -7000), b.getContent(5000, -7000));
+        assertNotEquals(layout(new EndlessBoard(1L)), layout(new EndlessBoard(2L)));
+    }
+
+    @Test
+    @DisplayName("Numbers count mines across chunk edges")
+    void numbersAcrossEdges() {
+        EndlessBoard board = new EndlessBoard(7L, 0.3, 64);
+        for (int r = -70; r <= 70; r++) {
+            for (int c : new int[]{-65, -64, -1, 0, 63, 64}) {
+                if (board.isMine(r, c)) continue;
+                int count = 0;
+                for (int dr = -1; dr <= 1; dr++) {
+                    for (int dc = -1; dc <= 1; dc++) {
+                        if ((dr != 0 || dc != 0) && board.isMine(r + dr, c + dc)) count++;
+                    }
+                }
+                assertEquals(count, board.getAdjacentMines(r, c), "cell " + r + "," + c);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A cascade from the origin crosses chunk edges and stops only at numbers")
+    void cascadeCrossesChunks() {
+        EndlessBoard board = new EndlessBoard(3L, 0.15, 256);
+        int revealed = board.revealCell(0, 0);
+        assertTrue(revealed > 1, "revealed " + revealed);
+        assertEquals(revealed, board.getRevealedCount());
+
+        int minRow = 0, maxRow = 0, checked = 0;
+        for (int r = -200; r < 200; r++) {
+            for (int c = -200; c < 200; c++) {
+                if (!board.isRevealed(r, c)) continue;
+                assertFalse(board.isMine(r, c));
+                minRow = Math.min(minRow, r);
+                maxRow = Math.max(maxRow, r);
+                if (board.getAdjacentMines(r, c) > 0 || revealed >= EndlessBoard.MAX_CASCADE_CELLS) continue;
+                for (int dr = -1; dr <= 1; dr++) {
+                    for (int dc = -1; dc <= 1; dc++) {
+                        assertTrue(board.isRevealed(r + dr, c + dc), "neighbor of empty " + r + "," + c);
+                    }
+                }
+                checked++;
+            }
+        }
+        assertTrue(minRow < 0 && maxRow >= 0, "region spans the chunk edge at row 0");
+        assertTrue(checked > 0, "empty cells checked");
+    }
+
+    @Test
+    @DisplayName("Far-away chunks are evicted and restored exactly; memory stays bounded")
+    void evictionKeepsProgress() {
+        EndlessBoard board = new EndlessBoard(11L, 0.16, 16);
+        board.revealCell(0, 0);
+        board.toggleFlag(40, 40);
+        String home = snapshot(board, -64, 64);
+
+        // walk far away, changing one cell per chunk
+        for (int k = 1; k <= 400; k++) {
+            int r = k * 64 + 10;
+            if (board.isMine(r, 5)) board.toggleFlag(r, 5);
+            else board.revealCell(r, 5);
+            assertTrue(board.getLiveChunkCount() <= 16 + 9, "live chunks " + board.getLiveChunkCount());
+        }
+        assertTrue(board.getStoredChunkCount() > 300);
+        // a chunk with one changed cell compresses far below its 1 KB of bit planes
+        assertTrue(board.getStoredBytes() / board.getStoredChunkCount() < 200,
+                "bytes per stored chunk " + board.getStoredBytes() / board.getStoredChunkCount());
+
+        assertEquals(home, snapshot(board, -64, 64));
+        assertTrue(board.isFlagged(40, 40));
+    }
+
+    @Test
+    @DisplayName("Only reading cells across many chunks keeps the live limit and stores nothing")
+    void queriesKeepLimit() {
+        EndlessBoard board = new EndlessBoard(5L, 0.2, 9);
+        for (int k = 0; k < 200; k++) {
+            int r = (k % 20) * 64 + 3;
+            int c = (k / 20) * 64 + 7;
+            board.isMine(r, c);
+            board.isRevealed(r + 64, c);
+            board.isFlagged(r, c + 64);
+            board.getAdjacentMines(r - 64, c);
+            board.getContent(r, c - 64);
+            board.getState(r + 64, c + 64);
+            assertTrue(board.getLiveChunkCount() <= 9, "live chunks " + board.getLiveChunkCount());
+        }
+        assertEquals(0, board.getStoredChunkCount());
+    }
+
+    private static String layout(EndlessBoard board) {
+        StringBuilder sb = new StringBuilder();
+        for (int r = 0; r < 64; r++) {
+            for (int c = 0; c < 64; c++) sb.append(board.isMine(r, c) ? '*' : '.');
+        }
+        return sb.toString();
+    }
+
+    private static String snapshot(EndlessBoard board, int from, int to) {
+        StringBuilder sb = new StringBuilder();
+        for (int r = from; r < to; r++) {
+            for (int c = from; c < to; c++) {
+                Cell.CellState state = board.getState(r, c);
+                sb.append(state.ordinal());
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,144 @@
+import Model.BoardSpec;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.EventLog;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ring-buffer event log: line format, levels, rotation, concurrent producers.
+ */
+public class EventLogTest {
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void stopLog() {
+        EventLog.stop();
+        EventLog.setLevel(EventLog.Level.INFO);
+    }
+
+    @Test
+    @DisplayName("Records are written in order as 'time level [thread] event detail key=value'")
+    void format() throws Exception {
+        Path file = dir.resolve("logs").resolve("game.log");
+        EventLog.start(file);
+        EventLog.log(EventLog.Level.INFO, "game.end", "WON", "lives", 3, "lifeBonus", 15, null, 0, null, 0);
+        EventLog.log(EventLog.Level.WARN, "sound.missing", "/sounds/x.wav");
+        assertTrue(EventLog.flush(5, TimeUnit.SECONDS));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size(), lines.toString());
+        String thread = Thread.currentThread().getName();
+        assertTrue(lines.get(0).endsWith(" INFO [" + thread + "] game.end WON lives=3 lifeBonus=15"), lines.get(0));
+        assertTrue(lines.get(1).endsWith(" WARN [" + thread + "] sound.missing /sounds/x.wav"), lines.get(1));
+    }
+
+    @Test
+    @DisplayName("Levels below the threshold, and everything before start(), are not written")
+    void levels() throws Exception {
+        assertFalse(EventLog.isEnabled(EventLog.Level.ERROR), "not started");
+        EventLog.log(EventLog.Level.ERROR, "before.start");
+
+        Path file = dir.resolve("game.log");
+        EventLog.setLevel(EventLog.Level.WARN);
+        EventLog.start(file);
+        assertFalse(EventLog.isEnabled(EventLog.Level.INFO));
+        assertTrue(EventLog.isEnabled(EventLog.Level.WARN));
+        assertFalse(EventLog.isEnabled(EventLog.Level.OFF));
+        EventLog.log(EventLog.Level.INFO, "skipped");
+        EventLog.log(EventLog.Level.OFF, "never");
+        EventLog.log(EventLog.Level.ERROR, "kept");
+        EventLog.stop();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size(), lines.toString());
+        assertTrue(lines.get(0).endsWith("kept"));
+    }
+
+    @Test
+    @DisplayName("The file is rotated by size and only the newest files are kept")
+    void rotation() throws Exception {
+        Path file = dir.resolve("game.log");
+        EventLog.start(file, 64, 400, 2);
+        for (int i = 0; i < 100; i++) {
+            EventLog.log(EventLog.Level.INFO, "tick", "n", i);
+            if (i % 32 == 31) assertTrue(EventLog.flush(5, TimeUnit.SECONDS));
+        }
+        EventLog.stop();
+
+        assertTrue(Files.exists(dir.resolve("game.log.1")));
+        assertTrue(Files.exists(dir.resolve("game.log.2")));
+        assertFalse(Files.exists(dir.resolve("game.log.3")));
+        for (Path p : new Path[]{file, dir.resolve("game.log.1"), dir.resolve("game.log.2")}) {
+            assertTrue(Files.size(p) <= 400, p + " is " + Files.size(p) + " bytes");
+        }
+        List<String> newest = Files.readAllLines(file);
+        assertTrue(newest.get(newest.size() - 1).endsWith("tick n=99"));
+    }
+
+    @Test
+    @DisplayName("Four threads logging at once: every record is written or counted as dropped, in order per thread")
+    void concurrentProducers() throws Exception {
+        Path file = dir.resolve("game.log");
+        EventLog.start(file, 1024, Long.MAX_VALUE, 0);
+        int perThread = 20_000;
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) EventLog.log(EventLog.Level.INFO, "stress", "thread", id, "n", i);
+            }, "producer-" + t);
+            threads[t].start();
+        }
+        for (Thread t : threads) t.join();
+        assertTrue(EventLog.flush(10, TimeUnit.SECONDS));
+        long dropped = EventLog.droppedCount();
+        EventLog.stop();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(threads.length * perThread, lines.size() + dropped);
+        long[] last = {-1, -1, -1, -1};
+        for (String line : lines) {
+            int t = Integer.parseInt(line.substring(line.indexOf("thread=") + 7, line.indexOf(" n=")));
+            long n = Long.parseLong(line.substring(line.indexOf(" n=") + 3));
+            assertTrue(n > last[t], "out of order: " + line);
+            last[t] = n;
+        }
+    }
+
+    @Test
+    @DisplayName("A game logs its end once, and nothing when its logging is off")
+    void gameEvents() throws Exception {
+        Path file = dir.resolve("game.log");
+        EventLog.start(file);
+
+        Game quiet = new Game(BoardSpec.of(Difficulty.EASY), 2L);
+        quiet.setLogging(false);
+        quiet.deductLife(quiet.getSharedLives());
+
+        Game game = new Game(BoardSpec.of(Difficulty.EASY), 2L);
+        game.deductLife(game.getSharedLives());
+        assertEquals(GameState.LOST, game.getGameState());
+        assertTrue(EventLog.flush(5, TimeUnit.SECONDS));
+
+        List<String> ends = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (line.contains(" game.end ")) ends.add(line);
+        }
+        assertEquals(1, ends.size(), ends.toString());
+        assertTrue(ends.get(0).contains("game.end LOST lives=0"), ends.get(0));
+    }
+}
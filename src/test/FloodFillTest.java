@@ -0,0 +1,134 @@
+import Model.Board;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the iterative cascade in Board.revealCell against a straightforward
+ * recursive reference on generated EASY / MEDIUM / HARD boards.
+ */
+public class FloodFillTest {
+
+    private static final int GAMES_PER_DIFFICULTY = 200;
+
+    @Test
+    @DisplayName("Cascade reveals the same cells and score as the recursive reference")
+    void cascadeMatchesReference() {
+        Random random = new Random(42);
+        for (Difficulty difficulty : Difficulty.values()) {
+            for (int g = 0; g < GAMES_PER_DIFFICULTY; g++) {
+                Game game = new Game(difficulty);
+                Board board = game.getBoard1();
+
+                // reveal a random safe cell and compare with the reference expansion
+                int r, c;
+                do {
+                    r = random.nextInt(board.getRows());
+                    c = random.nextInt(board.getCols());
+                } while (board.getCell(r, c).isMine());
+
+                boolean[][] expected = new boolean[board.getRows()][board.getCols()];
+                int expectedCount = referenceReveal(board, r, c, expected);
+
+                int scoreBefore = game.getSharedScore();
+                int safeBefore = board.getSafeCellsRemaining();
+                board.revealCell(r, c);
+
+                for (int rr = 0; rr < board.getRows(); rr++) {
+                    for (int cc = 0; cc < board.getCols(); cc++) {
+                        assertEquals(expected[rr][cc], board.getCell(rr, cc).isRevealed(),
+                                difficulty + " cell (" + rr + "," + cc + ")");
+                    }
+                }
+                assertEquals(expectedCount, game.getSharedScore() - scoreBefore, "+1 per revealed safe cell");
+                assertEquals(expectedCount, safeBefore - board.getSafeCellsRemaining());
+                assertEquals(GameState.RUNNING, game.getGameState());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Flagged cells stop the cascade")
+    void flagsBlockCascade() {
+        Game game = new Game(Difficulty.EASY);
+        Board board = game.getBoard1();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                cell.setContent(Cell.CellContent.EMPTY);
+                cell.setAdjacentMines(0);
+                cell.setState(Cell.CellState.HIDDEN);
+            }
+        }
+        board.getCell(4, 4).setState(Cell.CellState.FLAGGED);
+
+        board.revealCell(0, 0);
+
+        assertFalse(board.getCell(4, 4).isRevealed());
+        assertTrue(board.getCell(8, 8).isRevealed());
+        assertEquals(board.getRows() * board.getCols() - 1, game.getSharedScore());
+    }
+
+    @Test
+    @DisplayName("The cascade does not wrap across board edges")
+    void cascadeStopsAtEdges() {
+        Game game = new Game(Difficulty.EASY);
+        Board board = game.getBoard1();
+        int last = board.getCols() - 1;
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                // first column is open, everything else is a hidden number
+                cell.setContent(c == 0 ? Cell.CellContent.EMPTY : Cell.CellContent.NUMBER);
+                cell.setAdjacentMines(c == 0 ? 0 : 1);
+                cell.setState(Cell.CellState.HIDDEN);
+            }
+        }
+
+        board.revealCell(0, 0);
+
+        for (int r = 0; r < board.getRows(); r++) {
+            assertTrue(board.getCell(r, 0).isRevealed());
+            assertTrue(board.getCell(r, 1).isRevealed());
+            assertFalse(board.getCell(r, last).isRevealed(), "row " + r + " wrapped to the last column");
+        }
+        assertEquals(2 * board.getRows(), board.getRevealedCount());
+    }
+
+    /**
+     * Recursive reference: the original revealCell/autoRevealEmptyCells behavior.
+     */
+    private static int referenceReveal(Board board, int r, int c, boolean[][] revealed) {
+        if (r < 0 || r >= board.getRows() || c < 0 || c >= board.getCols()) return 0;
+        Cell cell = board.getCell(r, c);
+        if (revealed[r][c] || cell.isRevealed() || cell.isFlagged()) return 0;
+
+        revealed[r][c] = true;
+        if (cell.isMine()) return 0;
+
+        int count = 1;
+        Cell.CellContent content = cell.getContent();
+        if (content == Cell.CellContent.EMPTY
+                || content == Cell.CellContent.QUESTION
+                || content == Cell.CellContent.SURPRISE) {
+            for (int i = -1; i <= 1; i++) {
+                for (int j = -1; j <= 1; j++) {
+                    int nr = r + i;
+                    int nc = c + j;
+                    if (nr < 0 || nr >= board.getRows() || nc < 0 || nc >= board.getCols()) continue;
+                    if (!board.getCell(nr, nc).isMine()) {
+                        count += referenceReveal(board, nr, nc, revealed);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,68 @@
+import Controller.GameController;
+import Model.GameHistoryEntry;
+import Model.GameHistoryManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the history CSV format and the history table filter, used without the history file.
+ */
+public class GameHistoryCsvTest {
+
+    private static final List<GameHistoryEntry> ENTRIES = List.of(
+            new GameHistoryEntry(LocalDateTime.of(2025, 3, 1, 10, 5), "Dana", "Omer, Jr.", "EASY", "WON", 120, 4, 95, 3, 2),
+            new GameHistoryEntry(LocalDateTime.of(2025, 3, 2, 21, 40), "Lior \"L\"", "Noa", "HARD", "LOST", -5, 0, 610, 6, 1),
+            new GameHistoryEntry(LocalDateTime.of(2025, 3, 3, 8, 0), "Dana", "Noa", "MEDIUM", "WON", 300, 2, 300, 5, 5));
+
+    @Test
+    @DisplayName("Entries survive a CSV round trip, including commas and quotes in names")
+    void roundTrip() throws Exception {
+        StringWriter out = new StringWriter();
+        try (BufferedWriter bw = new BufferedWriter(out)) {
+            GameHistoryManager.writeCsv(bw, ENTRIES);
+        }
+        List<GameHistoryEntry> read = GameHistoryManager.readCsv(new BufferedReader(new StringReader(out.toString())));
+
+        assertEquals(ENTRIES.size(), read.size());
+        for (int i = 0; i < ENTRIES.size(); i++) {
+            GameHistoryEntry a = ENTRIES.get(i);
+            GameHistoryEntry b = read.get(i);
+            assertEquals(a.getTimestamp(), b.getTimestamp());
+            assertEquals(a.getPlayer1Name(), b.getPlayer1Name());
+            assertEquals(a.getPlayer2Name(), b.getPlayer2Name());
+            assertEquals(a.getResult(), b.getResult());
+            assertEquals(a.getFinalScore(), b.getFinalScore());
+            assertEquals(a.getDurationSeconds(), b.getDurationSeconds());
+            assertEquals(a.getCorrectAnswers(), b.getCorrectAnswers());
+        }
+    }
+
+    @Test
+    @DisplayName("Corrupted lines are skipped")
+    void skipsBadLines() throws Exception {
+        String csv = "header\nnot,a,valid,line\n2025-03-01T10:05,A,B,EASY,WON,1,1,1,1,1\n";
+        assertEquals(1, GameHistoryManager.readCsv(new BufferedReader(new StringReader(csv))).size());
+    }
+
+    @Test
+    @DisplayName("Filters by difficulty, result and search term")
+    void filters() {
+        assertEquals(3, GameController.filterGameHistory(ENTRIES, "All", "All", "").size());
+        assertEquals(2, GameController.filterGameHistory(ENTRIES, null, "won", null).size());
+        assertEquals(1, GameController.filterGameHistory(ENTRIES, "HARD", "All", "").size());
+
+        List<GameController.GameHistoryRow> dana = GameController.filterGameHistory(ENTRIES, "All", "All", " DANA ");
+        assertEquals(2, dana.size());
+        assertEquals(1, GameController.filterGameHistory(ENTRIES, "All", "All", "02/03/25").size());
+        assertEquals(0, GameController.filterGameHistory(ENTRIES, "EASY", "LOST", "").size());
+    }
+}
@@ -0,0 +1,104 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameRandom;
+import Model.GenerationMode;
+import Model.ScoreRules;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that a game seed reproduces layouts, rewards and "OR" score choices,
+ * and that the named streams do not influence each other.
+ */
+public class GameRandomTest {
+
+    @Test
+    @DisplayName("The same seed gives the same layouts on both boards")
+    void sameSeedSameLayout() {
+        BoardSpec spec = BoardSpec.of(Difficulty.HARD);
+        Game a = new Game(spec, 42L);
+        Game b = new Game(spec, 42L);
+
+        assertEquals(42L, a.getSeed());
+        assertEquals(layout(a.getBoard1()), layout(b.getBoard1()));
+        assertEquals(layout(a.getBoard2()), layout(b.getBoard2()));
+        assertNotEquals(layout(a.getBoard1()), layout(a.getBoard2()), "boards use separate streams");
+        assertNotEquals(layout(a.getBoard1()), layout(new Game(spec, 43L).getBoard1()));
+    }
+
+    @Test
+    @DisplayName("Deferred generation and rewards replay from the seed")
+    void deferredAndRewardsReplay() {
+        BoardSpec spec = BoardSpec.of(Difficulty.EASY).withGenerationMode(GenerationMode.FIRST_CLICK_SAFE);
+        Game a = new Game(spec, 7L);
+        Game b = new Game(spec, 7L);
+
+        for (Game g : new Game[]{a, b}) {
+            g.getBoard1().revealCell(4, 4);
+            g.getBoard1().revealRandomMine();
+            g.getBoard1().revealRandom3x3AreaReward();
+        }
+        assertEquals(layout(a.getBoard1()), layout(b.getBoard1()));
+        assertEquals(revealed(a.getBoard1()), revealed(b.getBoard1()));
+    }
+
+    @Test
+    @DisplayName("A stream depends only on the seed and its name")
+    void streamsAreIndependent() {
+        GameRandom a = new GameRandom(99L);
+        GameRandom b = new GameRandom(99L);
+
+        // draw from another stream first in one of them
+        for (int i = 0; i < 100; i++) a.stream(GameRandom.SURPRISE).nextLong();
+        assertEquals(b.stream(GameRandom.SCORE).nextLong(), a.stream(GameRandom.SCORE).nextLong());
+        assertSame(a.stream(GameRandom.SCORE), a.stream(GameRandom.SCORE));
+    }
+
+    @Test
+    @DisplayName("Names with the same String hash code still get different streams")
+    void collidingNames() {
+        GameRandom random = new GameRandom(99L);
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertNotEquals(random.stream("Aa").nextLong(), random.stream("BB").nextLong());
+        assertNotEquals(random.stream("Aa", 3).nextLong(), random.stream("BB", 3).nextLong());
+    }
+
+    @Test
+    @DisplayName("Seeded score streams pick the same OR option")
+    void scoreChoicesReplay() {
+        SplittableRandom x = new SplittableRandom(5);
+        SplittableRandom y = new SplittableRandom(5);
+        for (int i = 0; i < 50; i++) {
+            ScoreRules.Result rx = ScoreRules.compute(Difficulty.MEDIUM, Game.QuestionLevel.EXPERT, false, x);
+            ScoreRules.Result ry = ScoreRules.compute(Difficulty.MEDIUM, Game.QuestionLevel.EXPERT, false, y);
+            assertEquals(rx.deltaLives, ry.deltaLives);
+        }
+    }
+
+    private static String layout(Board board) {
+        StringBuilder sb = new StringBuilder();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                sb.append(board.getCell(r, c).getContent().ordinal());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String revealed(Board board) {
+        StringBuilder sb = new StringBuilder();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                sb.append(board.getCell(r, c).getState() == Cell.CellState.REVEALED ? '1' : '0');
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,187 @@
+import Controller.GameController;
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameSave;
+import Model.GameState;
+import Model.Move;
+import Model.Question;
+import Model.QuestionResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for saved games: a loaded game equals the saved one and keeps playing the same way,
+ * damaged files are rejected, and files are replaced atomically.
+ */
+public class GameSaveTest {
+
+    @Test
+    @DisplayName("A saved game loads back with the same cells, counters, names, time and question ids")
+    void roundTrip() {
+        Game game = new Game(BoardSpec.of(Difficulty.MEDIUM), 5L);
+        play(game, new Random(5), 0, 80);
+
+        byte[] bytes = GameSave.encode(game, Set.of(9, 3, 27), 61_500L, "Dana", "נועה");
+        GameSave.Loaded loaded = GameSave.decode(bytes);
+
+        assertEquals(fingerprint(game), fingerprint(loaded.game));
+        assertArrayEquals(game.getJournal().toByteArray(), loaded.game.getJournal().toByteArray(), "journal");
+        assertEquals(game.getSeed(), loaded.game.getSeed());
+        assertEquals(List.of(3, 9, 27), loaded.usedQuestionIds);
+        assertEquals(61_500L, loaded.elapsedMillis);
+        assertEquals("Dana", loaded.player1Name);
+        assertEquals("נועה", loaded.player2Name);
+        // two boards of 256 cells at 4 bits each, a byte per hidden mine, plus journal and header
+        int hiddenMines = game.getBoard1().getHiddenMineCount() + game.getBoard2().getHiddenMineCount();
+        assertTrue(bytes.length < 256 + hiddenMines + game.getJournal().byteSize() + 128, "save is " + bytes.length + " bytes");
+    }
+
+    @Test
+    @DisplayName("A loaded game plays on exactly like the original: same rewards, surprises and scores")
+    void loadedGameContinuesTheSameWay() {
+        Game game = new Game(BoardSpec.of(Difficulty.HARD), 17L);
+        play(game, new Random(17), 0, 150);
+        Game loaded = GameSave.decode(GameSave.encode(game, Set.of(), 0, "a", "b")).game;
+
+        play(game, new Random(99), 1000, 400);
+        play(loaded, new Random(99), 1000, 400);
+
+        assertEquals(fingerprint(game), fingerprint(loaded));
+        assertArrayEquals(game.getJournal().toByteArray(), loaded.getJournal().toByteArray(), "journal");
+    }
+
+    @Test
+    @DisplayName("Damaged, truncated and foreign data is rejected")
+    void rejectsBadData() {
+        Game game = new Game(BoardSpec.of(Difficulty.EASY), 2L);
+        play(game, new Random(2), 0, 20);
+        byte[] bytes = GameSave.encode(game, Set.of(1), 1000, "a", "b");
+
+        byte[] flipped = bytes.clone();
+        flipped[bytes.length / 2] ^= 0x10;
+        assertThrows(IllegalArgumentException.class, () -> GameSave.decode(flipped));
+        assertThrows(IllegalArgumentException.class, () -> GameSave.decode(java.util.Arrays.copyOf(bytes, bytes.length - 7)));
+        assertThrows(IllegalArgumentException.class, () -> GameSave.decode(game.getJournal().toByteArray()));
+        assertThrows(IllegalArgumentException.class, () -> GameSave.decode(new byte[3]));
+    }
+
+    @Test
+    @DisplayName("Writing replaces the file in one step and leaves no temporary files")
+    void atomicWrite(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("nested").resolve("game.sav");
+
+        Game first = new Game(BoardSpec.of(Difficulty.EASY), 1L);
+        Game second = new Game(BoardSpec.of(Difficulty.MEDIUM), 2L);
+        GameSave.write(file, GameSave.encode(first, Set.of(), 0, "a", "b"));
+        GameSave.write(file, GameSave.encode(second, Set.of(), 0, "a", "b"));
+
+        assertEquals(fingerprint(second), fingerprint(GameSave.read(file).game));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(List.of(file), files.toList());
+        }
+        Files.delete(file);
+        Files.delete(file.getParent());
+        Files.delete(dir);
+    }
+
+    @Test
+    @DisplayName("Loading a large game is faster than generating it")
+    void loadingIsFasterThanGenerating() {
+        BoardSpec spec = BoardSpec.custom(Difficulty.HARD, 600, 600, 60_000);
+        byte[] bytes = GameSave.encode(new Game(spec, 3L), Set.of(), 0, "a", "b");
+
+        long generate = Long.MAX_VALUE;
+        long load = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long t0 = System.nanoTime();
+            new Game(spec, round);
+            long t1 = System.nanoTime();
+            GameSave.decode(bytes);
+            long t2 = System.nanoTime();
+            generate = Math.min(generate, t1 - t0);
+            load = Math.min(load, t2 - t1);
+        }
+        System.out.printf("600x600 x2: generate %.1f ms, load %.1f ms (%d bytes)%n",
+                generate / 1e6, load / 1e6, bytes.length);
+        assertTrue(load < generate, "load " + load / 1_000_000 + " ms, generate " + generate / 1_000_000 + " ms");
+    }
+
+    // Plays random moves; question ids start at firstQuestionId so both copies of a game get the same questions
+    private static void play(Game game, Random random, int firstQuestionId, int steps) {
+        int[] nextId = {firstQuestionId};
+        game.setQuestionSource(() -> new Question(nextId[0]++, "q", List.of("a", "b", "c", "d"), 'A',
+                Game.QuestionLevel.values()[Math.floorMod(nextId[0], 4)].name()));
+        game.setQuestionPresenter(q -> QuestionResult.values()[Math.floorMod(q.getId(), 3)]);
+
+        for (int step = 0; step < steps && game.getGameState() == GameState.RUNNING; step++) {
+            Board board = game.getCurrentPlayerTurn() == 1 ? game.getBoard1() : game.getBoard2();
+            int r = random.nextInt(board.getRows());
+            int c = random.nextInt(board.getCols());
+            Cell cell = board.getCell(r, c);
+
+            Move move = game.beginMove();
+            if (cell.isRevealed()) {
+                move.activate(board, r, c);
+            } else if (cell.isMine() ? random.nextInt(8) != 0 : random.nextInt(6) == 0) {
+                move.flag(board, r, c);
+            } else {
+                move.reveal(board, r, c);
+            }
+            move.commit();
+            if (random.nextBoolean()) game.switchTurn();
+        }
+    }
+
+    @Test
+    @DisplayName("Deleting the save from the UI returns at once and the save counts as gone right away")
+    void deleteDoesNotWait(@TempDir Path dir) throws Exception {
+        GameController controller = GameController.getInstance();
+        Path file = dir.resolve("game.sav");
+        controller.setSavePath(file);
+        controller.startNewGame(BoardSpec.of(Difficulty.EASY), 3L);
+        assertTrue(controller.saveGame(1000, "A", "B"));
+        assertTrue(controller.hasSavedGame());
+
+        controller.autosave(2000, "A", "B");
+        controller.deleteSavedGame();
+        assertFalse(controller.hasSavedGame());
+        controller.finishSaveTasks();
+        assertFalse(Files.exists(file));
+        controller.endGame();
+        controller.finishSaveTasks();
+    }
+
+    private static String fingerprint(Game game) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(game.getGameState()).append(' ').append(game.getSharedScore()).append(' ')
+                .append(game.getSharedLives()).append(' ').append(game.getCurrentPlayerTurn()).append(' ')
+                .append(game.getTotalQuestionsAnswered()).append(' ').append(game.getTotalCorrectAnswers()).append(' ')
+                .append(game.getTotalSurprisesOpened()).append('\n');
+        for (Board board : new Board[]{game.getBoard1(), game.getBoard2()}) {
+            sb.append(board.getFlagsPlaced()).append(' ').append(board.getRevealedCount()).append(' ')
+                    .append(board.getMinesFound()).append(' ').append(board.getSafeCellsRemaining()).append('\n');
+            for (int r = 0; r < board.getRows(); r++) {
+                for (int c = 0; c < board.getCols(); c++) {
+                    Cell cell = board.getCell(r, c);
+                    sb.append(cell.getState().ordinal()).append(cell.getContent().ordinal())
+                            .append(cell.getAdjacentMines()).append(cell.isUsed() ? 'u' : '-');
+                }
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
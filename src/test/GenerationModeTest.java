@@ -0,0 +1,116 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import Model.GenerationMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for deferred (first-click safe / no-guess) board generation.
+ */
+public class GenerationModeTest {
+
+    @Test
+    @DisplayName("STANDARD boards are generated at construction")
+    void standardIsEager() {
+        Board board = new Game(Difficulty.EASY).getBoard1();
+        assertEquals(GenerationMode.STANDARD, board.getGenerationMode());
+        assertTrue(board.isGenerated());
+        assertEquals(Difficulty.EASY.getMines(), countMines(board));
+    }
+
+    @Test
+    @DisplayName("FIRST_CLICK_SAFE keeps the 3x3 area around the first click clear")
+    void firstClickSafe() {
+        BoardSpec spec = BoardSpec.of(Difficulty.HARD).withGenerationMode(GenerationMode.FIRST_CLICK_SAFE);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 300; i++) {
+            Game game = new Game(spec);
+            Board board = game.getBoard1();
+            assertFalse(board.isGenerated());
+            assertFalse(board.toggleFlag(0, 0), "no flags before the layout exists");
+
+            int r = random.nextInt(board.getRows());
+            int c = random.nextInt(board.getCols());
+            board.revealCell(r, c);
+
+            assertTrue(board.isGenerated());
+            assertEquals(spec.getMines(), countMines(board));
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    Cell cell = board.getCell(r + dr, c + dc);
+                    if (cell == null) continue;
+                    assertFalse(cell.isMine());
+                    assertTrue(cell.isRevealed(), "a clear first click opens its neighborhood");
+                }
+            }
+            assertEquals(spec.getStartingLives(), game.getSharedLives());
+            assertEquals(GameState.RUNNING, game.getGameState());
+        }
+    }
+
+    @Test
+    @DisplayName("The safe area shrinks to the clicked cell when the board is too dense")
+    void denseBoardKeepsClickedCellSafe() {
+        BoardSpec spec = BoardSpec.custom(Difficulty.EASY, 3, 3, 7).withGenerationMode(GenerationMode.FIRST_CLICK_SAFE);
+        for (int i = 0; i < 100; i++) {
+            Game game = new Game(spec);
+            Board board = game.getBoard1();
+            board.revealCell(1, 1);
+
+            assertFalse(board.getCell(1, 1).isMine());
+            assertEquals(7, countMines(board));
+            assertEquals(spec.getStartingLives(), game.getSharedLives());
+        }
+    }
+
+    @Test
+    @DisplayName("NO_GUESS produces solver-verified layouts on HARD")
+    void noGuessOnHard() {
+        BoardSpec spec = BoardSpec.of(Difficulty.HARD).withGenerationMode(GenerationMode.NO_GUESS);
+        for (int i = 0; i < 20; i++) {
+            Board board = new Game(spec).getBoard1();
+            board.revealCell(8, 8);
+
+            assertTrue(board.isNoGuessVerified());
+            assertFalse(board.getCell(8, 8).isMine());
+            assertEquals(spec.getMines(), countMines(board));
+        }
+    }
+
+    @Test
+    @DisplayName("NO_GUESS stays within its budget on a large board and is still first-click safe")
+    void noGuessBudgetOnLargeBoard() {
+        BoardSpec spec = BoardSpec.custom(Difficulty.HARD, 500, 500, 50_000)
+                .withGenerationMode(GenerationMode.NO_GUESS, 200);
+        Game game = new Game(spec);
+        Board board = game.getBoard1();
+
+        long start = System.nanoTime();
+        board.revealCell(250, 250);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(millis < 5_000, "generation took " + millis + " ms");
+        assertFalse(board.getCell(250, 250).isMine());
+        assertEquals(spec.getStartingLives(), game.getSharedLives());
+        assertEquals(50_000, countMines(board));
+    }
+
+    private static int countMines(Board board) {
+        int mines = 0;
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                if (board.getCell(r, c).isMine()) mines++;
+            }
+        }
+        return mines;
+    }
+}
@@ -0,0 +1,101 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameSave;
+import Model.Move;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the hidden mine index behind the reveal-a-mine reward.
+ */
+public class HiddenMineIndexTest {
+
+    @Test
+    @DisplayName("The reward finds the last hidden mine, however few are left")
+    void findsLastHiddenMine() {
+        Game game = new Game(BoardSpec.custom(Difficulty.HARD, 40, 40, 300), 4L);
+        Board board = game.getBoard1();
+        Cell last = null;
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                if (!cell.isMine()) continue;
+                if (last != null) board.toggleFlag(last.getRow(), last.getCol());
+                last = cell;
+            }
+        }
+        assertNotNull(last);
+        assertEquals(1, board.getHiddenMineCount());
+
+        board.revealRandomMine();
+        assertTrue(last.isRevealed());
+        assertEquals(0, board.getHiddenMineCount());
+        board.revealRandomMine(); // nothing left: no change
+        assertEquals(board.getTotalMines(), board.getMinesFound());
+    }
+
+    @Test
+    @DisplayName("The index matches the board through reveals, flags, rewards, undo and redo")
+    void indexMatchesBoard() {
+        Game game = new Game(BoardSpec.of(Difficulty.HARD), 8L);
+        game.enableUndo(1 << 20);
+        Board board = game.getBoard1();
+        Random random = new Random(8);
+
+        for (int step = 0; step < 300; step++) {
+            int r = random.nextInt(board.getRows());
+            int c = random.nextInt(board.getCols());
+            switch (random.nextInt(6)) {
+                case 0 -> board.toggleFlag(r, c);
+                case 1 -> board.revealRandomMine();
+                case 2 -> game.undo();
+                case 3 -> game.redo();
+                default -> {
+                    Move move = game.beginMove();
+                    move.reveal(board, r, c);
+                    move.commit();
+                }
+            }
+            assertEquals(countHiddenMines(board), board.getHiddenMineCount(), "step " + step);
+        }
+    }
+
+    @Test
+    @DisplayName("A loaded game reveals the same reward mines as the saved one")
+    void loadedGamePicksSameMines() {
+        Game game = new Game(BoardSpec.of(Difficulty.MEDIUM), 21L);
+        Board board = game.getBoard2();
+        board.revealRandomMine();
+        board.toggleFlag(0, 0);
+        Game loaded = GameSave.decode(GameSave.encode(game, Set.of(), 0, "a", "b")).game;
+
+        for (int k = 0; k < 5; k++) {
+            board.revealRandomMine();
+            loaded.getBoard2().revealRandomMine();
+        }
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                assertEquals(board.getCell(r, c).getState(), loaded.getBoard2().getCell(r, c).getState());
+            }
+        }
+    }
+
+    private static int countHiddenMines(Board board) {
+        int n = 0;
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                if (cell.isMine() && cell.getState() == Cell.CellState.HIDDEN) n++;
+            }
+        }
+        return n;
+    }
+}
@@ -0,0 +1,104 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.Latency;
+import util.LatencyHistogram;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the lock-free latency histograms: percentile accuracy, concurrent recording, the dump file.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Percentiles are within 1/64 of the exact value, across nanoseconds to seconds")
+    void percentileAccuracy() {
+        LatencyHistogram h = new LatencyHistogram("test");
+        SplittableRandom random = new SplittableRandom(5);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            // log-uniform from 1 ns to about 4 s
+            values[i] = (long) Math.pow(2, random.nextDouble() * 32);
+            h.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        LatencyHistogram.Snapshot s = h.snapshot();
+        assertEquals(values.length, s.count);
+        assertEquals(values[values.length - 1], s.maxNanos);
+        for (double p : new double[]{0.01, 0.5, 0.9, 0.99, 0.999, 1.0}) {
+            long exact = values[(int) Math.ceil(p * values.length) - 1];
+            long got = s.percentileNanos(p);
+            assertTrue(got >= exact && got <= exact + exact / 64 + 1, "p" + p + ": exact " + exact + ", got " + got);
+        }
+    }
+
+    @Test
+    @DisplayName("Small values are exact; empty histograms read as 0")
+    void smallAndEmpty() {
+        LatencyHistogram h = new LatencyHistogram("small");
+        assertEquals(0, h.snapshot().percentileNanos(0.99));
+        for (int v = 0; v < 50; v++) h.record(v);
+        h.record(-7);
+        LatencyHistogram.Snapshot s = h.snapshot();
+        assertEquals(51, s.count);
+        assertEquals(0, s.percentileNanos(0.01));
+        assertEquals(24, s.percentileNanos(0.5));
+        assertEquals(49, s.percentileNanos(1.0));
+
+        h.reset();
+        assertEquals(0, h.snapshot().count);
+    }
+
+    @Test
+    @DisplayName("Four threads recording at once lose no values")
+    void concurrentRecording() throws Exception {
+        LatencyHistogram h = new LatencyHistogram("concurrent");
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long seed = t;
+            threads[t] = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < 250_000; i++) h.record(random.nextInt(1, 1000));
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads) t.join();
+        h.record(5_000);
+
+        LatencyHistogram.Snapshot s = h.snapshot();
+        assertEquals(1_000_001, s.count);
+        assertEquals(5_000, s.maxNanos);
+    }
+
+    @Test
+    @DisplayName("Timing can be switched off, and the dump file lists the named histograms")
+    void registryAndDump(@TempDir Path dir) throws Exception {
+        LatencyHistogram h = Latency.histogram("test.dump");
+        assertSame(h, Latency.histogram("test.dump"));
+        h.reset();
+
+        Latency.setEnabled(false);
+        try {
+            Latency.stop(h, Latency.start());
+        } finally {
+            Latency.setEnabled(true);
+        }
+        assertEquals(0, h.snapshot().count);
+
+        Latency.stop(h, Latency.start());
+        assertEquals(1, h.snapshot().count);
+
+        Path file = dir.resolve("latency.txt");
+        Latency.dump(file);
+        String report = Files.readString(file);
+        assertTrue(report.contains("test.dump"), report);
+        assertTrue(report.startsWith("operation (us)"), report);
+    }
+}
@@ -0,0 +1,143 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import Model.GenerationMode;
+import Model.JournalReplayer;
+import Model.Move;
+import Model.MoveJournal;
+import Model.Question;
+import Model.QuestionResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the move journal survives serialization and that replaying it
+ * rebuilds the same game: cells, score, lives, turn and state.
+ */
+public class MoveJournalTest {
+
+    @Test
+    @DisplayName("Replaying a journal rebuilds the same game")
+    void replayRebuildsGame() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Game game = playRandomGame(BoardSpec.of(Difficulty.HARD), seed);
+            MoveJournal journal = MoveJournal.fromBytes(game.getJournal().toByteArray());
+
+            Game replayed = JournalReplayer.replay(journal);
+
+            assertSameGame(game, replayed);
+            assertArrayEquals(game.getJournal().toByteArray(), replayed.getJournal().toByteArray(),
+                    "the replay records the same journal");
+        }
+    }
+
+    @Test
+    @DisplayName("NO_GUESS games whose generation budget ran out replay to the same boards")
+    void replayNoGuessWithTinyBudget() {
+        BoardSpec spec = BoardSpec.custom(Difficulty.HARD, 40, 40, 380).withGenerationMode(GenerationMode.NO_GUESS, 1);
+        for (long seed = 1; seed <= 5; seed++) {
+            Game game = playRandomGame(spec, seed);
+            MoveJournal journal = MoveJournal.fromBytes(game.getJournal().toByteArray());
+
+            Game replayed = JournalReplayer.replay(journal);
+
+            assertSameGame(game, replayed);
+            assertArrayEquals(game.getJournal().toByteArray(), replayed.getJournal().toByteArray());
+        }
+    }
+
+    @Test
+    @DisplayName("The header keeps the seed and the spec")
+    void headerRoundTrip() {
+        BoardSpec spec = BoardSpec.custom(Difficulty.MEDIUM, 30, 40, 200);
+        Game game = new Game(spec, -5L);
+        MoveJournal copy = MoveJournal.fromBytes(game.getJournal().toByteArray());
+
+        assertEquals(-5L, copy.getSeed());
+        assertEquals(0, copy.size());
+        assertEquals(spec.toString(), copy.getSpec().toString());
+        assertEquals(spec.getQuestionCells(), copy.getSpec().getQuestionCells());
+        assertEquals(spec.getNonMineFlagPenalty(), copy.getSpec().getNonMineFlagPenalty());
+    }
+
+    @Test
+    @DisplayName("A partial replay stops after the requested number of actions")
+    void partialReplay() {
+        Game game = playRandomGame(BoardSpec.of(Difficulty.EASY), 3);
+        Game start = JournalReplayer.replay(game.getJournal(), 0);
+        assertEquals(0, start.getBoard1().getRevealedCount() + start.getBoard2().getRevealedCount());
+        assertEquals(game.getSpec().getStartingLives(), start.getSharedLives());
+    }
+
+    @Test
+    @DisplayName("Garbage is rejected")
+    void rejectsGarbage() {
+        assertThrows(IllegalArgumentException.class, () -> MoveJournal.fromBytes(new byte[]{1, 2, 3}));
+        byte[] bytes = new Game(BoardSpec.of(Difficulty.EASY), 1L).getJournal().toByteArray();
+        assertThrows(IllegalArgumentException.class,
+                () -> MoveJournal.fromBytes(java.util.Arrays.copyOf(bytes, bytes.length - 3)));
+    }
+
+    /**
+     * Plays random reveals, flags, special-cell activations and turn switches until the game ends.
+     */
+    static Game playRandomGame(BoardSpec spec, long seed) {
+        Game game = new Game(spec, seed);
+        Random random = new Random(seed);
+        int[] nextId = {1};
+        game.setQuestionSource(() -> new Question(nextId[0]++, "q", List.of("a", "b", "c", "d"), 'A',
+                Game.QuestionLevel.values()[random.nextInt(4)].name()));
+        game.setQuestionPresenter(q -> QuestionResult.values()[random.nextInt(3)]);
+
+        for (int step = 0; step < 2000 && game.getGameState() == GameState.RUNNING; step++) {
+            Board board = game.getCurrentPlayerTurn() == 1 ? game.getBoard1() : game.getBoard2();
+            int r = random.nextInt(board.getRows());
+            int c = random.nextInt(board.getCols());
+            Cell cell = board.getCell(r, c);
+
+            Move move = game.beginMove();
+            if (cell.isRevealed()) {
+                move.activate(board, r, c);
+            } else if (cell.isMine() ? random.nextInt(8) != 0 : random.nextInt(6) == 0) {
+                // mostly flag mines so games last long enough to reach special cells
+                move.flag(board, r, c);
+            } else {
+                move.reveal(board, r, c);
+            }
+            move.commit();
+            if (random.nextBoolean()) game.switchTurn();
+        }
+        return game;
+    }
+
+    private static void assertSameGame(Game expected, Game actual) {
+        assertEquals(expected.getGameState(), actual.getGameState());
+        assertEquals(expected.getSharedScore(), actual.getSharedScore());
+        assertEquals(expected.getSharedLives(), actual.getSharedLives());
+        assertEquals(expected.getCurrentPlayerTurn(), actual.getCurrentPlayerTurn());
+        assertEquals(expected.getTotalQuestionsAnswered(), actual.getTotalQuestionsAnswered());
+        assertEquals(expected.getTotalSurprisesOpened(), actual.getTotalSurprisesOpened());
+        assertSameBoard(expected.getBoard1(), actual.getBoard1());
+        assertSameBoard(expected.getBoard2(), actual.getBoard2());
+    }
+
+    private static void assertSameBoard(Board expected, Board actual) {
+        for (int r = 0; r < expected.getRows(); r++) {
+            for (int c = 0; c < expected.getCols(); c++) {
+                Cell e = expected.getCell(r, c);
+                Cell a = actual.getCell(r, c);
+                assertEquals(e.getContent(), a.getContent(), "content " + r + "," + c);
+                assertEquals(e.getState(), a.getState(), "state " + r + "," + c);
+                assertEquals(e.isUsed(), a.isUsed(), "used " + r + "," + c);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+import Model.Board;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import Model.Move;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Move transaction: deferred status evaluation and the commit summary.
+ */
+public class MoveTransactionTest {
+
+    private Game game;
+    private Board board;
+
+    @BeforeEach
+    void setup() {
+        game = new Game(Difficulty.EASY);
+        board = game.getBoard1();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                cell.setContent(Cell.CellContent.NUMBER);
+                cell.setAdjacentMines(1);
+                cell.setState(Cell.CellState.HIDDEN);
+            }
+        }
+        board.getCell(0, 0).setContent(Cell.CellContent.MINE);
+    }
+
+    @Test
+    @DisplayName("Loss is evaluated at commit, not in the middle of the move")
+    void statusDeferredUntilCommit() {
+        game.setSharedLives(1);
+
+        Move move = game.beginMove();
+        move.reveal(board, 0, 0);
+
+        assertEquals(0, game.getSharedLives());
+        assertEquals(GameState.RUNNING, game.getGameState(), "status is deferred while the move is open");
+
+        Move.Summary summary = move.commit();
+
+        assertEquals(GameState.LOST, game.getGameState());
+        assertTrue(summary.isGameOver());
+        assertEquals(-1, summary.deltaLives);
+        assertEquals(1, summary.cellsRevealed);
+        assertTrue(summary.statusChecksSaved > 0);
+    }
+
+    @Test
+    @DisplayName("Summary reports score delta and revealed cells of the move")
+    void summaryReportsDeltas() {
+        Move move = game.beginMove();
+        move.reveal(board, 4, 4);
+        move.reveal(board, 4, 5);
+        Move.Summary summary = move.commit();
+
+        assertEquals(2, summary.deltaScore);
+        assertEquals(0, summary.deltaLives);
+        assertEquals(2, summary.cellsRevealed);
+        assertEquals(GameState.RUNNING, summary.gameState);
+    }
+
+    @Test
+    @DisplayName("Only one move may be open, and a move commits once")
+    void moveLifecycle() {
+        Move move = game.beginMove();
+        assertTrue(game.isMoveInProgress());
+        assertThrows(IllegalStateException.class, game::beginMove);
+
+        move.commit();
+        assertFalse(game.isMoveInProgress());
+        assertThrows(IllegalStateException.class, move::commit);
+        assertThrows(IllegalStateException.class, () -> move.reveal(board, 1, 1));
+
+        // a new move can start after the commit
+        assertDoesNotThrow(() -> game.beginMove().commit());
+    }
+}
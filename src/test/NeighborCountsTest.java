@@ -0,0 +1,56 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the one-pass adjacency counts against a direct 8-neighbor count.
+ */
+public class NeighborCountsTest {
+
+    @Test
+    @DisplayName("Adjacency counts match a direct neighbor count on presets and custom sizes")
+    void countsMatchDirectCount() {
+        for (Difficulty d : Difficulty.values()) {
+            for (int i = 0; i < 20; i++) {
+                assertCountsMatch(new Game(d).getBoard1());
+            }
+        }
+        assertCountsMatch(new Game(BoardSpec.custom(Difficulty.EASY, 2, 2, 1)).getBoard1());
+        assertCountsMatch(new Game(BoardSpec.custom(Difficulty.EASY, 2, 37, 30)).getBoard1());
+        assertCountsMatch(new Game(BoardSpec.custom(Difficulty.HARD, 53, 3, 120)).getBoard1());
+        assertCountsMatch(new Game(BoardSpec.custom(Difficulty.HARD, 200, 300, 50_000)).getBoard1());
+    }
+
+    private static void assertCountsMatch(Board board) {
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                if (cell.isMine()) continue;
+
+                int expected = directCount(board, r, c);
+                assertEquals(expected, cell.getAdjacentMines(), "cell " + r + "," + c);
+                if (expected > 0) {
+                    assertEquals(Cell.CellContent.NUMBER, cell.getContent(), "cell " + r + "," + c);
+                }
+            }
+        }
+    }
+
+    private static int directCount(Board board, int r, int c) {
+        int count = 0;
+        for (int dr = -1; dr <= 1; dr++) {
+            for (int dc = -1; dc <= 1; dc++) {
+                if (dr == 0 && dc == 0) continue;
+                Cell n = board.getCell(r + dr, c + dc);
+                if (n != null && n.isMine()) count++;
+            }
+        }
+        return count;
+    }
+}
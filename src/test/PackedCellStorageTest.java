@@ -0,0 +1,103 @@
+import Model.Board;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that Cell objects returned by Board are views over the packed store:
+ * every field round-trips and writes through a view are visible to the board.
+ */
+public class PackedCellStorageTest {
+
+    private Game game;
+    private Board board;
+
+    @BeforeEach
+    void setup() {
+        game = new Game(Difficulty.EASY);
+        board = game.getBoard1();
+    }
+
+    @Test
+    @DisplayName("All cell fields round-trip through the packed store")
+    void fieldsRoundTrip() {
+        Cell cell = board.getCell(3, 4);
+
+        for (Cell.CellContent content : Cell.CellContent.values()) {
+            cell.setContent(content);
+            assertEquals(content, cell.getContent());
+        }
+        for (int n = 0; n <= 8; n++) {
+            cell.setAdjacentMines(n);
+            assertEquals(n, cell.getAdjacentMines());
+        }
+        for (Cell.CellState state : Cell.CellState.values()) {
+            cell.setState(state);
+            assertEquals(state, cell.getState());
+        }
+        cell.setUsed(true);
+        assertTrue(cell.isUsed());
+        cell.setUsed(false);
+        assertFalse(cell.isUsed());
+
+        assertEquals(3, cell.getRow());
+        assertEquals(4, cell.getCol());
+    }
+
+    @Test
+    @DisplayName("Writes through one view are seen by the board and by other views")
+    void viewsWriteThrough() {
+        Cell neighbour = board.getCell(0, 1);
+        Cell.CellContent neighbourContent = neighbour.getContent();
+        int neighbourAdjacent = neighbour.getAdjacentMines();
+
+        Cell first = board.getCell(0, 0);
+        first.setContent(Cell.CellContent.SURPRISE);
+        first.setAdjacentMines(0);
+        first.setState(Cell.CellState.FLAGGED);
+
+        Cell second = board.getCell(0, 0);
+        assertEquals(Cell.CellContent.SURPRISE, second.getContent());
+        assertTrue(second.isFlagged());
+        assertTrue(board.isFlagged(0, 0));
+        assertTrue(board.getCells()[0][0].isFlagged());
+
+        second.setState(Cell.CellState.REVEALED);
+        assertTrue(first.isRevealed());
+
+        // Neighbouring cells are untouched by the bit packing
+        assertEquals(neighbourContent, neighbour.getContent());
+        assertEquals(neighbourAdjacent, neighbour.getAdjacentMines());
+        assertEquals(Cell.CellState.HIDDEN, neighbour.getState());
+    }
+
+    @Test
+    @DisplayName("A detached Cell behaves like a standalone cell")
+    void detachedCell() {
+        Cell cell = new Cell(2, 5);
+        assertEquals(Cell.CellContent.EMPTY, cell.getContent());
+        assertEquals(Cell.CellState.HIDDEN, cell.getState());
+
+        assertTrue(cell.toggleFlag());
+        assertTrue(cell.isFlagged());
+        assertTrue(cell.toggleFlag());
+        cell.reveal();
+        assertFalse(cell.toggleFlag(), "Revealed cells cannot be flagged");
+    }
+
+    @Test
+    @DisplayName("revealAll reveals every packed cell")
+    void revealAllCoversBoard() {
+        board.revealAll();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                assertTrue(board.getCell(r, c).isRevealed());
+            }
+        }
+    }
+}
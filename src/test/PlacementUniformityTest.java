@@ -0,0 +1,71 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statistical checks for the O(mines) mine sampling and the single-pass special-cell selection:
+ * exact counts on every board and no position favoured over the others.
+ */
+public class PlacementUniformityTest {
+
+    private static final int BOARDS = 4000;
+
+    @Test
+    @DisplayName("Every cell is equally likely to hold a mine")
+    void minesAreUniform() {
+        Difficulty d = Difficulty.EASY;
+        int cells = d.getRows() * d.getCols();
+        int[] hits = new int[cells];
+
+        for (int i = 0; i < BOARDS; i++) {
+            Board board = new Game(d).getBoard1();
+            int mines = 0;
+            for (int r = 0; r < board.getRows(); r++) {
+                for (int c = 0; c < board.getCols(); c++) {
+                    if (board.getCell(r, c).isMine()) {
+                        hits[r * board.getCols() + c]++;
+                        mines++;
+                    }
+                }
+            }
+            assertEquals(d.getMines(), mines);
+        }
+
+        // expected ~494 per cell; allow 6 standard deviations
+        double p = (double) d.getMines() / cells;
+        double expected = BOARDS * p;
+        double sd = Math.sqrt(BOARDS * p * (1 - p));
+        for (int i = 0; i < cells; i++) {
+            assertTrue(Math.abs(hits[i] - expected) < 6 * sd,
+                    "cell " + i + " got " + hits[i] + " mines, expected about " + (int) expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Special cells land only on true-empty cells, with exact counts")
+    void specialCellsOnTrueEmpty() {
+        for (int i = 0; i < 200; i++) {
+            Board board = new Game(BoardSpec.custom(Difficulty.MEDIUM, 40, 40, 150)).getBoard1();
+            int questions = 0;
+            int surprises = 0;
+            for (int r = 0; r < board.getRows(); r++) {
+                for (int c = 0; c < board.getCols(); c++) {
+                    Cell cell = board.getCell(r, c);
+                    if (cell.isQuestionOrSurprise()) {
+                        assertEquals(0, cell.getAdjacentMines());
+                        if (cell.getContent() == Cell.CellContent.QUESTION) questions++;
+                        else surprises++;
+                    }
+                }
+            }
+            assertEquals(board.getTotalQuestionCells(), questions);
+            assertEquals(board.getTotalSurpriseCells(), surprises);
+        }
+    }
+}
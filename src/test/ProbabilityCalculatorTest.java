@@ -0,0 +1,146 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import Model.GenerationMode;
+import Model.solver.ProbabilityCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the probability engine against brute-force enumeration of every layout
+ * that matches the visible state, and checks the component cache.
+ */
+public class ProbabilityCalculatorTest {
+
+    @Test
+    @DisplayName("Probabilities equal brute-force enumeration on small boards")
+    void matchesBruteForce() {
+        BoardSpec spec = BoardSpec.custom(Difficulty.EASY, 5, 6, 7).withGenerationMode(GenerationMode.FIRST_CLICK_SAFE);
+        Random random = new Random(5);
+
+        for (int g = 0; g < 40; g++) {
+            Game game = new Game(spec);
+            Board board = game.getBoard1();
+            board.revealCell(random.nextInt(5), random.nextInt(6));
+            ProbabilityCalculator calculator = new ProbabilityCalculator(board);
+
+            for (int step = 0; step < 4 && game.getGameState() == GameState.RUNNING && !board.isSolved(); step++) {
+                ProbabilityCalculator.Probabilities p = calculator.compute();
+                double[][] expected = bruteForce(board);
+                assertTrue(p.consistent);
+                assertTrue(p.exact);
+                for (int r = 0; r < board.getRows(); r++) {
+                    for (int c = 0; c < board.getCols(); c++) {
+                        assertEquals(expected[r][c], p.get(r, c), 1e-9, "cell " + r + "," + c);
+                    }
+                }
+                revealRandomSafeCell(board, random);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Unchanged components are served from the cache")
+    void cacheReused() {
+        BoardSpec spec = BoardSpec.of(Difficulty.HARD).withGenerationMode(GenerationMode.FIRST_CLICK_SAFE);
+        Game game = new Game(spec);
+        Board board = game.getBoard1();
+        board.revealCell(8, 8);
+        ProbabilityCalculator calculator = new ProbabilityCalculator(board);
+
+        ProbabilityCalculator.Probabilities first = calculator.compute();
+        long misses = calculator.getCacheMisses();
+        ProbabilityCalculator.Probabilities second = calculator.compute();
+
+        assertEquals(misses, calculator.getCacheMisses(), "nothing changed, so nothing is recounted");
+        assertEquals(first.components, calculator.getCacheHits());
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                assertEquals(first.get(r, c), second.get(r, c));
+            }
+        }
+    }
+
+    private static void revealRandomSafeCell(Board board, Random random) {
+        List<int[]> safe = new ArrayList<>();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Cell cell = board.getCell(r, c);
+                if (!cell.isRevealed() && !cell.isMine()) safe.add(new int[]{r, c});
+            }
+        }
+        int[] pick = safe.get(random.nextInt(safe.size()));
+        board.revealCell(pick[0], pick[1]);
+    }
+
+    /**
+     * Enumerates every placement of the remaining mines on hidden cells that agrees with
+     * all revealed numbers, and returns the share of placements with a mine on each cell.
+     */
+    private static double[][] bruteForce(Board board) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        List<Integer> hidden = new ArrayList<>();
+        for (int i = 0; i < rows * cols; i++) {
+            if (!board.getCell(i / cols, i % cols).isRevealed()) hidden.add(i);
+        }
+        int mines = board.getTotalMines();
+
+        double[][] result = new double[rows][cols];
+        long[] hits = new long[rows * cols];
+        long[] total = new long[1];
+        boolean[] mine = new boolean[rows * cols];
+        enumerate(board, hidden, 0, mines, mine, hits, total);
+
+        for (int i = 0; i < rows * cols; i++) {
+            result[i / cols][i % cols] = board.getCell(i / cols, i % cols).isRevealed() ? 0.0 : (double) hits[i] / total[0];
+        }
+        return result;
+    }
+
+    private static void enumerate(Board board, List<Integer> hidden, int from, int left,
+                                  boolean[] mine, long[] hits, long[] total) {
+        if (left == 0) {
+            if (matches(board, mine)) {
+                total[0]++;
+                for (int i = 0; i < mine.length; i++) if (mine[i]) hits[i]++;
+            }
+            return;
+        }
+        for (int k = from; k <= hidden.size() - left; k++) {
+            mine[hidden.get(k)] = true;
+            enumerate(board, hidden, k + 1, left - 1, mine, hits, total);
+            mine[hidden.get(k)] = false;
+        }
+    }
+
+    private static boolean matches(Board board, boolean[] mine) {
+        int cols = board.getCols();
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < cols; c++) {
+                Cell cell = board.getCell(r, c);
+                if (!cell.isRevealed()) continue;
+                int count = 0;
+                for (int dr = -1; dr <= 1; dr++) {
+                    for (int dc = -1; dc <= 1; dc++) {
+                        int nr = r + dr;
+                        int nc = c + dc;
+                        if (nr < 0 || nr >= board.getRows() || nc < 0 || nc >= cols) continue;
+                        if (mine[nr * cols + nc]) count++;
+                    }
+                }
+                if (count != cell.getAdjacentMines()) return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,135 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import Model.RealTimeGame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for real-time co-op: two players on two threads share lives and score without losing updates.
+ */
+public class RealTimeGameTest {
+
+    private static final int MOVES_PER_PLAYER = 100_000;
+
+    @Test
+    @DisplayName("Two threads with 100k moves each: every score and life change is counted")
+    void noLostUpdates() throws Exception {
+        BoardSpec spec = new BoardSpec("STRESS", Difficulty.HARD, 60, 60, 900, 0, 0,
+                1_000_000, 3, 5, 1, -3);
+        Game game = new Game(spec, 31L);
+        RealTimeGame realTime = new RealTimeGame(game);
+
+        // per player: {score change, lives lost}
+        long[][] expected = new long[3][2];
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] players = new Thread[2];
+        for (int p = 1; p <= 2; p++) {
+            int boardNumber = p;
+            players[p - 1] = new Thread(() -> {
+                try {
+                    start.await();
+                    play(realTime, boardNumber, expected[boardNumber]);
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            players[p - 1].start();
+        }
+        start.countDown();
+        for (Thread t : players) t.join();
+        if (failure.get() != null) throw new AssertionError(failure.get());
+
+        assertEquals(GameState.RUNNING, game.getGameState());
+        assertEquals(expected[1][0] + expected[2][0], game.getSharedScore(), "score");
+        assertEquals(1_000_000 - expected[1][1] - expected[2][1], game.getSharedLives(), "lives");
+        assertEquals(2 * MOVES_PER_PLAYER, game.getJournal().size(), "journal events");
+    }
+
+    @Test
+    @DisplayName("The game ends once, with the bonus for the lives left, and later moves are refused")
+    void endsOnce() throws Exception {
+        BoardSpec spec = new BoardSpec("RACE", Difficulty.EASY, 20, 20, 200, 0, 0, 5, 3, 5, 1, -3);
+        Game game = new Game(spec, 8L);
+        RealTimeGame realTime = new RealTimeGame(game);
+
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] players = new Thread[2];
+        for (int p = 1; p <= 2; p++) {
+            int boardNumber = p;
+            players[p - 1] = new Thread(() -> {
+                Random random = new Random(boardNumber);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (game.getGameState() == GameState.RUNNING) {
+                    realTime.reveal(boardNumber, random.nextInt(20), random.nextInt(20));
+                }
+            });
+            players[p - 1].start();
+        }
+        start.countDown();
+        for (Thread t : players) t.join();
+
+        assertEquals(GameState.LOST, game.getGameState());
+        assertEquals(0, game.getSharedLives());
+        int score = game.getSharedScore();
+        assertFalse(realTime.reveal(1, 0, 0));
+        assertFalse(realTime.flag(2, 0, 0));
+        assertEquals(score, game.getSharedScore());
+        for (Board board : new Board[]{game.getBoard1(), game.getBoard2()}) {
+            assertEquals(400, board.getRevealedCount(), "both boards are revealed at the end");
+        }
+        assertThrows(IllegalStateException.class, game::beginMove);
+    }
+
+    // Mostly flags (scored on placing), some reveals; one mine is never touched so nobody wins
+    private static void play(RealTimeGame realTime, int boardNumber, long[] expected) {
+        Board board = boardNumber == 1 ? realTime.getGame().getBoard1() : realTime.getGame().getBoard2();
+        Game game = realTime.getGame();
+        int[] keep = firstMine(board);
+        Random random = new Random(boardNumber * 1000L);
+
+        for (int move = 0; move < MOVES_PER_PLAYER; move++) {
+            int r = random.nextInt(board.getRows());
+            int c = random.nextInt(board.getCols());
+            if (r == keep[0] && c == keep[1]) c = (c + 1) % board.getCols();
+            Cell cell = board.getCell(r, c);
+
+            if (random.nextInt(40) == 0 && cell.getState() == Cell.CellState.HIDDEN) {
+                int safeBefore = board.getSafeCellsRemaining();
+                boolean mine = cell.isMine();
+                realTime.reveal(boardNumber, r, c);
+                if (mine) expected[1]++;
+                expected[0] += safeBefore - board.getSafeCellsRemaining();
+            } else {
+                boolean placing = cell.getState() == Cell.CellState.HIDDEN;
+                boolean mine = cell.isMine();
+                if (realTime.flag(boardNumber, r, c) && placing) {
+                    expected[0] += mine ? game.getSpec().getMineFlagReward() : game.getSpec().getNonMineFlagPenalty();
+                }
+            }
+        }
+    }
+
+    private static int[] firstMine(Board board) {
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                if (board.getCell(r, c).isMine()) return new int[]{r, c};
+            }
+        }
+        throw new IllegalStateException("no mine");
+    }
+}
@@ -0,0 +1,96 @@
+import Model.BoardSpec;
+import Model.Difficulty;
+import Model.simulation.BotPolicy;
+import Model.simulation.SimulationResult;
+import Model.simulation.Simulator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.Latency;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the headless simulator: reproducible on any pool size, consistent counts, quiet games.
+ */
+public class SimulatorTest {
+
+    private static final BoardSpec EASY = BoardSpec.of(Difficulty.EASY);
+
+    @Test
+    @DisplayName("Same seed gives the same result on one worker and on four")
+    void deterministicAcrossPools() {
+        ForkJoinPool one = new ForkJoinPool(1);
+        ForkJoinPool four = new ForkJoinPool(4);
+        try {
+            SimulationResult a = Simulator.run(EASY, BotPolicy.CASUAL, 300, 42L, one);
+            SimulationResult b = Simulator.run(EASY, BotPolicy.CASUAL, 300, 42L, four);
+            assertEquals(a.getWins(), b.getWins());
+            assertEquals(a.getLosses(), b.getLosses());
+            assertEquals(a.getMeanMoves(), b.getMeanMoves());
+            assertEquals(a.getScoreDistribution(), b.getScoreDistribution());
+            assertEquals(a.getLivesDistribution(), b.getLivesDistribution());
+        } finally {
+            one.shutdown();
+            four.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Counts add up: every game is a win, a loss or unfinished, and in both distributions")
+    void countsAddUp() {
+        SimulationResult result = Simulator.run(EASY, BotPolicy.RANDOM, 200, 7L);
+        assertEquals(200, result.getGames());
+        assertEquals(200, result.getWins() + result.getLosses() + result.getUnfinished());
+        assertEquals(200L, result.getScoreDistribution().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(200L, result.getLivesDistribution().values().stream().mapToLong(Long::longValue).sum());
+        assertTrue(result.getScorePercentile(0.1) <= result.getScorePercentile(0.9));
+    }
+
+    @Test
+    @DisplayName("A deducing bot wins more often than a random one")
+    void expertBeatsRandom() {
+        SimulationResult random = Simulator.run(EASY, BotPolicy.RANDOM, 200, 3L);
+        SimulationResult expert = Simulator.run(EASY, BotPolicy.EXPERT, 200, 3L);
+        assertTrue(expert.getWinRate() > random.getWinRate() + 0.5,
+                "expert " + expert.getWinRate() + " vs random " + random.getWinRate());
+        assertEquals(0, expert.getUnfinished());
+    }
+
+    @Test
+    @DisplayName("Simulated games print nothing")
+    void quiet() {
+        PrintStream out = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured));
+        try {
+            Simulator.run(EASY, BotPolicy.EXPERT, 20, 11L);
+        } finally {
+            System.setOut(out);
+        }
+        assertEquals("", captured.toString());
+    }
+
+    @Test
+    @DisplayName("Simulated games stay out of the latency histograms, with timing still on")
+    void untimed() {
+        long cascades = Latency.histogram("model.cascade").snapshot().count;
+        long checks = Latency.histogram("model.statusCheck").snapshot().count;
+        Simulator.run(EASY, BotPolicy.EXPERT, 20, 13L);
+        assertTrue(Latency.isEnabled());
+        assertEquals(cascades, Latency.histogram("model.cascade").snapshot().count);
+        assertEquals(checks, Latency.histogram("model.statusCheck").snapshot().count);
+    }
+
+    @Test
+    @DisplayName("Policy values are checked and presets are found by name")
+    void policies() {
+        assertSame(BotPolicy.EXPERT, BotPolicy.named("expert"));
+        assertThrows(IllegalArgumentException.class, () -> BotPolicy.named("cheater"));
+        assertThrows(IllegalArgumentException.class, () -> BotPolicy.RANDOM.withQuestionAccuracy(1.5));
+        assertThrows(IllegalArgumentException.class, () -> Simulator.run(EASY, BotPolicy.RANDOM, -1, 0L));
+    }
+}
@@ -0,0 +1,130 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import Model.GenerationMode;
+import Model.solver.CellPos;
+import Model.solver.ConstraintSolver;
+import Model.solver.ProbabilityCalculator;
+
+import java.util.List;
+
+/**
+ * SOLVER BENCHMARK (console):
+ * <p>
+ * Plays HARD boards (first-click safe) using only the solver's certain-safe cells and reports:
+ * 1. How many boards are cleared without guessing
+ * 2. Time per game with incremental updates (one solver per board)
+ * 3. Time per game when re-solving from scratch after every move
+ * 4. Time of a full-board probability query (with and without the component cache)
+ */
+public class SolverBenchmark {
+
+    private static final int WARMUP_GAMES = 500;
+    private static final int GAMES = 2000;
+
+    public static void main(String[] args) {
+        run(WARMUP_GAMES, true);
+        run(WARMUP_GAMES, false);
+
+        long start = System.nanoTime();
+        int[] incremental = run(GAMES, true);
+        long incrementalNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int[] scratch = run(GAMES, false);
+        long scratchNanos = System.nanoTime() - start;
+
+        run(WARMUP_GAMES, true, true);
+        probabilityQueries(WARMUP_GAMES / 5, false);
+        double[] probabilityMillis = probabilityQueries(GAMES / 10, true);
+        double[] uncachedMillis = probabilityQueries(GAMES / 10, false);
+
+        System.out.println("==========================================");
+        System.out.println("SOLVER BENCHMARK: HARD, " + GAMES + " games");
+        System.out.println("==========================================");
+        System.out.printf("Cleared without guessing: %d / %d (%.1f%%)%n",
+                incremental[0], GAMES, incremental[0] * 100.0 / GAMES);
+        System.out.printf("Incremental:  %.3f ms/game, %d moves%n", incrementalNanos / 1e6 / GAMES, incremental[1]);
+        System.out.printf("From scratch: %.3f ms/game, %d moves%n", scratchNanos / 1e6 / GAMES, scratch[1]);
+        System.out.printf("Speedup: %.1fx%n", (double) scratchNanos / incrementalNanos);
+        System.out.printf("Probability query (cached):   avg %.3f ms, max %.3f ms over %d queries%n",
+                probabilityMillis[0], probabilityMillis[1], (int) probabilityMillis[2]);
+        System.out.printf("Probability query (uncached): avg %.3f ms, max %.3f ms over %d queries%n",
+                uncachedMillis[0], uncachedMillis[1], (int) uncachedMillis[2]);
+    }
+
+    /**
+     * Plays like {@link #run} and times a full-board probability query before every move.
+     *
+     * @return {average ms, max ms, queries}
+     */
+    private static double[] probabilityQueries(int games, boolean reuseCalculator) {
+        BoardSpec spec = BoardSpec.of(Difficulty.HARD).withGenerationMode(GenerationMode.FIRST_CLICK_SAFE);
+        long totalNanos = 0;
+        long maxNanos = 0;
+        int queries = 0;
+
+        for (int g = 0; g < games; g++) {
+            Game game = new Game(spec);
+            Board board = game.getBoard1();
+            board.revealCell(board.getRows() / 2, board.getCols() / 2);
+            ConstraintSolver solver = new ConstraintSolver(board);
+            ProbabilityCalculator calculator = new ProbabilityCalculator(board);
+
+            while (game.getGameState() == GameState.RUNNING && !board.isSolved()) {
+                if (!reuseCalculator) calculator = new ProbabilityCalculator(board);
+                long start = System.nanoTime();
+                calculator.compute();
+                long nanos = System.nanoTime() - start;
+                totalNanos += nanos;
+                maxNanos = Math.max(maxNanos, nanos);
+                queries++;
+
+                List<CellPos> safe = solver.getSafeCells();
+                if (safe.isEmpty()) break;
+                board.revealCell(safe.get(0).row, safe.get(0).col);
+            }
+            solver.detach();
+        }
+        return new double[]{totalNanos / 1e6 / Math.max(queries, 1), maxNanos / 1e6, queries};
+    }
+
+    /**
+     * @return {games cleared, moves played}
+     */
+    private static int[] run(int games, boolean incremental) {
+        return run(games, incremental, false);
+    }
+
+    private static int[] run(int games, boolean incremental, boolean withProbabilities) {
+        BoardSpec spec = BoardSpec.of(Difficulty.HARD).withGenerationMode(GenerationMode.FIRST_CLICK_SAFE);
+        int cleared = 0;
+        int moves = 0;
+
+        for (int g = 0; g < games; g++) {
+            Game game = new Game(spec);
+            Board board = game.getBoard1();
+            board.revealCell(board.getRows() / 2, board.getCols() / 2);
+
+            ConstraintSolver solver = new ConstraintSolver(board);
+            ProbabilityCalculator calculator = withProbabilities ? new ProbabilityCalculator(board) : null;
+            while (game.getGameState() == GameState.RUNNING && !board.isSolved()) {
+                if (calculator != null) calculator.compute();
+                if (!incremental) {
+                    solver.detach();
+                    solver = new ConstraintSolver(board);
+                }
+                List<CellPos> safe = solver.getSafeCells();
+                if (safe.isEmpty()) break;
+                CellPos next = safe.get(0);
+                board.revealCell(next.row, next.col);
+                moves++;
+            }
+            solver.detach();
+            if (board.isSolved()) cleared++;
+        }
+        return new int[]{cleared, moves};
+    }
+}
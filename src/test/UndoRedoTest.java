@@ -0,0 +1,192 @@
+import Model.Board;
+import Model.BoardSpec;
+import Model.Cell;
+import Model.Difficulty;
+import Model.Game;
+import Model.GameState;
+import Model.GenerationMode;
+import Model.JournalReplayer;
+import Model.Move;
+import Model.solver.ConstraintSolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for undo/redo: every step returns the exact earlier state, the memory budget
+ * bounds the history, and listeners, replays and the solver follow along.
+ */
+public class UndoRedoTest {
+
+    @Test
+    @DisplayName("Undo walks back through every move and redo walks forward again")
+    void undoAndRedoEveryMove() {
+        Game game = new Game(BoardSpec.of(Difficulty.MEDIUM), 21L);
+        game.enableUndo(Long.MAX_VALUE);
+        Random random = new Random(21);
+
+        List<String> states = new ArrayList<>();
+        states.add(fingerprint(game));
+        while (game.getGameState() == GameState.RUNNING && states.size() < 60) {
+            if (playRandomMove(game, random)) states.add(fingerprint(game));
+        }
+
+        for (int k = states.size() - 2; k >= 0; k--) {
+            assertTrue(game.undo());
+            assertEquals(states.get(k), fingerprint(game), "after undo to step " + k);
+        }
+        assertFalse(game.undo(), "nothing left to undo");
+
+        for (int k = 1; k < states.size(); k++) {
+            assertTrue(game.redo());
+            assertEquals(states.get(k), fingerprint(game), "after redo to step " + k);
+        }
+        assertFalse(game.redo());
+    }
+
+    @Test
+    @DisplayName("A new move after undo drops the redo steps; a move that changes nothing adds no step")
+    void newMoveClearsRedo() {
+        Game game = new Game(BoardSpec.of(Difficulty.EASY).withGenerationMode(GenerationMode.FIRST_CLICK_SAFE), 4L);
+        game.enableUndo(Long.MAX_VALUE);
+
+        reveal(game, 0, 0);
+        reveal(game, 0, 0); // already revealed: no change
+        assertEquals(1, game.getUndoDepth());
+
+        assertTrue(game.undo());
+        assertFalse(game.getBoard1().isGenerated(), "undoing the first click undoes deferred generation");
+        reveal(game, 8, 8);
+        assertFalse(game.canRedo());
+    }
+
+    @Test
+    @DisplayName("Snapshots cost memory for the chunks a move touched, and the budget bounds the history")
+    void memoryBudget() {
+        Game game = new Game(BoardSpec.custom(Difficulty.HARD, 1000, 1000, 1000), 8L);
+        game.enableUndo(Long.MAX_VALUE);
+
+        Board board = game.getBoard1();
+        Move move = game.beginMove();
+        move.flag(board, 500, 500);
+        move.commit();
+        long oneFlag = game.getUndoMemoryUsed();
+        // a copy of both boards would be about 4 MB; one flag touches one chunk
+        assertTrue(oneFlag < 1024, "one flag costs " + oneFlag + " bytes");
+
+        game.enableUndo(oneFlag * 3);
+        for (int c = 0; c < 20; c++) {
+            move = game.beginMove();
+            move.flag(board, 10, c * 40);
+            move.commit();
+        }
+        assertTrue(game.getUndoMemoryUsed() <= oneFlag * 3 || game.getUndoDepth() == 1);
+        assertTrue(game.getUndoDepth() < 20);
+        assertTrue(game.canUndo());
+    }
+
+    @Test
+    @DisplayName("A write after a move commits is not taken back by undoing that move")
+    void writesOutsideMoveStayOutOfStep() {
+        Game game = new Game(BoardSpec.custom(Difficulty.HARD, 1000, 1000, 1000), 9L);
+        game.enableUndo(Long.MAX_VALUE);
+        Board board = game.getBoard1();
+        Move move = game.beginMove();
+        move.flag(board, 500, 500);
+        move.commit();
+        long used = game.getUndoMemoryUsed();
+
+        int c = 0;
+        while (board.getCell(10, c).isMine()) c++;
+        board.revealCell(10, c);
+        assertTrue(board.getCell(10, c).isRevealed());
+
+        assertTrue(game.undo());
+        assertFalse(board.getCell(500, 500).isFlagged());
+        assertTrue(board.getCell(10, c).isRevealed(), "the direct reveal was not part of the move");
+        assertTrue(used < 1024, "the step holds one chunk: " + used);
+    }
+
+    @Test
+    @DisplayName("Cell listeners see undone cells, so the solver stays in sync")
+    void solverFollowsUndo() {
+        Game game = new Game(BoardSpec.of(Difficulty.HARD).withGenerationMode(GenerationMode.FIRST_CLICK_SAFE), 12L);
+        game.enableUndo(Long.MAX_VALUE);
+        Board board = game.getBoard1();
+        ConstraintSolver solver = new ConstraintSolver(board);
+
+        reveal(game, 8, 8);
+        for (int i = 0; i < 10 && solver.hasSafeMove(); i++) {
+            reveal(game, solver.getSafeCells().get(0).row, solver.getSafeCells().get(0).col);
+        }
+        game.undo();
+        game.undo();
+
+        ConstraintSolver fresh = new ConstraintSolver(board);
+        assertEquals(fresh.getSafeCells(), solver.getSafeCells());
+        assertEquals(fresh.getMineCells(), solver.getMineCells());
+        fresh.detach();
+        solver.detach();
+    }
+
+    @Test
+    @DisplayName("Journals with undo and redo replay to the same game")
+    void replayWithUndo() {
+        Game game = new Game(BoardSpec.of(Difficulty.HARD), 33L);
+        game.enableUndo(Long.MAX_VALUE);
+        Random random = new Random(33);
+        for (int step = 0; step < 200 && game.getGameState() == GameState.RUNNING; step++) {
+            int action = random.nextInt(10);
+            if (action == 0) game.undo();
+            else if (action == 1) game.redo();
+            else playRandomMove(game, random);
+        }
+
+        Game replayed = JournalReplayer.replay(game.getJournal());
+        assertEquals(fingerprint(game), fingerprint(replayed));
+    }
+
+    private static boolean playRandomMove(Game game, Random random) {
+        Board board = random.nextBoolean() ? game.getBoard1() : game.getBoard2();
+        int r = random.nextInt(board.getRows());
+        int c = random.nextInt(board.getCols());
+        int depth = game.getUndoDepth();
+        Move move = game.beginMove();
+        if (board.getCell(r, c).isMine() && random.nextInt(4) != 0) {
+            move.flag(board, r, c);
+        } else {
+            move.reveal(board, r, c);
+        }
+        move.commit();
+        return game.getUndoDepth() != depth || game.getGameState() != GameState.RUNNING;
+    }
+
+    private static void reveal(Game game, int r, int c) {
+        Move move = game.beginMove();
+        move.reveal(game.getBoard1(), r, c);
+        move.commit();
+    }
+
+    private static String fingerprint(Game game) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(game.getGameState()).append(' ').append(game.getSharedScore()).append(' ')
+                .append(game.getSharedLives()).append(' ').append(game.getCurrentPlayerTurn()).append('\n');
+        for (Board board : new Board[]{game.getBoard1(), game.getBoard2()}) {
+            sb.append(board.getFlagsPlaced()).append(' ').append(board.getRevealedCount()).append(' ')
+                    .append(board.getMinesFound()).append(' ').append(board.getSafeCellsRemaining()).append('\n');
+            for (int r = 0; r < board.getRows(); r++) {
+                for (int c = 0; c < board.getCols(); c++) {
+                    Cell cell = board.getCell(r, c);
+                    sb.append(cell.getState().ordinal()).append(cell.getContent().ordinal());
+                }
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}